@@ -0,0 +1,68 @@
+package com.autocoin.global.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 JWT 검증 비용 비교
+ *
+ * legacyPerRequest: 기존 필터 흐름 (validateToken + getEmail, 매번 새 parser 생성 후 서명 2회 검증)
+ * singleParsePerRequest: parseClaims 1회로 얻은 Claims를 그대로 인증 정보 생성에 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtKeyRing keyRing = JwtKeyRing.generate();
+        jwtTokenProvider = new JwtTokenProvider(keyRing, username -> {
+            throw new IllegalStateException("stateless mode does not load users");
+        });
+        setField("tokenValidTime", 30 * 60 * 1000L);
+        setField("statelessAuth", true);
+        jwtTokenProvider.init();
+
+        key = keyRing.activeKey().publicKey();
+        token = jwtTokenProvider.createToken(1L, "bench@example.com", "bench", Collections.singletonList("ROLE_USER"));
+    }
+
+    @Benchmark
+    public String legacyPerRequest() {
+        Claims validated = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        if (validated.getExpiration() == null) {
+            throw new IllegalStateException();
+        }
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody()
+                .get("email", String.class);
+    }
+
+    @Benchmark
+    public Object singleParsePerRequest() {
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        return jwtTokenProvider.getAuthentication(claims);
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenProvider, value);
+    }
+}
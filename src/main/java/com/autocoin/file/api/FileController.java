@@ -1,17 +1,33 @@
 package com.autocoin.file.api;
 
 import com.autocoin.file.application.FileService;
+import com.autocoin.file.application.FileUploadJobService;
+import com.autocoin.file.application.UploadJob;
 import com.autocoin.file.domain.File;
+import com.autocoin.file.dto.FileCompleteRequestDto;
 import com.autocoin.file.dto.FileResponseDto;
-import com.autocoin.user.domain.User;
+import com.autocoin.file.dto.PresignedUploadRequestDto;
+import com.autocoin.file.dto.PresignedUploadResponseDto;
+import com.autocoin.file.dto.UploadJobResponseDto;
+import com.autocoin.global.dto.ResourceVersion;
+import com.autocoin.global.util.JsonArrayStreamer;
+import com.autocoin.user.domain.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,53 +36,186 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FileController {
 
+    // 클라이언트가 응답을 저장해 두고 매번 ETag로 재검증하도록 (기본값 no-store 대신)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final FileService fileService;
+    private final FileUploadJobService fileUploadJobService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 파일 업로드 API
      * 파일을 S3에 업로드합니다.
      * 
      * @param file 업로드할 파일 (필수)
-     * @param user 현재 인증된 사용자
+     * @param principal 현재 인증된 사용자
      * @return 업로드된 파일 정보
      */
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<FileResponseDto> uploadFile(
             @RequestParam("file") MultipartFile file,
-            @AuthenticationPrincipal User user) {
-        File savedFile = fileService.uploadFile(file, user);
+            @AuthenticationPrincipal UserPrincipal principal) {
+        File savedFile = fileService.uploadFile(file, principal.getId());
+        return new ResponseEntity<>(FileResponseDto.of(savedFile), HttpStatus.CREATED);
+    }
+    
+    /**
+     * 스트리밍 파일 업로드 API
+     * 요청 본문(multipart/form-data의 "file" 파트)을 임시 파일이나 메모리에 모으지 않고 읽는 대로 S3에 업로드합니다.
+     * 크기, SHA-256, 콘텐츠 타입은 업로드하면서 계산합니다. 대용량 파일은 이 API를 사용합니다.
+     * 
+     * @param request 업로드 요청 (본문을 직접 읽음)
+     * @param principal 현재 인증된 사용자
+     * @return 업로드된 파일 정보
+     */
+    @PostMapping(value = "/upload/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<FileResponseDto> uploadFileStream(
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) throws IOException {
+        File savedFile = fileService.uploadFileStream(request.getContentType(), request.getInputStream(), principal.getId());
         return new ResponseEntity<>(FileResponseDto.of(savedFile), HttpStatus.CREATED);
     }
     
+    /**
+     * 비동기 파일 업로드 API
+     * 요청 본문(multipart/form-data의 "file" 파트)을 받는 즉시 202와 작업 ID를 반환하고,
+     * 저장소 전송은 백그라운드에서 진행합니다. 진행 상태는 Location의 작업 조회 API로 확인합니다.
+     * 처리 대기 작업이 가득 차면 503(Retry-After)을 반환합니다.
+     * 
+     * @param request 업로드 요청 (본문을 직접 읽음)
+     * @param principal 현재 인증된 사용자
+     * @return 등록된 작업 정보 (202 Accepted)
+     */
+    @PostMapping(value = "/upload/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UploadJobResponseDto> uploadFileAsync(
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) throws IOException {
+        UploadJob job = fileUploadJobService.submit(request.getContentType(), request.getInputStream(), principal.getId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/files/jobs/" + job.getId()))
+                .body(UploadJobResponseDto.of(job));
+    }
+    
+    /**
+     * 비동기 업로드 작업 조회 API
+     * 작업 상태(QUEUED, UPLOADING, COMPLETED, FAILED)와 전송한 바이트 수를 조회합니다.
+     * 완료되면 fileId로 파일 정보를 조회할 수 있습니다.
+     * 
+     * @param jobId 작업 ID (필수)
+     * @param principal 현재 인증된 사용자
+     * @return 작업 상태
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<UploadJobResponseDto> getUploadJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        UploadJob job = fileUploadJobService.findJob(jobId, principal.getId());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(UploadJobResponseDto.of(job));
+    }
+    
+    /**
+     * Presigned 업로드 시작 API
+     * 클라이언트가 저장소에 직접 PUT할 수 있는 URL을 발급하고 파일 정보를 업로드 대기 상태로 저장합니다.
+     * 파일 본문은 API 서버를 거치지 않으며, 업로드 후 완료 API를 호출해야 조회할 수 있습니다.
+     * 
+     * @param requestDto 파일 이름, 콘텐츠 타입, 크기
+     * @param principal 현재 인증된 사용자
+     * @return 업로드 URL과 함께 보낼 헤더, 파일 ID
+     */
+    @PostMapping("/presigned")
+    public ResponseEntity<PresignedUploadResponseDto> createPresignedUpload(
+            @Valid @RequestBody PresignedUploadRequestDto requestDto,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return new ResponseEntity<>(fileService.createPresignedUpload(requestDto, principal.getId()), HttpStatus.CREATED);
+    }
+    
+    /**
+     * Presigned 업로드 완료 API
+     * 저장소에 올라간 객체의 크기(와 ETag)를 확인한 뒤 파일을 조회 가능한 상태로 바꿉니다.
+     * 
+     * @param fileId 파일 ID (필수)
+     * @param requestDto PUT 응답의 ETag (선택)
+     * @param principal 현재 인증된 사용자
+     * @return 업로드된 파일 정보 (객체가 없거나 일치하지 않으면 409)
+     */
+    @PostMapping("/{fileId}/complete")
+    public ResponseEntity<FileResponseDto> completeUpload(
+            @PathVariable Long fileId,
+            @RequestBody(required = false) FileCompleteRequestDto requestDto,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        String etag = requestDto != null ? requestDto.getEtag() : null;
+        File file = fileService.completeUpload(fileId, etag, principal.getId());
+        return ResponseEntity.ok(FileResponseDto.of(file));
+    }
+    
     /**
      * 파일 조회 API
      * ID로 파일 정보를 조회합니다.
+     * ETag(If-None-Match) 또는 Last-Modified(If-Modified-Since)가 일치하면 본문 없이 304를 반환합니다.
      * 
      * @param fileId 파일 ID (필수)
-     * @return 파일 정보
+     * @param webRequest 조건부 요청 헤더 확인용
+     * @return 파일 정보 (변경이 없으면 304 Not Modified)
      */
     @GetMapping("/{fileId}")
     public ResponseEntity<FileResponseDto> getFile(
-            @PathVariable Long fileId) {
+            @PathVariable Long fileId,
+            WebRequest webRequest) {
+        ResourceVersion version = fileService.findFileVersion(fileId);
+        if (webRequest.checkNotModified(ResourceVersion.etag(version), version.lastModified())) {
+            return null;
+        }
         File file = fileService.findFileById(fileId);
-        return ResponseEntity.ok(FileResponseDto.of(file));
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(FileResponseDto.of(file));
     }
     
     /**
      * 사용자 파일 목록 조회 API
      * 현재 사용자가 업로드한 파일 목록을 조회합니다.
+     * ETag(If-None-Match)가 일치하면 본문 없이 304를 반환합니다.
+     * (목록은 삭제를 수정 시각으로 알 수 없으므로 Last-Modified로는 검증하지 않습니다)
      * 
-     * @param user 현재 인증된 사용자
-     * @return 파일 정보 목록
+     * @param principal 현재 인증된 사용자
+     * @param webRequest 조건부 요청 헤더 확인용
+     * @return 파일 정보 목록 (변경이 없으면 304 Not Modified)
      */
     @GetMapping("/user")
     public ResponseEntity<List<FileResponseDto>> getUserFiles(
-            @AuthenticationPrincipal User user) {
-        List<File> files = fileService.findFilesByUser(user);
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(ResourceVersion.etag(fileService.findFileVersionsByUser(principal.getId())))) {
+            return null;
+        }
+        List<File> files = fileService.findFilesByUser(principal.getId());
         List<FileResponseDto> responseDtos = files.stream()
                 .map(FileResponseDto::of)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(responseDtos);
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(responseDtos);
+    }
+    
+    /**
+     * 내 파일 목록 스트리밍 조회 API
+     * 현재 사용자의 파일 목록을 JSON 배열로 내려받습니다.
+     * 목록 전체를 메모리에 올리지 않고 조회되는 대로 전송합니다.
+     * 
+     * @param principal 현재 인증된 사용자
+     * @return 파일 정보 JSON 배열 스트림
+     */
+    @GetMapping(value = "/user/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUserFiles(
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
+        StreamingResponseBody body = JsonArrayStreamer.<FileResponseDto>stream(objectMapper,
+                consumer -> fileService.streamFilesByUser(userId, file -> consumer.accept(FileResponseDto.of(file))));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
     
     /**
@@ -74,14 +223,14 @@ public class FileController {
      * 파일을 삭제합니다.
      * 
      * @param fileId 파일 ID (필수)
-     * @param user 현재 인증된 사용자
+     * @param principal 현재 인증된 사용자
      * @return 응답 없음 (204 No Content)
      */
     @DeleteMapping("/{fileId}")
     public ResponseEntity<Void> deleteFile(
             @PathVariable Long fileId,
-            @AuthenticationPrincipal User user) {
-        fileService.deleteFile(fileId, user);
+            @AuthenticationPrincipal UserPrincipal principal) {
+        fileService.deleteFile(fileId, principal.getId());
         return ResponseEntity.noContent().build();
     }
 }
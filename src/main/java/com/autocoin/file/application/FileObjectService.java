@@ -0,0 +1,126 @@
+package com.autocoin.file.application;
+
+import com.autocoin.file.domain.File;
+import com.autocoin.file.domain.FileObject;
+import com.autocoin.file.domain.FileObjectRepository;
+import com.autocoin.file.domain.FileRepository;
+import com.autocoin.global.util.S3Uploader;
+import com.autocoin.global.util.TransactionUtils;
+import com.autocoin.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 내용 주소 저장소 객체의 참조 수 관리
+ * 해시 행을 잠근 채 참조를 늘리거나 줄이므로, 같은 내용의 새 업로드와 마지막 참조 삭제가 겹치지 않습니다.
+ * 저장소 호출(저장/삭제)은 잠금을 잡은 트랜잭션 밖에서 합니다. 저장은 등록 전에 호출자가, 삭제는 커밋 후에 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileObjectService {
+
+    private final FileObjectRepository fileObjectRepository;
+    private final FileRepository fileRepository;
+    private final UserRepository userRepository;
+    private final S3Uploader s3Uploader;
+
+    /**
+     * 같은 내용의 객체가 등록되어 있으면 참조를 하나 늘리고 그 객체를 가리키는 파일 정보를 저장합니다.
+     * 등록된 객체가 없으면(그 사이 마지막 참조가 삭제된 경우 포함) 아무것도 저장하지 않고 empty를 반환하며,
+     * 호출자는 트랜잭션 밖에서 객체를 저장한 뒤 addReference를 호출합니다.
+     */
+    @Transactional
+    public Optional<File> addReferenceIfStored(S3Uploader.StreamedObject content, String originalFileName, Long userId) {
+        return fileObjectRepository.findBySha256ForUpdate(content.sha256())
+                .map(object -> {
+                    object.addReference();
+                    log.debug("Reusing stored object {} ({} references)", object.getObjectKey(), object.getRefCount());
+                    return saveFile(object, content, originalFileName, userId);
+                });
+    }
+
+    /**
+     * 호출자가 content.key()에 이미 저장한 객체를 새 객체로 등록하고 그 객체를 가리키는 파일 정보를 저장합니다.
+     * 그 사이 다른 요청이 같은 내용을 먼저 등록했으면 등록된 객체를 참조하고, 이번에 저장한 객체는 커밋 후 삭제합니다.
+     * 같은 내용을 동시에 처음 등록하면 한쪽은 DataIntegrityViolationException(또는 잠금 충돌)으로 실패하며, 다시 호출하면 등록된 객체를 참조합니다.
+     *
+     * 저장(PUT/복사)은 잠금과 커넥션을 잡지 않도록 이 트랜잭션 밖에서 하고, 여기서는 행 잠금과 등록만 합니다.
+     * content.key()는 업로드마다 다르므로 마지막 참조 삭제(커밋 후 객체 삭제)와 겹쳐도 새로 저장한 객체는 지워지지 않습니다.
+     */
+    @Transactional
+    public File addReference(S3Uploader.StreamedObject content, String originalFileName, Long userId) {
+        FileObject object = fileObjectRepository.findBySha256ForUpdate(content.sha256()).orElse(null);
+        if (object == null) {
+            object = fileObjectRepository.insert(FileObject.builder()
+                    .sha256(content.sha256())
+                    .objectKey(content.key())
+                    .fileUrl(content.url())
+                    .contentType(content.contentType())
+                    .fileSize(content.size())
+                    .refCount(1)
+                    .build());
+        } else {
+            object.addReference();
+            if (!object.getObjectKey().equals(content.key())) {
+                String unused = content.key();
+                TransactionUtils.afterCommit(() -> deleteObjectQuietly(unused));
+            }
+            log.debug("Reusing stored object {} ({} references)", object.getObjectKey(), object.getRefCount());
+        }
+        return saveFile(object, content, originalFileName, userId);
+    }
+
+    /**
+     * 파일의 객체 참조를 하나 줄이고, 마지막 참조였으면 등록 정보를 삭제한 뒤 커밋 후 저장소 객체를 삭제합니다.
+     * 커밋 전에 객체를 지우면 롤백 시 객체 없는 행이 남으므로 저장소 삭제는 커밋 이후에 하며, 실패하면 객체만 남습니다.
+     * 파일 정보 자체는 호출자가 삭제합니다.
+     *
+     * @return 내용 주소 객체를 참조하던 파일이면 true, 자기 객체를 단독으로 가진 기존 파일이면 false
+     */
+    @Transactional
+    public boolean removeReference(File file) {
+        if (file.getChecksumSha256() == null) {
+            return false;
+        }
+        Optional<FileObject> found = fileObjectRepository.findBySha256ForUpdate(file.getChecksumSha256())
+                .filter(object -> object.getFileUrl().equals(file.getFileUrl()));
+        if (found.isEmpty()) {
+            return false;
+        }
+
+        FileObject object = found.get();
+        if (object.removeReference() > 0) {
+            return true;
+        }
+        fileObjectRepository.delete(object);
+        String key = object.getObjectKey();
+        TransactionUtils.afterCommit(() -> deleteObjectQuietly(key));
+        return true;
+    }
+
+    private File saveFile(FileObject object, S3Uploader.StreamedObject content, String originalFileName, Long userId) {
+        String key = object.getObjectKey();
+        return fileRepository.save(File.builder()
+                .originalFileName(originalFileName)
+                .storedFileName(key.substring(key.lastIndexOf('/') + 1))
+                .fileUrl(object.getFileUrl())
+                .contentType(content.contentType())
+                .fileSize(object.getFileSize())
+                .checksumSha256(object.getSha256())
+                .user(userRepository.getReferenceById(userId))
+                .build());
+    }
+
+    private void deleteObjectQuietly(String key) {
+        try {
+            s3Uploader.deleteObject(key);
+        } catch (RuntimeException e) {
+            log.error("Error deleting file object {}", key, e);
+        }
+    }
+}
@@ -1,74 +1,346 @@
 package com.autocoin.file.application;
 
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.autocoin.file.domain.File;
 import com.autocoin.file.domain.FileRepository;
+import com.autocoin.file.domain.FileStatus;
+import com.autocoin.file.dto.PresignedUploadRequestDto;
+import com.autocoin.file.dto.PresignedUploadResponseDto;
+import com.autocoin.global.dto.ResourceVersion;
 import com.autocoin.global.exception.CustomException;
 import com.autocoin.global.exception.ErrorCode;
+import com.autocoin.global.util.MultipartStreamReader;
 import com.autocoin.global.util.S3Uploader;
-import com.autocoin.user.domain.User;
+import com.autocoin.global.util.TransactionUtils;
+import com.autocoin.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileService {
 
     private final FileRepository fileRepository;
     private final S3Uploader s3Uploader;
+    private final UserRepository userRepository;
+    private final FileObjectService fileObjectService;
     
     private static final String S3_DIRECTORY = "files";
+    private static final String FILE_PART = "file";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final int SWEEP_BATCH_SIZE = 100;
 
+    @Value("${file.upload.max-size:5GB}")
+    private DataSize maxSize;
+
+    // Presigned URL 유효 시간
+    @Value("${file.presigned.expiry:15m}")
+    private Duration presignedExpiry;
+
+    // URL 만료 후 이 시간이 더 지나도 완료되지 않은 업로드는 정리
+    @Value("${file.presigned.sweep-grace:1h}")
+    private Duration sweepGrace;
+
+    /**
+     * 내용이 같은 파일이 이미 있으면 저장소 객체를 공유합니다. (storeFile 참고)
+     * 요청 본문은 이미 임시 저장되어 있으므로 해시를 먼저 계산하고, 새 내용일 때만 저장소로 전송합니다.
+     */
+    public File uploadFile(MultipartFile multipartFile, Long userId) {
+        return storeFile(multipartFile, multipartFile.getOriginalFilename(), multipartFile.getContentType(), userId);
+    }
+    
+    /**
+     * multipart/form-data 요청 본문을 직접 읽어 "file" 파트를 S3로 스트리밍 업로드합니다.
+     * 업로드하는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 업로드가 끝난 뒤 파일 정보만 저장합니다.
+     * 저장에 실패하면 업로드한 객체를 삭제합니다.
+     *
+     * @param requestContentType 요청 Content-Type (boundary 포함)
+     * @param body 요청 본문
+     */
+    public File uploadFileStream(String requestContentType, InputStream body, Long userId) {
+        MultipartStreamReader.Part part = filePart(requestContentType, body);
+        return storeFile(part.getBody(), part.getFilename(), part.getContentType(), userId);
+    }
+
+    /**
+     * 스트림을 읽으면서 SHA-256을 계산해 내용 주소 키로 저장하고 파일 정보를 저장합니다. (트랜잭션 없음)
+     * 같은 내용의 객체가 이미 있으면 저장소에 다시 쓰지 않고 참조 수만 늘립니다.
+     * 새 내용이면 잠금 없이 이번 업로드 전용 키에 저장(PUT/복사)한 뒤 짧은 트랜잭션으로 등록하며,
+     * 등록에 실패하면 아무 파일도 가리키지 않는 저장한 객체를 삭제합니다.
+     *
+     * @param declaredContentType 클라이언트가 보낸 Content-Type (없으면 내용으로 판별)
+     */
+    public File storeFile(InputStream content, String originalFileName, String declaredContentType, Long userId) {
+        return s3Uploader.uploadContentAddressed(content, declaredContentType, S3_DIRECTORY,
+                (stored, store) -> addReference(stored, store, originalFileName, userId));
+    }
+
+    /**
+     * 다시 읽을 수 있는 내용의 저장 (storeFile(InputStream, ...)과 같은 규칙)
+     * 해시를 먼저 계산하므로 같은 내용이 이미 있으면 크기와 관계없이 저장소에 전송하지 않습니다.
+     *
+     * @param content 해시 계산과 (새 내용이면) 업로드에 각각 한 번씩 열림
+     */
+    public File storeFile(InputStreamSource content, String originalFileName, String declaredContentType, Long userId) {
+        return s3Uploader.uploadContentAddressed(content, declaredContentType, S3_DIRECTORY,
+                (stored, store) -> addReference(stored, store, originalFileName, userId));
+    }
+
+    private File addReference(S3Uploader.StreamedObject stored, Runnable store, String originalFileName, Long userId) {
+        Optional<File> shared = fileObjectService.addReferenceIfStored(stored, originalFileName, userId);
+        if (shared.isPresent()) {
+            return shared.get();
+        }
+
+        store.run();
+        try {
+            return registerStored(stored, originalFileName, userId);
+        } catch (RuntimeException e) {
+            deleteObjectQuietly(stored.key());
+            throw e;
+        }
+    }
+
+    private File registerStored(S3Uploader.StreamedObject stored, String originalFileName, Long userId) {
+        try {
+            return fileObjectService.addReference(stored, originalFileName, userId);
+        } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+            // 같은 내용을 동시에 처음 올린 다른 요청이 먼저 등록함 - 등록된 객체를 참조하도록 한 번 더 시도
+            log.debug("Concurrent first upload of {}, retrying: {}", stored.sha256(), e.getMessage());
+            return fileObjectService.addReference(stored, originalFileName, userId);
+        }
+    }
+
+    /**
+     * multipart/form-data 본문에서 "file" 파트를 찾아 본문 위치까지 읽습니다.
+     * 본문이 형식에 맞지 않거나 파일 파트가 없으면 INVALID_INPUT_VALUE
+     */
+    static MultipartStreamReader.Part filePart(String requestContentType, InputStream body) {
+        String boundary = MultipartStreamReader.boundaryOf(requestContentType);
+        if (boundary == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return findFilePart(new MultipartStreamReader(body, boundary));
+    }
+
+    private static MultipartStreamReader.Part findFilePart(MultipartStreamReader reader) {
+        try {
+            MultipartStreamReader.Part part;
+            while ((part = reader.next()) != null) {
+                if (FILE_PART.equals(part.getName()) && part.getFilename() != null && !part.getFilename().isEmpty()) {
+                    return part;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Malformed multipart upload: {}", e.getMessage());
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    
+    /**
+     * 클라이언트가 저장소에 직접 업로드할 Presigned PUT URL을 발급합니다.
+     * 파일 정보는 PENDING 상태로 저장되어 완료 전까지 조회/목록에 나타나지 않습니다.
+     * 파일 본문은 API 서버를 거치지 않습니다.
+     */
     @Transactional
-    public File uploadFile(MultipartFile multipartFile, User user) {
-        // S3에 파일 업로드
-        String fileUrl = s3Uploader.upload(multipartFile, S3_DIRECTORY);
-        
-        // 파일 정보 저장
-        File file = File.builder()
-                .originalFileName(multipartFile.getOriginalFilename())
-                .storedFileName(extractFileNameFromUrl(fileUrl))
+    public PresignedUploadResponseDto createPresignedUpload(PresignedUploadRequestDto request, Long userId) {
+        if (request.getSize() > maxSize.toBytes()) {
+            throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+        }
+        String contentType = StringUtils.hasText(request.getContentType()) ? request.getContentType() : DEFAULT_CONTENT_TYPE;
+        String key = s3Uploader.newObjectKey(request.getFileName(), S3_DIRECTORY);
+        String fileUrl = s3Uploader.urlOf(key);
+
+        File file = fileRepository.save(File.builder()
+                .originalFileName(request.getFileName())
+                .storedFileName(key.substring(S3_DIRECTORY.length() + 1)) // URL 인코딩 전 키
                 .fileUrl(fileUrl)
-                .contentType(multipartFile.getContentType())
-                .fileSize(multipartFile.getSize())
-                .user(user)
+                .contentType(contentType)
+                .fileSize(request.getSize())
+                .status(FileStatus.PENDING)
+                .user(userRepository.getReferenceById(userId))
+                .build());
+
+        Instant expiresAt = Instant.now().plus(presignedExpiry);
+        return PresignedUploadResponseDto.builder()
+                .fileId(file.getId())
+                .uploadUrl(s3Uploader.presignPut(key, contentType, expiresAt).toString())
+                .method("PUT")
+                .headers(Map.of("Content-Type", contentType))
+                .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
                 .build();
-                
-        return fileRepository.save(file);
     }
-    
+
+    /**
+     * Presigned 업로드 완료 처리
+     * 저장된 객체의 크기(와 ETag)를 확인한 뒤 파일을 업로드 완료 상태로 바꿉니다.
+     * 객체가 없거나 크기/ETag가 다르면 FILE_UPLOAD_INCOMPLETE이며, 잘못 올라간 객체는 삭제되므로 다시 업로드할 수 있습니다.
+     * 이미 완료된 파일이면 그대로 반환합니다.
+     *
+     * 저장소 호출(메타데이터 조회, 삭제, 권한 변경) 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고,
+     * 마지막에 아직 PENDING인 경우에만 조건부로 완료 처리합니다. (그 사이 정리되었으면 FILE_NOT_FOUND)
+     *
+     * @param etag 클라이언트가 PUT 응답으로 받은 ETag (null이면 확인 생략)
+     */
+    public File completeUpload(Long fileId, String etag, Long userId) {
+        File file = fileRepository.findById(fileId)
+                .orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
+        if (!file.getUser().getId().equals(userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
+        if (file.isUploaded()) {
+            return file;
+        }
+
+        String key = objectKey(file);
+        ObjectMetadata metadata = s3Uploader.findObjectMetadata(key)
+                .orElseThrow(() -> new CustomException(ErrorCode.FILE_UPLOAD_INCOMPLETE));
+        boolean sizeMatches = metadata.getContentLength() == file.getFileSize();
+        boolean etagMatches = etag == null || unquote(etag).equals(unquote(metadata.getETag()));
+        if (!sizeMatches || !etagMatches) {
+            log.warn("Uploaded object {} does not match (size {} / expected {}, etag match {})",
+                    key, metadata.getContentLength(), file.getFileSize(), etagMatches);
+            s3Uploader.deleteObject(key);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_INCOMPLETE);
+        }
+
+        s3Uploader.makePublic(key);
+        // 동시에 완료 요청이 들어와 이미 완료되었으면 그 결과를 그대로 반환
+        fileRepository.completeIfPending(fileId, metadata.getContentLength(), metadata.getContentType());
+        return fileRepository.findById(fileId)
+                .filter(File::isUploaded)
+                .orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
+    }
+
+    /**
+     * 완료되지 않은 채 방치된 Presigned 업로드 정리
+     * URL 만료 후 sweep-grace가 지난 PENDING 파일의 행과 (업로드되었다면) 객체를 삭제합니다.
+     * 행을 먼저 조건부로 삭제하므로 그 사이 완료된 업로드는 건드리지 않습니다.
+     */
+    @Scheduled(cron = "${file.presigned.sweep-cron:0 */10 * * * *}")
+    public void sweepAbandonedUploads() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(presignedExpiry).minus(sweepGrace);
+        int swept = 0;
+        List<File> abandoned;
+        do {
+            abandoned = fileRepository.findPendingCreatedBefore(cutoff, SWEEP_BATCH_SIZE);
+            for (File file : abandoned) {
+                if (!fileRepository.deleteIfPending(file.getId())) {
+                    continue;
+                }
+                try {
+                    s3Uploader.deleteObject(objectKey(file));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to delete abandoned upload object {}: {}", objectKey(file), e.getMessage());
+                }
+                swept++;
+            }
+        } while (abandoned.size() == SWEEP_BATCH_SIZE);
+        if (swept > 0) {
+            log.info("Swept {} abandoned presigned uploads", swept);
+        }
+    }
+
     @Transactional(readOnly = true)
     public File findFileById(Long fileId) {
         return fileRepository.findById(fileId)
+                .filter(File::isUploaded)
+                .orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
+    }
+    
+    /**
+     * 파일의 버전 정보만 조회합니다. (조건부 GET 검증용, 없으면 FILE_NOT_FOUND)
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion findFileVersion(Long fileId) {
+        return fileRepository.findVersionById(fileId)
                 .orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
     }
     
     @Transactional(readOnly = true)
-    public List<File> findFilesByUser(User user) {
-        return fileRepository.findByUser(user);
+    public List<File> findFilesByUser(Long userId) {
+        return fileRepository.findByUserId(userId);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<ResourceVersion> findFileVersionsByUser(Long userId) {
+        return fileRepository.findVersionsByUserId(userId);
+    }
+    
+    /**
+     * 사용자의 파일을 한 건씩 전달합니다. 트랜잭션(DB 커서)은 순회가 끝날 때까지 유지됩니다.
+     */
+    @Transactional(readOnly = true)
+    public void streamFilesByUser(Long userId, Consumer<File> action) {
+        fileRepository.streamByUserId(userId, action);
     }
     
     @Transactional
-    public void deleteFile(Long fileId, User user) {
+    public void deleteFile(Long fileId, Long userId) {
         File file = fileRepository.findById(fileId)
                 .orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
                 
         // 파일 소유자 확인
-        if (!file.getUser().getId().equals(user.getId())) {
+        if (!file.getUser().getId().equals(userId)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
         
-        // S3에서 파일 삭제
-        s3Uploader.delete(file.getFileUrl());
+        // S3에서 파일 삭제 (같은 내용의 다른 파일이 남아 있으면 객체는 유지, 삭제는 커밋 후)
+        if (!fileObjectService.removeReference(file)) {
+            String key = objectKey(file);
+            TransactionUtils.afterCommit(() -> deleteObjectQuietly(key));
+        }
         
         // DB에서 파일 정보 삭제
         fileRepository.delete(file);
     }
     
-    private String extractFileNameFromUrl(String fileUrl) {
-        return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+    private void deleteObjectQuietly(String key) {
+        try {
+            s3Uploader.deleteObject(key);
+        } catch (RuntimeException e) {
+            log.error("Error deleting file object {}", key, e);
+        }
+    }
+
+    /**
+     * 파일의 저장소 객체 키
+     * Presigned 업로드는 인코딩 전 키를 storedFileName에 저장하지만, 기존 서버 업로드는 URL의 마지막 경로(URL 인코딩됨)를
+     * 저장했으므로 키로 만든 URL이 파일 URL과 다르면 디코딩한 이름을 사용합니다.
+     */
+    private String objectKey(File file) {
+        String key = S3_DIRECTORY + "/" + file.getStoredFileName();
+        if (file.getFileUrl() == null || file.getFileUrl().equals(s3Uploader.urlOf(key))) {
+            return key;
+        }
+        return S3_DIRECTORY + "/" + UriUtils.decode(file.getStoredFileName(), StandardCharsets.UTF_8);
+    }
+
+    private static String unquote(String etag) {
+        return etag == null ? "" : etag.replace("\"", "");
     }
 }
@@ -0,0 +1,280 @@
+package com.autocoin.file.application;
+
+import com.autocoin.file.domain.File;
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import com.autocoin.global.util.MultipartStreamReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 파일 업로드
+ * 요청 본문을 로컬 임시 저장소(staging-dir)에 받는 즉시 작업 ID를 반환하고,
+ * 저장소 전송과 파일 정보 저장은 전용 작업자 스레드 풀에서 처리합니다.
+ * 따라서 요청 스레드와 클라이언트 연결은 본문을 받는 동안만 사용되며 S3 응답 지연의 영향을 받지 않습니다.
+ *
+ * 처리 중이거나 대기 중인 작업은 capacity개로 제한하며, 가득 차면 본문을 받기 전에 503(Retry-After)으로 응답합니다.
+ * 임시 저장소 사용량은 최대 capacity × file.upload.max-size입니다.
+ *
+ * 작업 상태는 이 인스턴스의 메모리에만 있으므로 상태 조회는 업로드를 받은 인스턴스로 라우팅되어야 하며,
+ * 완료/실패 후 retention 동안 조회할 수 있습니다. 재시작하면 진행 중인 작업과 상태는 사라집니다.
+ */
+@Slf4j
+@Service
+public class FileUploadJobService {
+
+    private static final String STAGED_PREFIX = "upload-";
+    private static final String STAGED_SUFFIX = ".part";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final FileService fileService;
+    private final ThreadPoolExecutor uploadExecutor;
+    private final Semaphore slots;
+    private final Cache<String, UploadJob> jobs;
+    private final Path stagingDir;
+    private final long maxSize;
+    private final long retryAfterSeconds;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public FileUploadJobService(FileService fileService,
+                                @Value("${file.upload.async.workers:4}") int workers,
+                                @Value("${file.upload.async.capacity:32}") int capacity,
+                                @Value("${file.upload.async.staging-dir:}") String stagingDir,
+                                @Value("${file.upload.async.retention:1h}") Duration retention,
+                                @Value("${file.upload.async.retry-after-seconds:5}") long retryAfterSeconds,
+                                @Value("${file.upload.max-size:5GB}") DataSize maxSize,
+                                MeterRegistry meterRegistry) {
+        this.fileService = fileService;
+        this.maxSize = maxSize.toBytes();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.slots = new Semaphore(capacity);
+        this.stagingDir = StringUtils.hasText(stagingDir)
+                ? Paths.get(stagingDir)
+                : Paths.get(System.getProperty("java.io.tmpdir"), "autocoin-upload-staging");
+        try {
+            Files.createDirectories(this.stagingDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create upload staging directory " + this.stagingDir, e);
+        }
+        deleteStaleStagedFiles(retention);
+
+        // 대기 작업 수는 slots(capacity)로 제한되므로 큐 자체는 제한하지 않음
+        this.uploadExecutor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("file-upload-"));
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+
+        this.rejectedCounter = Counter.builder("file.upload.async.rejected")
+                .description("Async uploads rejected because all slots were in use")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("file.upload.async.failed")
+                .description("Async uploads that failed after being accepted")
+                .register(meterRegistry);
+        Gauge.builder("file.upload.async.queue.size", uploadExecutor, executor -> executor.getQueue().size())
+                .description("Accepted uploads waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("file.upload.async.active", uploadExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Uploads currently being sent to storage")
+                .register(meterRegistry);
+    }
+
+    /**
+     * multipart/form-data 본문의 "file" 파트를 임시 저장소에 받고 업로드 작업을 등록합니다.
+     *
+     * @return 등록된 작업 (QUEUED)
+     */
+    public UploadJob submit(String requestContentType, InputStream body, Long userId) {
+        if (!slots.tryAcquire()) {
+            rejectedCounter.increment();
+            log.warn("Async upload capacity exhausted, rejecting request");
+            throw new CustomException(ErrorCode.SERVICE_BUSY, retryAfterSeconds);
+        }
+
+        boolean submitted = false;
+        Path stagedFile = null;
+        try {
+            MultipartStreamReader.Part part = FileService.filePart(requestContentType, body);
+            stagedFile = Files.createTempFile(stagingDir, STAGED_PREFIX, STAGED_SUFFIX);
+            long size = stage(part.getBody(), stagedFile);
+
+            UploadJob job = new UploadJob(UUID.randomUUID().toString(), userId,
+                    part.getFilename(), part.getContentType(), size, stagedFile);
+            jobs.put(job.getId(), job);
+            uploadExecutor.execute(() -> run(job));
+            submitted = true;
+            return job;
+        } catch (IOException e) {
+            log.warn("Error receiving async upload: {}", e.getMessage());
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        } finally {
+            if (!submitted) {
+                deleteQuietly(stagedFile);
+                slots.release();
+            }
+        }
+    }
+
+    /**
+     * 작업 상태 조회 (다른 사용자의 작업은 없는 것으로 처리)
+     */
+    public UploadJob findJob(String jobId, Long userId) {
+        UploadJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new CustomException(ErrorCode.UPLOAD_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void run(UploadJob job) {
+        job.started();
+        Long fileId = null;
+        ErrorCode errorCode = null;
+        try {
+            File file = fileService.storeFile(stagedContent(job), job.getOriginalFileName(), job.getContentType(), job.getUserId());
+            fileId = file.getId();
+        } catch (CustomException e) {
+            log.warn("Async upload {} failed: {}", job.getId(), e.getErrorCode());
+            errorCode = e.getErrorCode();
+        } catch (Exception e) {
+            log.error("Async upload {} failed", job.getId(), e);
+            errorCode = ErrorCode.FILE_UPLOAD_ERROR;
+        } finally {
+            deleteQuietly(job.getStagedFile());
+            slots.release();
+        }
+
+        // 슬롯을 반납한 뒤 상태를 바꿔, 완료를 확인한 클라이언트가 바로 다음 업로드를 보낼 수 있게 함
+        if (errorCode == null) {
+            job.completed(fileId);
+        } else {
+            failedCounter.increment();
+            job.failed(errorCode);
+        }
+        // 보관 기간을 완료 시점부터 다시 계산
+        jobs.put(job.getId(), job);
+    }
+
+    /**
+     * 임시 파일을 내용으로 제공 (첫 번째 읽기는 해시 계산, 두 번째는 새 내용일 때의 저장소 전송이므로 전송만 진행률에 반영)
+     */
+    private static InputStreamSource stagedContent(UploadJob job) {
+        AtomicInteger opened = new AtomicInteger();
+        return () -> {
+            InputStream in = Files.newInputStream(job.getStagedFile());
+            return opened.getAndIncrement() == 0 ? in : new ProgressInputStream(in, job);
+        };
+    }
+
+    private long stage(InputStream content, Path target) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = content.read(buffer)) >= 0) {
+                total += read;
+                if (total > maxSize) {
+                    throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 이전 실행에서 남은 임시 파일 정리 (다른 인스턴스가 같은 디렉터리를 쓰는 경우를 위해 보관 기간이 지난 것만)
+     */
+    private void deleteStaleStagedFiles(Duration retention) {
+        Instant cutoff = Instant.now().minus(retention);
+        try (DirectoryStream<Path> staged = Files.newDirectoryStream(stagingDir, STAGED_PREFIX + "*" + STAGED_SUFFIX)) {
+            for (Path path : staged) {
+                if (Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+                    deleteQuietly(path);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not clean upload staging directory {}: {}", stagingDir, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete staged upload {}: {}", path, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
+    /**
+     * 저장소로 보낸(임시 파일에서 읽은) 바이트 수를 작업 진행률에 반영
+     */
+    private static class ProgressInputStream extends FilterInputStream {
+
+        private final UploadJob job;
+
+        ProgressInputStream(InputStream in, UploadJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                job.addUploadedBytes(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                job.addUploadedBytes(read);
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.autocoin.file.application;
+
+import com.autocoin.file.domain.UploadJobStatus;
+import com.autocoin.global.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 업로드 작업 하나의 진행 상태
+ * 작업자 스레드가 갱신하고 상태 조회 요청이 읽으므로 변경되는 필드는 volatile/atomic입니다.
+ */
+@Getter
+public class UploadJob {
+
+    private final String id;
+    private final Long userId;
+    private final String originalFileName;
+    private final String contentType;
+    private final long totalBytes;
+    private final LocalDateTime createdAt;
+    private final Path stagedFile;
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private volatile UploadJobStatus status = UploadJobStatus.QUEUED;
+    private volatile Long fileId;
+    private volatile ErrorCode errorCode;
+
+    UploadJob(String id, Long userId, String originalFileName, String contentType, long totalBytes, Path stagedFile) {
+        this.id = id;
+        this.userId = userId;
+        this.originalFileName = originalFileName;
+        this.contentType = contentType;
+        this.totalBytes = totalBytes;
+        this.stagedFile = stagedFile;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public long getUploadedBytes() {
+        return uploadedBytes.get();
+    }
+
+    void addUploadedBytes(long bytes) {
+        uploadedBytes.addAndGet(bytes);
+    }
+
+    void started() {
+        status = UploadJobStatus.UPLOADING;
+    }
+
+    void completed(Long fileId) {
+        this.fileId = fileId;
+        this.status = UploadJobStatus.COMPLETED;
+    }
+
+    void failed(ErrorCode errorCode) {
+        this.errorCode = errorCode;
+        this.status = UploadJobStatus.FAILED;
+    }
+}
@@ -6,11 +6,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "files")
+@Table(name = "files", indexes = {
+        // 내 파일 목록(user_id 조건, created_at, id 순) - 스키마는 db/migration에서 관리
+        @Index(name = "idx_files_user_id_created_at_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_files_status_created_at", columnList = "status, created_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -35,6 +41,16 @@ public class File {
 
     private Long fileSize;
 
+    // 업로드하면서 계산한 내용 해시 (hex), 스트리밍 업로드 이전 파일은 null
+    @Column(length = 64)
+    private String checksumSha256;
+
+    // 컬럼은 VARCHAR(20) (V8). 지정하지 않으면 MySQL/H2에서 ENUM 타입으로 기대해 스키마 검증에 실패
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private FileStatus status;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -46,10 +62,17 @@ public class File {
 
     @PrePersist
     protected void onCreate() {
+        if (status == null) {
+            status = FileStatus.UPLOADED;
+        }
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
 
+    public boolean isUploaded() {
+        return status == FileStatus.UPLOADED;
+    }
+
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
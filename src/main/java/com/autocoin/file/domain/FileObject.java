@@ -0,0 +1,69 @@
+package com.autocoin.file.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(SHA-256) 저장소 객체
+ * 같은 내용의 파일들은 이 객체 하나를 공유하며, refCount는 이 객체를 가리키는 files 행의 수입니다.
+ */
+@Entity
+@Table(name = "file_objects")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileObject {
+
+    // 내용 해시 (hex)
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private String fileUrl;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void addReference() {
+        refCount++;
+    }
+
+    /**
+     * @return 남은 참조 수
+     */
+    public int removeReference() {
+        return --refCount;
+    }
+}
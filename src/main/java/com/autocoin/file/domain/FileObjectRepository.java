@@ -0,0 +1,11 @@
+package com.autocoin.file.domain;
+
+import java.util.Optional;
+
+public interface FileObjectRepository {
+    // 행을 잠그고 조회 (SELECT ... FOR UPDATE, 트랜잭션 안에서 사용)
+    Optional<FileObject> findBySha256ForUpdate(String sha256);
+    // 새 객체 등록 (같은 해시가 이미 있으면 DataIntegrityViolationException)
+    FileObject insert(FileObject fileObject);
+    void delete(FileObject fileObject);
+}
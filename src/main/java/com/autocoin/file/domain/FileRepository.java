@@ -1,13 +1,29 @@
 package com.autocoin.file.domain;
 
-import com.autocoin.user.domain.User;
+import com.autocoin.global.dto.ResourceVersion;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface FileRepository {
     File save(File file);
+    // 상태와 관계없이 조회 (업로드 완료 여부는 호출자가 확인)
     Optional<File> findById(Long id);
-    List<File> findByUser(User user);
+    // 이하 목록/버전/스트리밍 조회는 업로드 완료(UPLOADED) 파일만 대상
+    // 업로드 순서(created_at, id)로 반환
+    List<File> findByUserId(Long userId);
+    // (id, updatedAt)만 조회 (조건부 GET 검증용)
+    Optional<ResourceVersion> findVersionById(Long id);
+    List<ResourceVersion> findVersionsByUserId(Long userId);
+    // 사용자의 파일을 DB 커서로 읽으며 한 건씩 전달 (전달 후 영속성 컨텍스트에서 분리)
+    void streamByUserId(Long userId, Consumer<File> action);
+    // 생성 시각이 cutoff 이전인 PENDING 파일 (오래된 순, 최대 limit건)
+    List<File> findPendingCreatedBefore(LocalDateTime cutoff, int limit);
+    // 아직 PENDING인 경우에만 삭제
+    boolean deleteIfPending(Long id);
+    // 아직 PENDING인 경우에만 저장소에서 확인한 크기/타입으로 업로드 완료 처리 (contentType이 비어 있으면 기존 값 유지)
+    boolean completeIfPending(Long id, long fileSize, String contentType);
     void delete(File file);
 }
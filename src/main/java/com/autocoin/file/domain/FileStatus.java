@@ -0,0 +1,11 @@
+package com.autocoin.file.domain;
+
+/**
+ * 파일 업로드 상태
+ */
+public enum FileStatus {
+    // Presigned URL을 발급했지만 클라이언트가 아직 업로드 완료를 알리지 않음 (조회/목록에서 제외)
+    PENDING,
+    // 업로드 완료
+    UPLOADED
+}
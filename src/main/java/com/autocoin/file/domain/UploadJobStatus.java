@@ -0,0 +1,15 @@
+package com.autocoin.file.domain;
+
+/**
+ * 비동기 업로드 작업 상태
+ */
+public enum UploadJobStatus {
+    // 본문을 임시 저장소에 받아 두고 작업자를 기다리는 중
+    QUEUED,
+    // 저장소로 전송 중
+    UPLOADING,
+    // 전송과 파일 정보 저장 완료 (fileId 사용 가능)
+    COMPLETED,
+    // 실패 (errorCode 참고)
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.autocoin.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileCompleteRequestDto {
+
+    // PUT 응답의 ETag 헤더 값 (보내면 저장된 객체의 ETag와 일치하는지 확인)
+    private String etag;
+}
@@ -19,6 +19,7 @@ public class FileResponseDto {
     private String fileUrl;
     private String contentType;
     private Long fileSize;
+    private String checksumSha256;
     private UserResponseDto user;
     private LocalDateTime createdAt;
     
@@ -29,6 +30,7 @@ public class FileResponseDto {
                 .fileUrl(file.getFileUrl())
                 .contentType(file.getContentType())
                 .fileSize(file.getFileSize())
+                .checksumSha256(file.getChecksumSha256())
                 .user(UserResponseDto.of(file.getUser()))
                 .createdAt(file.getCreatedAt())
                 .build();
@@ -0,0 +1,28 @@
+package com.autocoin.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadRequestDto {
+
+    @NotBlank(message = "파일 이름은 필수 입력값입니다.")
+    @Size(max = 200, message = "파일 이름은 200자 이하여야 합니다.")
+    private String fileName;
+
+    // 생략하면 application/octet-stream (업로드 시 같은 Content-Type 헤더를 보내야 함)
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수 입력값입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long size;
+}
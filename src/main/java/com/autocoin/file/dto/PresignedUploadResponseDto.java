@@ -0,0 +1,25 @@
+package com.autocoin.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Presigned 업로드 정보
+ * 클라이언트는 uploadUrl로 headers와 함께 파일을 PUT한 뒤 완료 API를 호출합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadResponseDto {
+    private Long fileId;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,38 @@
+package com.autocoin.file.dto;
+
+import com.autocoin.file.application.UploadJob;
+import com.autocoin.file.domain.UploadJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadJobResponseDto {
+    private String jobId;
+    private UploadJobStatus status;
+    private String originalFileName;
+    private long totalBytes;
+    private long uploadedBytes;
+    private Long fileId;      // COMPLETED 일 때만
+    private String errorCode; // FAILED 일 때만
+    private LocalDateTime createdAt;
+
+    public static UploadJobResponseDto of(UploadJob job) {
+        return UploadJobResponseDto.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .originalFileName(job.getOriginalFileName())
+                .totalBytes(job.getTotalBytes())
+                .uploadedBytes(job.getUploadedBytes())
+                .fileId(job.getFileId())
+                .errorCode(job.getErrorCode() != null ? job.getErrorCode().getCode() : null)
+                .createdAt(job.getCreatedAt())
+                .build();
+    }
+}
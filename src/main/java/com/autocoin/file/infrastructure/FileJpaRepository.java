@@ -1,13 +1,64 @@
 package com.autocoin.file.infrastructure;
 
 import com.autocoin.file.domain.File;
-import com.autocoin.user.domain.User;
+import com.autocoin.file.domain.FileStatus;
+import com.autocoin.global.dto.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FileJpaRepository extends JpaRepository<File, Long> {
-    List<File> findByUser(User user);
+    // 응답 DTO에 작성자 정보가 포함되므로 user를 함께 가져와 N+1 쿼리를 방지
+    // (user_id, created_at, id) 인덱스 순서로 읽음. 조건부 GET의 ETag가 목록 순서를 반영하므로 순서 고정
+    @EntityGraph(attributePaths = "user")
+    List<File> findByUserIdAndStatusOrderByCreatedAtAscIdAsc(Long userId, FileStatus status);
+
+    // 조건부 GET 검증용 버전 정보 (파일/작성자 수정 시각)
+    @Query("select new com.autocoin.global.dto.ResourceVersion(f.id, f.updatedAt, u.updatedAt) "
+            + "from File f join f.user u where f.id = :id "
+            + "and f.status = com.autocoin.file.domain.FileStatus.UPLOADED")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    @Query("select new com.autocoin.global.dto.ResourceVersion(f.id, f.updatedAt, u.updatedAt) "
+            + "from File f join f.user u where u.id = :userId "
+            + "and f.status = com.autocoin.file.domain.FileStatus.UPLOADED order by f.createdAt, f.id")
+    List<ResourceVersion> findVersionsByUserId(@Param("userId") Long userId);
+
+    // 결과를 한 번에 읽지 않고 fetch size 단위로 가져옴 (트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select f from File f join fetch f.user where f.user.id = :userId "
+            + "and f.status = com.autocoin.file.domain.FileStatus.UPLOADED order by f.createdAt, f.id")
+    Stream<File> streamByUserId(@Param("userId") Long userId);
+
+    // (status, created_at) 인덱스로 오래된 순서대로 읽음
+    List<File> findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(FileStatus status, LocalDateTime cutoff, Pageable pageable);
+
+    // 정리하는 사이 업로드가 완료된 파일은 삭제하지 않음
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from File f where f.id = :id and f.status = com.autocoin.file.domain.FileStatus.PENDING")
+    int deleteIfPending(@Param("id") Long id);
+
+    // Presigned 업로드 완료: 그 사이 정리되었거나 이미 완료된 파일은 갱신하지 않음 (contentType이 null이면 기존 값 유지)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update File f set f.status = com.autocoin.file.domain.FileStatus.UPLOADED, f.fileSize = :fileSize, "
+            + "f.contentType = coalesce(:contentType, f.contentType), f.updatedAt = :now "
+            + "where f.id = :id and f.status = com.autocoin.file.domain.FileStatus.PENDING")
+    int completeIfPending(@Param("id") Long id, @Param("fileSize") long fileSize,
+                          @Param("contentType") String contentType, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,19 @@
+package com.autocoin.file.infrastructure;
+
+import com.autocoin.file.domain.FileObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FileObjectJpaRepository extends JpaRepository<FileObject, String> {
+    // 참조 수 변경과 마지막 참조 삭제(객체 삭제)가 같은 해시에 대해 겹치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from FileObject o where o.sha256 = :sha256")
+    Optional<FileObject> findBySha256ForUpdate(@Param("sha256") String sha256);
+}
@@ -0,0 +1,38 @@
+package com.autocoin.file.infrastructure;
+
+import com.autocoin.file.domain.FileObject;
+import com.autocoin.file.domain.FileObjectRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class FileObjectRepositoryImpl implements FileObjectRepository {
+
+    private final FileObjectJpaRepository fileObjectJpaRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<FileObject> findBySha256ForUpdate(String sha256) {
+        return fileObjectJpaRepository.findBySha256ForUpdate(sha256);
+    }
+
+    @Override
+    public FileObject insert(FileObject fileObject) {
+        // ID를 직접 지정하므로 save(merge) 대신 persist, 중복 키는 바로 알 수 있도록 flush
+        entityManager.persist(fileObject);
+        entityManager.flush();
+        return fileObject;
+    }
+
+    @Override
+    public void delete(FileObject fileObject) {
+        fileObjectJpaRepository.delete(fileObject);
+    }
+}
@@ -2,12 +2,19 @@ package com.autocoin.file.infrastructure;
 
 import com.autocoin.file.domain.File;
 import com.autocoin.file.domain.FileRepository;
-import com.autocoin.user.domain.User;
+import com.autocoin.file.domain.FileStatus;
+import com.autocoin.global.dto.ResourceVersion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -15,6 +22,9 @@ public class FileRepositoryImpl implements FileRepository {
 
     private final FileJpaRepository fileJpaRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public File save(File file) {
         return fileJpaRepository.save(file);
@@ -26,8 +36,46 @@ public class FileRepositoryImpl implements FileRepository {
     }
 
     @Override
-    public List<File> findByUser(User user) {
-        return fileJpaRepository.findByUser(user);
+    public List<File> findByUserId(Long userId) {
+        return fileJpaRepository.findByUserIdAndStatusOrderByCreatedAtAscIdAsc(userId, FileStatus.UPLOADED);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return fileJpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public List<ResourceVersion> findVersionsByUserId(Long userId) {
+        return fileJpaRepository.findVersionsByUserId(userId);
+    }
+
+    @Override
+    public void streamByUserId(Long userId, Consumer<File> action) {
+        try (Stream<File> files = fileJpaRepository.streamByUserId(userId)) {
+            files.forEach(file -> {
+                action.accept(file);
+                // 처리한 엔티티를 분리하여 영속성 컨텍스트가 결과 크기만큼 커지지 않도록 함
+                entityManager.detach(file);
+            });
+        }
+    }
+
+    @Override
+    public List<File> findPendingCreatedBefore(LocalDateTime cutoff, int limit) {
+        return fileJpaRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+                FileStatus.PENDING, cutoff, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public boolean deleteIfPending(Long id) {
+        return fileJpaRepository.deleteIfPending(id) > 0;
+    }
+
+    @Override
+    public boolean completeIfPending(Long id, long fileSize, String contentType) {
+        String type = contentType == null || contentType.isBlank() ? null : contentType;
+        return fileJpaRepository.completeIfPending(id, fileSize, type, LocalDateTime.now()) > 0;
     }
 
     @Override
@@ -0,0 +1,202 @@
+package com.autocoin.global.config;
+
+import com.autocoin.global.exception.ErrorCode;
+import com.autocoin.global.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/회원가입 요청에 IP, IP+이메일, 이메일(로그인 실패) 기준 요청 제한을 적용하는 필터
+ * 제한을 넘은 요청은 컨트롤러(DB 조회, BCrypt 연산)에 도달하기 전에 429로 거부합니다.
+ *
+ * 클라이언트 IP는 request.getRemoteAddr()입니다. 로드 밸런서 뒤에서는 server.forward-headers-strategy로
+ * 신뢰하는 프록시의 X-Forwarded-For를 반영해야 하며, 그렇지 않으면 모든 클라이언트가 하나의 버킷을 공유합니다.
+ * IP+이메일 제한은 다른 곳에서 틀린 비밀번호를 반복해도 해당 사용자의 로그인을 막지 않으며,
+ * 여러 IP에서 한 계정을 노리는 요청은 로그인 실패(401)만 세는 느슨한 이메일 기준 제한으로 막습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/v1/auth/login";
+    private static final Set<String> LIMITED_PATHS = Set.of(LOGIN_PATH, "/api/v1/auth/signup");
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final AuthRateLimiter authRateLimiter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !authRateLimiter.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || !LIMITED_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // 1. IP 기준 제한 (본문을 읽기 전에 확인)
+        String clientIp = request.getRemoteAddr();
+        long waitNanos = authRateLimiter.acquireForIp(clientIp);
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+
+        // 2. IP+이메일 기준 제한 - 본문을 한 번 읽어 두고, 컨트롤러에는 같은 본문을 다시 제공
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        String email = extractEmail(body);
+        if (email != null) {
+            waitNanos = authRateLimiter.acquireForEmail(clientIp, email);
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        // 3. 이메일(계정) 기준 제한 - 여러 IP에서 같은 계정으로 로그인에 실패한 횟수
+        boolean login = LOGIN_PATH.equals(request.getRequestURI());
+        if (login && email != null) {
+            waitNanos = authRateLimiter.checkAccount(email);
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+
+        if (login && email != null && response.getStatus() == HttpStatus.UNAUTHORIZED.value()) {
+            authRateLimiter.recordFailure(email);
+        }
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText() : null;
+        } catch (Exception e) {
+            // 본문 형식 오류는 컨트롤러의 유효성 검사에서 처리
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(errorCode.getStatus().value())
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * 이미 읽은 요청 본문을 다시 읽을 수 있도록 제공하는 래퍼
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            InputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    try {
+                        return inputStream.available() == 0;
+                    } catch (IOException e) {
+                        return true;
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문은 이미 메모리에 있으므로 바로 읽을 수 있음을 알리고, 다 읽으면 완료를 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() throws IOException {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.autocoin.global.config;
+
+import com.autocoin.global.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인/회원가입 요청 제한기
+ *
+ * - 클라이언트 IP 기준: 모든 요청
+ * - 클라이언트 IP + 이메일 기준: 한 곳에서 한 계정으로 반복하는 요청
+ * - 이메일(계정) 기준: 여러 IP에서 한 계정을 노리는 요청 (크리덴셜 스터핑)
+ *   누구나 다른 사용자의 이메일로 요청을 반복해 그 사용자의 로그인을 막을 수 없도록
+ *   로그인 실패만 소비하며 IP+이메일 제한보다 느슨하게 설정합니다.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final TokenBucketRateLimiter accountLimiter;
+
+    public AuthRateLimiter(@Value("${rate-limit.auth.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.auth.ip.capacity:20}") int ipCapacity,
+                           @Value("${rate-limit.auth.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                           @Value("${rate-limit.auth.email.capacity:5}") int emailCapacity,
+                           @Value("${rate-limit.auth.email.refill-per-minute:5}") int emailRefillPerMinute,
+                           @Value("${rate-limit.auth.account.capacity:30}") int accountCapacity,
+                           @Value("${rate-limit.auth.account.refill-per-minute:10}") int accountRefillPerMinute,
+                           @Value("${rate-limit.auth.max-keys:100000}") long maxKeys,
+                           @Value("${rate-limit.auth.idle-timeout-seconds:600}") long idleTimeoutSeconds,
+                           MeterRegistry meterRegistry) {
+        Duration idleTimeout = Duration.ofSeconds(idleTimeoutSeconds);
+        this.enabled = enabled;
+        this.ipLimiter = new TokenBucketRateLimiter("auth.ip", ipCapacity, ipRefillPerMinute,
+                maxKeys, idleTimeout, meterRegistry);
+        this.emailLimiter = new TokenBucketRateLimiter("auth.email", emailCapacity, emailRefillPerMinute,
+                maxKeys, idleTimeout, meterRegistry);
+        this.accountLimiter = new TokenBucketRateLimiter("auth.account", accountCapacity, accountRefillPerMinute,
+                maxKeys, idleTimeout, meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return 허용되면 0, 거부되면 재시도까지 남은 시간(ns)
+     */
+    public long acquireForIp(String clientIp) {
+        return enabled ? ipLimiter.tryAcquire(clientIp) : 0;
+    }
+
+    /**
+     * @return 허용되면 0, 거부되면 재시도까지 남은 시간(ns)
+     */
+    public long acquireForEmail(String clientIp, String email) {
+        return enabled ? emailLimiter.tryAcquire(clientIp + "|" + normalize(email)) : 0;
+    }
+
+    /**
+     * 계정에 남은 로그인 실패 허용 횟수가 있는지 확인합니다. (소비하지 않음)
+     *
+     * @return 허용되면 0, 거부되면 재시도까지 남은 시간(ns)
+     */
+    public long checkAccount(String email) {
+        return enabled ? accountLimiter.waitNanos(normalize(email)) : 0;
+    }
+
+    /**
+     * 로그인 실패를 계정 기준 제한에 반영합니다.
+     */
+    public void recordFailure(String email) {
+        if (enabled) {
+            accountLimiter.tryAcquire(normalize(email));
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,39 @@
+package com.autocoin.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동 시 스키마 마이그레이션 방식 (schema.migration.mode)
+ *
+ * - migrate: 적용되지 않은 마이그레이션을 실행합니다.
+ * - validate: 스키마를 변경하지 않고 적용 이력과 체크섬만 검증합니다.
+ *   적용되지 않은 마이그레이션이 있거나 적용된 파일이 수정되었으면 기동에 실패합니다.
+ *   (마이그레이션을 별도 단계에서 실행하는 배포 환경용)
+ *
+ * 엔티티와 스키마의 일치 여부는 두 방식 모두 Hibernate(ddl-auto: validate)가 확인합니다.
+ */
+@Slf4j
+@Configuration
+public class FlywayConfig {
+
+    private static final String VALIDATE = "validate";
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${schema.migration.mode:migrate}") String mode) {
+        if (VALIDATE.equalsIgnoreCase(mode)) {
+            return flyway -> {
+                log.info("Schema migration mode is validate: checking applied migrations without changing the schema");
+                flyway.validate();
+            };
+        }
+        return flyway -> {
+            int applied = flyway.migrate().migrationsExecuted;
+            log.info("Applied {} schema migrations", applied);
+        };
+    }
+}
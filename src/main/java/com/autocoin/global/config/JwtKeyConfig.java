@@ -0,0 +1,42 @@
+package com.autocoin.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(JwtSigningProperties.class)
+public class JwtKeyConfig {
+
+    // 서명 키 없이 임시 키로 시작해도 되는 프로파일
+    private static final Profiles EPHEMERAL_KEY_PROFILES = Profiles.of("local", "test");
+
+    @Bean
+    public JwtKeyRing jwtKeyRing(JwtSigningProperties properties, Environment environment) {
+        if (properties.getKeys().isEmpty()) {
+            // 재시작하면 기존 토큰이 무효가 되고 인스턴스 간에 공유되지 않으므로 운영에서는 키를 설정해야 함
+            if (!environment.acceptsProfiles(EPHEMERAL_KEY_PROFILES)) {
+                throw new IllegalStateException("No jwt.signing.keys configured; an ephemeral signing key is only allowed in local/test profiles");
+            }
+            log.warn("No jwt.signing.keys configured, generating an ephemeral ES256 signing key");
+            return JwtKeyRing.generate();
+        }
+
+        List<JwtKeyRing.SigningKey> keys = properties.getKeys().stream()
+                .map(key -> new JwtKeyRing.SigningKey(
+                        key.getKid(),
+                        StringUtils.hasText(key.getPrivateKey()) ? JwtKeyRing.parsePrivateKey(key.getPrivateKey()) : null,
+                        JwtKeyRing.parsePublicKey(key.getPublicKey())))
+                .toList();
+        JwtKeyRing keyRing = new JwtKeyRing(properties.getActiveKid(), keys);
+        log.info("Loaded {}", keyRing);
+        return keyRing;
+    }
+}
@@ -0,0 +1,138 @@
+package com.autocoin.global.config;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JWT 서명용 ES256(P-256) 키 묶음
+ *
+ * - 활성 키(active kid) 하나로 서명하고, 나머지 키는 이미 발급된 토큰 검증에만 사용
+ * - 검증 시 토큰 헤더의 kid로 불변 Map에서 바로 키를 찾음 (키 개수와 무관한 O(1) 조회)
+ * - 공개키는 JWKS(RFC 7517) 형식으로 노출하여 다른 서비스가 직접 토큰을 검증할 수 있게 함
+ *
+ * 키 교체 절차: 새 키를 검증용으로 추가 → JWKS 캐시 시간이 지난 뒤 active-kid 변경
+ *               → 이전 키로 서명된 토큰이 모두 만료된 뒤 이전 키 제거
+ */
+public class JwtKeyRing {
+
+    private static final int P256_COORDINATE_BYTES = 32;
+
+    public record SigningKey(String kid, PrivateKey privateKey, ECPublicKey publicKey) {
+    }
+
+    private final SigningKey activeKey;
+    private final Map<String, ECPublicKey> verificationKeys;
+    private final Map<String, Object> jwks;
+
+    public JwtKeyRing(String activeKid, List<SigningKey> keys) {
+        Map<String, ECPublicKey> byKid = new HashMap<>();
+        for (SigningKey key : keys) {
+            if (key.publicKey().getParams().getCurve().getField().getFieldSize() != 256) {
+                throw new IllegalArgumentException("JWT signing key '" + key.kid() + "' is not a P-256 key");
+            }
+            if (byKid.put(key.kid(), key.publicKey()) != null) {
+                throw new IllegalArgumentException("Duplicate JWT signing key id: " + key.kid());
+            }
+        }
+        this.activeKey = keys.stream()
+                .filter(key -> key.kid().equals(activeKid))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Active JWT key id not found: " + activeKid));
+        if (activeKey.privateKey() == null) {
+            throw new IllegalArgumentException("Active JWT key '" + activeKid + "' has no private key");
+        }
+        this.verificationKeys = Map.copyOf(byKid);
+        this.jwks = Map.of("keys", keys.stream().map(JwtKeyRing::toJwk).toList());
+    }
+
+    /**
+     * 임시 키 하나로 구성된 키 묶음 (키 설정이 없는 로컬/테스트 환경용)
+     */
+    public static JwtKeyRing generate() {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        String kid = UUID.randomUUID().toString();
+        return new JwtKeyRing(kid, List.of(new SigningKey(kid, keyPair.getPrivate(), (ECPublicKey) keyPair.getPublic())));
+    }
+
+    public SigningKey activeKey() {
+        return activeKey;
+    }
+
+    // 등록되지 않은 kid이면 null
+    public PublicKey verificationKey(String kid) {
+        return verificationKeys.get(kid);
+    }
+
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    /**
+     * PKCS#8 개인키 (PEM 또는 base64 DER)
+     */
+    public static PrivateKey parsePrivateKey(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid EC private key", e);
+        }
+    }
+
+    /**
+     * X.509 SubjectPublicKeyInfo 공개키 (PEM 또는 base64 DER)
+     */
+    public static ECPublicKey parsePublicKey(String encoded) {
+        try {
+            return (ECPublicKey) KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException | ClassCastException e) {
+            throw new IllegalArgumentException("Invalid EC public key", e);
+        }
+    }
+
+    private static byte[] decode(String encoded) {
+        String base64 = encoded.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static Map<String, Object> toJwk(SigningKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", key.kid());
+        jwk.put("use", "sig");
+        jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+        jwk.put("x", base64Url(key.publicKey().getW().getAffineX()));
+        jwk.put("y", base64Url(key.publicKey().getW().getAffineY()));
+        return jwk;
+    }
+
+    // 좌표는 부호 바이트 없이 32바이트 고정 길이로 인코딩 (RFC 7518 6.2.1.2)
+    private static String base64Url(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_BYTES];
+        int length = Math.min(bytes.length, P256_COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, fixed, P256_COORDINATE_BYTES - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    @Override
+    public String toString() {
+        return "JwtKeyRing{kids=" + verificationKeys.keySet() + ", active=" + activeKey.kid() + "}";
+    }
+}
@@ -0,0 +1,29 @@
+package com.autocoin.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * jwt.signing.* 설정
+ * 키는 PEM 또는 base64 DER 문자열이며, 검증 전용 키는 private-key를 비워 둡니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+    private String activeKid;
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String kid;
+        private String privateKey;
+        private String publicKey;
+    }
+}
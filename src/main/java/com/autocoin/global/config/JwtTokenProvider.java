@@ -1,12 +1,19 @@
 package com.autocoin.global.config;
 
+import com.autocoin.user.domain.Role;
+import com.autocoin.user.domain.UserPrincipal;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,76 +21,144 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
+@Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
+    // Placeholder secret that used to ship as the default; anyone can sign tokens with it
+    static final String DEFAULT_SECRET = "your-default-jwt-secret-key-should-be-very-long-and-secure";
+
+    // Only used to verify HS256 tokens issued before the ES256 key ring was introduced
+    @Value("${jwt.secret:}")
     private String secretKey;
 
+    // Off by default; enable only while HS256 tokens issued before the migration can still be valid
+    @Value("${jwt.signing.accept-legacy-hmac:false}")
+    private boolean acceptLegacyHmac;
+
     @Value("${jwt.expiration}")
     private long tokenValidTime; // Token expiration time in milliseconds
+
+    // When true, the principal is rebuilt from token claims instead of loading the user from the database
+    @Value("${jwt.stateless-auth:true}")
+    private boolean statelessAuth;
     
+    private final JwtKeyRing keyRing;
     private final UserDetailsService userDetailsService;
     
-    private Key key;
+    private Key legacyKey;
+
+    // JwtParser is immutable and thread-safe, so one instance is shared by every request
+    private JwtParser jwtParser;
 
     // Constructor with @Lazy
-    public JwtTokenProvider(@Lazy UserDetailsService userDetailsService) {
+    public JwtTokenProvider(JwtKeyRing keyRing, @Lazy UserDetailsService userDetailsService) {
+        this.keyRing = keyRing;
         this.userDetailsService = userDetailsService;
     }
 
-    // Initialize the key using the secret from application.yml
+    // Build the parser; the verification key is picked per token from its kid header
     @PostConstruct
     protected void init() {
-        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        if (acceptLegacyHmac && (!StringUtils.hasText(secretKey) || DEFAULT_SECRET.equals(secretKey))) {
+            throw new IllegalStateException("jwt.signing.accept-legacy-hmac requires a non-default jwt.secret (set JWT_SECRET)");
+        }
+        this.legacyKey = acceptLegacyHmac ? Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)) : null;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyRingResolver())
+                .build();
     }
 
     // Create JWT token with user_id, email and expiration time
     public String createToken(Long userId, String email, List<String> roles) {
+        return createToken(userId, email, null, roles);
+    }
+
+    // Create JWT token carrying every claim needed to rebuild the principal without a DB lookup
+    public String createToken(Long userId, String email, String username, List<String> roles) {
         Claims claims = Jwts.claims();
         claims.put("user_id", userId);
         claims.put("email", email);
+        if (username != null) {
+            claims.put("username", username);
+        }
         claims.put("roles", roles); // Optional: include roles if needed
         
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + tokenValidTime);
         
+        JwtKeyRing.SigningKey signingKey = keyRing.activeKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString()) // jti: 로그아웃 시 개별 토큰 폐기에 사용
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(signingKey.privateKey(), SignatureAlgorithm.ES256)
                 .compact();
     }
 
+    // Verify signature and expiry once; returns null (after logging why) when the token is not valid
+    public Claims parseClaims(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT token validation failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
     // Get authentication information from token
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getEmail(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return getAuthentication(jwtParser.parseClaimsJws(token).getBody());
+    }
+
+    // Get authentication information from already verified claims
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = statelessAuth && hasPrincipalClaims(claims)
+                ? toPrincipal(claims)
+                : userDetailsService.loadUserByUsername(claims.get("email", String.class));
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        authentication.setDetails(claims); // keep the verified claims available to later code
+        return authentication;
+    }
+
+    // Tokens issued before the username claim existed fall back to the database lookup
+    private boolean hasPrincipalClaims(Claims claims) {
+        return claims.get("user_id") != null
+                && claims.get("email") != null
+                && claims.get("username") != null
+                && claims.get("roles") instanceof List<?> roles && !roles.isEmpty();
+    }
+
+    private UserPrincipal toPrincipal(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+        return UserPrincipal.of(
+                claims.get("user_id", Long.class),
+                claims.get("email", String.class),
+                claims.get("username", String.class),
+                Role.valueOf(String.valueOf(roles.get(0))));
     }
 
     // Extract email from token
     public String getEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .get("email", String.class);
     }
 
     // Extract user_id from token
     public Long getUserId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .get("user_id", Long.class);
     }
@@ -99,15 +174,25 @@ public class JwtTokenProvider {
 
     // Validate token
     public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
+        return parseClaims(token) != null;
+    }
+
+    // Tokens without a kid are legacy HS256 tokens; unknown kids are rejected
+    private final class KeyRingResolver extends SigningKeyResolverAdapter {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId();
+            if (kid == null) {
+                if (legacyKey == null) {
+                    throw new UnsupportedJwtException("Token has no key id");
+                }
+                return legacyKey;
+            }
+            Key verificationKey = keyRing.verificationKey(kid);
+            if (verificationKey == null) {
+                throw new UnsupportedJwtException("Unknown signing key id: " + kid);
+            }
+            return verificationKey;
         }
     }
 }
@@ -1,15 +1,95 @@
 package com.autocoin.global.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
 @Configuration
 public class PasswordConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final int CALIBRATION_STRENGTH = 8;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    // 0이면 target-millis에 맞춰 실행 중인 호스트에서 비용(work factor)을 측정해 결정
+    @Value("${password.bcrypt.strength:0}")
+    private int strength;
+
+    @Value("${password.bcrypt.target-millis:250}")
+    private long targetMillis;
+
+    @Value("${password.bcrypt.min-strength:10}")
+    private int minStrength;
+
+    @Value("${password.bcrypt.max-strength:14}")
+    private int maxStrength;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int bcryptStrength = strength > 0 ? strength : calibrate();
+        log.info("Using BCrypt strength {}", bcryptStrength);
+
+        BCryptPasswordEncoder bcrypt = new CostAwareBCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, bcrypt);
+
+        // 새 해시는 {bcrypt} 접두사로 저장하고, 접두사 없는 기존 해시도 그대로 검증
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
+
+    // 낮은 비용에서 해시 시간을 측정한 뒤, 비용이 1 오를 때마다 시간이 두 배가 되는 성질로 목표 비용을 계산
+    private int calibrate() {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        probe.encode("calibration-warmup");
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long startedAt = System.nanoTime();
+            probe.encode("calibration");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startedAt);
+        }
+
+        double measuredMillis = Math.max(bestNanos / 1_000_000.0, 0.01);
+        int calibrated = CALIBRATION_STRENGTH + (int) Math.round(Math.log(targetMillis / measuredMillis) / Math.log(2));
+        int result = Math.max(minStrength, Math.min(maxStrength, calibrated));
+        log.info("BCrypt calibration: strength {} took {} ms, target {} ms -> strength {}",
+                CALIBRATION_STRENGTH, String.format("%.2f", measuredMillis), targetMillis, result);
+        return result;
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 설정과 다르면(낮든 높든) 재해싱 대상으로 판단하는 BCrypt 인코더
+     */
+    static class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+        private final int strength;
+
+        CostAwareBCryptPasswordEncoder(int strength) {
+            super(strength);
+            this.strength = strength;
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            // 형식: $2a$10$<salt+hash>
+            if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') {
+                return false;
+            }
+            try {
+                return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.autocoin.global.config;
 
+import com.autocoin.user.application.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -25,6 +26,9 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthRateLimiter authRateLimiter;
+    private final TokenRevocationService tokenRevocationService;
 
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
@@ -57,6 +61,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/auth/signup").permitAll()
                         .requestMatchers("/api/v1/auth/login").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         
                         // 인증이 필요한 엔드포인트
                         .requestMatchers("/api/v1/auth/me").authenticated()
@@ -65,7 +70,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/files/**").authenticated()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                // 로그인/회원가입 요청 제한을 인증 처리보다 먼저 적용
+                .addFilterBefore(new AuthRateLimitFilter(authRateLimiter), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache, tokenRevocationService), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,112 @@
+package com.autocoin.global.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 JWT의 Claims를 보관하는 캐시
+ * 같은 토큰으로 반복 요청하는 클라이언트는 토큰당 한 번만 서명 검증 비용을 지불합니다.
+ *
+ * - 키: 토큰 원문이 아닌 SHA-256 다이제스트
+ * - 크기 제한(jwt.cache.max-size)을 넘으면 자주 쓰이지 않는 항목부터 제거
+ * - 각 항목은 토큰의 exp 시각에 만료
+ * - 조회는 lock-free (Caffeine), 적중/미스/제거 횟수는 cache.* 메트릭으로 노출
+ *
+ * 캐시된 Claims는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              @Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 토큰을 검증하고 Claims를 반환합니다. 유효하지 않은 토큰이면 null을 반환합니다.
+     */
+    public Claims verify(String token) {
+        if (!enabled) {
+            return jwtTokenProvider.parseClaims(token);
+        }
+
+        String digest = digest(token);
+        Claims cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        // exp가 없는 토큰은 만료 시점을 알 수 없으므로 캐시하지 않음
+        if (claims != null && claims.getExpiration() != null) {
+            cache.put(digest, claims);
+        }
+        return claims;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class ExpireAtTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
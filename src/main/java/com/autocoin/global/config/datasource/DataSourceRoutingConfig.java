@@ -0,0 +1,122 @@
+package com.autocoin.global.config.datasource;
+
+import com.autocoin.user.domain.UserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 (datasource.routing.enabled=true 일 때만 적용)
+ * spring.datasource.* 는 주 DB, datasource.routing.replicas 는 읽기 복제본입니다.
+ * 비활성화하면 기존처럼 Spring Boot 기본 DataSource 하나만 사용합니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private final DataSourceRoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public DataSourceRoutingConfig(DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 주 DB 커넥션 풀 (종료 시 닫히도록 빈으로 등록하되 주입 대상에서는 제외)
+     */
+    @Bean(autowireCandidate = false)
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaPool replicaPool() {
+        List<ReplicaDataSource> replicas = properties.getReplicas().stream()
+                .map(replica -> new ReplicaDataSource(replica.getName(), replicaDataSource(replica),
+                        properties.getValidationTimeoutSeconds()))
+                .toList();
+        replicas.forEach(replica -> Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                .description("1 if the read replica is accepting connections")
+                .tag("replica", replica.getName())
+                .register(meterRegistry));
+        log.info("Routing read-only transactions to {} replica(s) using {}", replicas.size(), properties.getStrategy());
+        return new ReplicaPool(replicas, properties.getStrategy());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaPool replicaPool) {
+        ReadYourWritesTracker readYourWrites = new ReadYourWritesTracker(
+                properties.getStickyWindow(), properties.getStickyMaxUsers(), DataSourceRoutingConfig::currentUserId);
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primaryDataSource(dataSourceProperties), replicaPool, readYourWrites, meterRegistry);
+        // readOnly 여부가 정해진 뒤(첫 SQL 실행 시) 실제 커넥션을 얻도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 트랜잭션마다 커넥션을 반납하도록 설정
+     * 기본값(세션 동안 보유)에서는 open-in-view 요청 안의 첫 트랜잭션이 고른 DB를 이후 트랜잭션도 그대로 쓰게 됩니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * 복제본 상태 점검 (비정상으로 표시된 복제본도 점검해 복구되면 다시 선택 대상에 포함)
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval:10s}")
+    public void checkReplicaHealth() {
+        replicaPool().checkHealth();
+    }
+
+    private DataSource replicaDataSource(DataSourceRoutingProperties.Replica replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .driverClassName(StringUtils.hasText(replica.getDriverClassName()) ? replica.getDriverClassName() : null)
+                .build();
+        dataSource.setPoolName("replica-" + replica.getName());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    private static Object currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
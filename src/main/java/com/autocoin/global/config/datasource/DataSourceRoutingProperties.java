@@ -0,0 +1,38 @@
+package com.autocoin.global.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * datasource.routing.* 설정
+ * 읽기 전용 트랜잭션을 보낼 복제본 목록과 선택 방식, 쓰기 후 주 DB 고정 시간을 지정합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+    private ReplicaPool.Strategy strategy = ReplicaPool.Strategy.ROUND_ROBIN;
+    private Duration stickyWindow = Duration.ofSeconds(5);
+    private int stickyMaxUsers = 100000;
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+    private int validationTimeoutSeconds = 2;
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
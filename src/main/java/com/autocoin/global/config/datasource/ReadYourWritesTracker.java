@@ -0,0 +1,42 @@
+package com.autocoin.global.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 쓰기 후 읽기 일관성 (read-your-writes)
+ * 쓰기 트랜잭션을 시작한 사용자는 sticky-window 동안 읽기도 주 DB에서 처리해
+ * 복제 지연 중에 자신이 방금 쓴 내용이 보이지 않는 일을 막습니다.
+ * 기록은 인스턴스 메모리에만 있으므로, 여러 인스턴스에서는 같은 인스턴스로 라우팅된 요청에만 적용됩니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Object, Boolean> recentWriters;
+    private final Supplier<Object> currentKey;
+
+    /**
+     * @param currentKey 현재 요청의 사용자 식별자 (익명이면 null)
+     */
+    public ReadYourWritesTracker(Duration stickyWindow, int maxUsers, Supplier<Object> currentKey) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(stickyWindow)
+                .build();
+        this.currentKey = currentKey;
+    }
+
+    public void recordWrite() {
+        Object key = currentKey.get();
+        if (key != null) {
+            recentWriters.put(key, Boolean.TRUE);
+        }
+    }
+
+    public boolean isSticky() {
+        Object key = currentKey.get();
+        return key != null && recentWriters.getIfPresent(key) != null;
+    }
+}
@@ -0,0 +1,112 @@
+package com.autocoin.global.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 하나
+ * 빌려준 커넥션 수(least-connections 선택용)와 상태를 함께 관리합니다.
+ * 연결에 실패하면 즉시 제외되고, 다음 상태 점검에서 성공하면 다시 선택 대상이 됩니다.
+ */
+@Slf4j
+public class ReplicaDataSource {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+    public ReplicaDataSource(String name, DataSource dataSource, int validationTimeoutSeconds) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy.get();
+    }
+
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    /**
+     * 커넥션 획득, close() 시 사용 중 개수를 줄이도록 감싸서 반환
+     */
+    public Connection getConnection() throws SQLException {
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            markDown(e);
+            throw e;
+        }
+        activeConnections.incrementAndGet();
+        return tracked(connection);
+    }
+
+    /**
+     * 커넥션을 열어 유효성을 확인하고 상태 갱신
+     */
+    public void checkHealth() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (connection.isValid(validationTimeoutSeconds)) {
+                markUp();
+            } else {
+                markDown(null);
+            }
+        } catch (SQLException e) {
+            markDown(e);
+        }
+    }
+
+    void markDown(Exception cause) {
+        if (healthy.compareAndSet(true, false)) {
+            log.warn("Read replica '{}' marked down: {}", name, cause == null ? "validation failed" : cause.getMessage());
+        }
+    }
+
+    void markUp() {
+        if (healthy.compareAndSet(false, true)) {
+            log.info("Read replica '{}' is back up", name);
+        }
+    }
+
+    private Connection tracked(Connection target) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        activeConnections.decrementAndGet();
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaDataSource(" + name + ", healthy=" + healthy.get() + ", active=" + activeConnections.get() + ")";
+    }
+}
@@ -0,0 +1,68 @@
+package com.autocoin.global.config.datasource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 묶음과 선택 방식
+ * 정상 상태인 복제본만 선택하며, 모두 비정상이면 null을 반환해 주 DB를 사용하게 합니다.
+ */
+public class ReplicaPool {
+
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_CONNECTIONS
+    }
+
+    private final List<ReplicaDataSource> replicas;
+    private final Strategy strategy;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaPool(List<ReplicaDataSource> replicas, Strategy strategy) {
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+    }
+
+    public List<ReplicaDataSource> getReplicas() {
+        return replicas;
+    }
+
+    public ReplicaDataSource select() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        // 시작 위치를 돌려가며 훑어 비정상 복제본은 건너뛰고, 사용 중 커넥션 수가 같으면 앞쪽부터 고르게 분산
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        ReplicaDataSource selected = null;
+        for (int i = 0; i < size; i++) {
+            ReplicaDataSource candidate = replicas.get((start + i) % size);
+            if (!candidate.isHealthy()) {
+                continue;
+            }
+            if (strategy == Strategy.ROUND_ROBIN) {
+                return candidate;
+            }
+            if (selected == null || candidate.getActiveConnections() < selected.getActiveConnections()) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    public void checkHealth() {
+        replicas.forEach(ReplicaDataSource::checkHealth);
+    }
+
+    /**
+     * 종료 시 복제본 커넥션 풀 정리
+     */
+    public void close() throws Exception {
+        for (ReplicaDataSource replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.autocoin.global.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 조회)는 주 DB로 보냅니다.
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시 커넥션을 얻도록 해야 합니다.
+ * 복제본 연결에 실패하면 해당 복제본을 제외하고 주 DB로 처리합니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Counter primaryRoutes;
+    private final Counter stickyRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool,
+                                    ReadYourWritesTracker readYourWrites, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+        this.readYourWrites = readYourWrites;
+        this.primaryRoutes = route(meterRegistry, "primary");
+        this.stickyRoutes = route(meterRegistry, "sticky");
+        this.replicaRoutes = route(meterRegistry, "replica");
+        this.fallbackRoutes = route(meterRegistry, "fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.recordWrite();
+            }
+            primaryRoutes.increment();
+            return primary.getConnection();
+        }
+
+        if (readYourWrites.isSticky()) {
+            stickyRoutes.increment();
+            return primary.getConnection();
+        }
+
+        ReplicaDataSource replica = replicaPool.select();
+        if (replica != null) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("Read replica '{}' unavailable, falling back to primary", replica.getName());
+            }
+        }
+        fallbackRoutes.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Routing data source does not support explicit credentials");
+    }
+
+    private static Counter route(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("Connections handed out by target")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
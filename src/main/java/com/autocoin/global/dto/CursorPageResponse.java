@@ -0,0 +1,35 @@
+package com.autocoin.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * nextCursor를 다음 요청의 cursor 파라미터로 전달하면 이어지는 페이지를 조회합니다. 마지막 페이지이면 null입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * size + 1개까지 조회한 결과로 페이지를 만듭니다. 초과분이 있으면 다음 페이지가 있는 것으로 판단합니다.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageResponse<>(items, nextCursor, hasNext);
+    }
+
+    public <R> CursorPageResponse<R> map(Function<T, R> mapper) {
+        return new CursorPageResponse<>(items.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,63 @@
+package com.autocoin.global.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 판단에 쓰는 응답 항목의 버전 정보
+ *
+ * 응답 DTO에 작성자 정보가 포함되므로 작성자의 수정 시각도 함께 반영합니다.
+ * 본문을 만들지 않고 (id, updatedAt)만 조회한 결과로 검증값을 계산하기 위한 용도입니다.
+ */
+public record ResourceVersion(Long id, LocalDateTime updatedAt, LocalDateTime ownerUpdatedAt) {
+
+    /**
+     * 항목 목록(순서 포함)에 대한 weak ETag. 항목이 추가/삭제/수정되면 값이 바뀝니다.
+     */
+    public static String etag(List<ResourceVersion> versions) {
+        return etag("", versions);
+    }
+
+    /**
+     * 같은 항목이라도 응답 형태가 다르면(view, 페이지 크기 등) 다른 ETag가 되도록 응답 형태를 함께 반영한 weak ETag.
+     */
+    public static String etag(String variant, List<ResourceVersion> versions) {
+        MessageDigest digest = sha256();
+        digest.update((variant + "|").getBytes(StandardCharsets.UTF_8));
+        for (ResourceVersion version : versions) {
+            String entry = version.id() + ":" + version.updatedAt() + ":" + version.ownerUpdatedAt() + ";";
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] hash = digest.digest();
+        return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+    }
+
+    public static String etag(ResourceVersion version) {
+        return etag(List.of(version));
+    }
+
+    /**
+     * 가장 최근 수정 시각 (epoch millis). 알 수 없으면 -1
+     */
+    public long lastModified() {
+        LocalDateTime latest = updatedAt;
+        if (latest == null || (ownerUpdatedAt != null && ownerUpdatedAt.isAfter(latest))) {
+            latest = ownerUpdatedAt;
+        }
+        return latest == null ? -1 : latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
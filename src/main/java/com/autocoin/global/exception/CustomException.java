@@ -6,9 +6,15 @@ import lombok.Getter;
 public class CustomException extends RuntimeException {
 
     private final ErrorCode errorCode;
+    private final Long retryAfterSeconds; // Retry-After 헤더 값 (없으면 null)
 
     public CustomException(ErrorCode errorCode) {
+        this(errorCode, null);
+    }
+
+    public CustomException(ErrorCode errorCode, Long retryAfterSeconds) {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 }
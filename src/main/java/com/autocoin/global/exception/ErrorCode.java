@@ -15,20 +15,27 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "Server Error"),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "Invalid Type Value"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "C006", "Access is Denied"),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C007", "Server is Busy, Retry Later"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C008", "Too Many Requests"),
     
     // User
     EMAIL_DUPLICATION(HttpStatus.BAD_REQUEST, "U001", "Email is Duplicated"),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U002", "User Not Found"),
     LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "U003", "Login Failed: Invalid Credentials"),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "U004", "Invalid Refresh Token"),
     
     // Post
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "Post Not Found"),
     NOT_POST_OWNER(HttpStatus.FORBIDDEN, "P002", "Not the Post Owner"),
+    POST_VERSION_CONFLICT(HttpStatus.CONFLICT, "P003", "Post Was Modified Concurrently"),
     
     // File
     FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F001", "File Upload Failed"),
     FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "F002", "File Not Found"),
-    FILE_DOWNLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F003", "File Download Failed");
+    FILE_DOWNLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F003", "File Download Failed"),
+    FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "F004", "File Size Exceeds Limit"),
+    FILE_UPLOAD_INCOMPLETE(HttpStatus.CONFLICT, "F005", "Uploaded Object Missing or Does Not Match"),
+    UPLOAD_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "F006", "Upload Job Not Found");
 
     private final HttpStatus status;
     private final String code;
@@ -1,6 +1,7 @@
 package com.autocoin.global.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,8 +27,13 @@ public class GlobalExceptionHandler {
                 .message(errorCode.getMessage())
                 .timestamp(LocalDateTime.now())
                 .build();
+
+        HttpHeaders headers = new HttpHeaders();
+        if (e.getRetryAfterSeconds() != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        }
                 
-        return new ResponseEntity<>(response, errorCode.getStatus());
+        return new ResponseEntity<>(response, headers, errorCode.getStatus());
     }
     
     @ExceptionHandler(MethodArgumentNotValidException.class)
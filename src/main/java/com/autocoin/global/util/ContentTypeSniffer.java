@@ -0,0 +1,63 @@
+package com.autocoin.global.util;
+
+/**
+ * 파일 앞부분의 시그니처로 콘텐츠 타입 판별
+ * 클라이언트가 보낸 Content-Type이 없거나 application/octet-stream일 때 보완하는 용도로,
+ * 시그니처를 모르면 클라이언트 값(없으면 application/octet-stream)을 그대로 사용합니다.
+ */
+public final class ContentTypeSniffer {
+
+    public static final String OCTET_STREAM = "application/octet-stream";
+
+    /** 판별에 필요한 최대 바이트 수 */
+    public static final int SNIFF_LENGTH = 16;
+
+    private ContentTypeSniffer() {
+    }
+
+    public static String detect(byte[] head, int length, String declared) {
+        boolean generic = declared == null || declared.isBlank() || declared.toLowerCase().startsWith(OCTET_STREAM);
+        if (!generic) {
+            return declared;
+        }
+        String sniffed = sniff(head, length);
+        return sniffed != null ? sniffed : OCTET_STREAM;
+    }
+
+    private static String sniff(byte[] b, int n) {
+        if (startsWith(b, n, 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n')) {
+            return "image/png";
+        }
+        if (startsWith(b, n, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(b, n, 'G', 'I', 'F', '8')) {
+            return "image/gif";
+        }
+        if (n >= 12 && startsWith(b, n, 'R', 'I', 'F', 'F') && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P') {
+            return "image/webp";
+        }
+        if (startsWith(b, n, '%', 'P', 'D', 'F', '-')) {
+            return "application/pdf";
+        }
+        if (startsWith(b, n, 'P', 'K', 0x03, 0x04)) {
+            return "application/zip";
+        }
+        if (startsWith(b, n, 0x1F, 0x8B)) {
+            return "application/gzip";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] b, int n, int... signature) {
+        if (n < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((b[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
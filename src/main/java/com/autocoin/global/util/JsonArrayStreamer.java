@@ -0,0 +1,44 @@
+package com.autocoin.global.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 항목을 하나씩 받아 JSON 배열로 바로 써 나가는 응답 본문
+ * 전체 목록이나 직렬화된 문자열을 메모리에 만들지 않으므로 결과 크기와 관계없이
+ * 요청당 힙 사용량이 일정하고, 첫 항목이 조회되는 즉시 응답이 시작됩니다.
+ */
+public final class JsonArrayStreamer {
+
+    private JsonArrayStreamer() {
+    }
+
+    /**
+     * @param producer 전달받은 Consumer에 항목을 순서대로 넘겨주는 함수 (응답 스레드에서 실행)
+     */
+    public static <T> StreamingResponseBody stream(ObjectMapper objectMapper, Consumer<Consumer<T>> producer) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                producer.accept(item -> write(generator, item));
+                generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private static void write(JsonGenerator generator, Object item) {
+        try {
+            generator.writeObject(item);
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등: 예외로 DB 커서 순회를 중단
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.autocoin.global.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * multipart/form-data 요청 본문을 앞에서부터 순서대로 읽는 파서
+ * 파트 본문을 InputStream으로 그대로 넘겨주므로 파일 전체를 메모리나 임시 파일에 올리지 않습니다.
+ * 사용하는 메모리는 고정 크기 버퍼 하나뿐입니다.
+ *
+ * 파트는 next()로 순서대로 얻고, 다음 파트로 넘어가면 이전 파트의 남은 본문은 버려집니다.
+ * 스레드 안전하지 않습니다.
+ */
+public class MultipartStreamReader {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_HEADER_BYTES = 8 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final InputStream in;
+    private final byte[] delimiter; // CRLF + "--" + boundary
+    private final byte[] buffer;
+    private int pos;
+    private int limit;
+    private boolean eof;
+
+    private PartInputStream current;
+    private boolean finished;
+
+    public MultipartStreamReader(InputStream in, String boundary) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[BUFFER_SIZE];
+        // 첫 경계는 앞에 CRLF가 없을 수 있으므로 CRLF로 시작하는 것처럼 처리 (그 앞은 프리앰블로 버림)
+        System.arraycopy(CRLF, 0, buffer, 0, CRLF.length);
+        this.limit = CRLF.length;
+        this.current = new PartInputStream();
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 값을 추출합니다.
+     *
+     * @return multipart/form-data가 아니거나 boundary가 없으면 null
+     */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            return null;
+        }
+        String boundary = parameter(contentType, "boundary");
+        return boundary == null || boundary.isEmpty() || boundary.length() > 70 ? null : boundary;
+    }
+
+    /**
+     * 다음 파트로 이동합니다.
+     *
+     * @return 다음 파트, 마지막 경계에 도달하면 null
+     * @throws IOException 본문이 형식에 맞지 않거나 경계 전에 끝난 경우
+     */
+    public Part next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        current.skipToDelimiter();
+        pos += delimiter.length;
+
+        require(2);
+        if (buffer[pos] == '-' && buffer[pos + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        // 경계 뒤 공백(transport padding) 허용
+        while (true) {
+            require(1);
+            if (buffer[pos] != ' ' && buffer[pos] != '\t') {
+                break;
+            }
+            pos++;
+        }
+        require(2);
+        if (buffer[pos] != '\r' || buffer[pos + 1] != '\n') {
+            throw new IOException("Malformed multipart boundary line");
+        }
+        pos += 2;
+
+        Part part = readHeaders();
+        current = new PartInputStream();
+        part.body = current;
+        return part;
+    }
+
+    private Part readHeaders() throws IOException {
+        Part part = new Part();
+        int headerBytes = 0;
+        while (true) {
+            int lineEnd = indexOf(CRLF, pos);
+            while (lineEnd < 0) {
+                if (limit - pos >= MAX_HEADER_BYTES || !fill()) {
+                    throw new IOException("Multipart header too long or truncated");
+                }
+                lineEnd = indexOf(CRLF, pos);
+            }
+            String line = new String(buffer, pos, lineEnd - pos, StandardCharsets.UTF_8);
+            headerBytes += lineEnd - pos + 2;
+            pos = lineEnd + 2;
+            if (headerBytes > MAX_HEADER_BYTES) {
+                throw new IOException("Multipart headers too long");
+            }
+            if (line.isEmpty()) {
+                return part;
+            }
+
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String name = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (name.equals("content-disposition")) {
+                part.name = parameter(value, "name");
+                part.filename = baseName(parameter(value, "filename"));
+            } else if (name.equals("content-type")) {
+                part.contentType = value;
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 최소 n바이트가 있도록 채움
+     */
+    private void require(int n) throws IOException {
+        while (limit - pos < n) {
+            if (!fill()) {
+                throw new EOFException("Unexpected end of multipart body");
+            }
+        }
+    }
+
+    /**
+     * 읽은 부분을 버퍼 앞으로 당기고 입력을 한 번 더 읽음
+     *
+     * @return 새로 읽은 데이터가 있으면 true
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        if (limit == buffer.length) {
+            return false;
+        }
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private int indexOf(byte[] pattern, int from) {
+        int last = limit - pattern.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (buffer[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String parameter(String headerValue, String name) {
+        for (String token : splitParameters(headerValue)) {
+            int eq = token.indexOf('=');
+            if (eq > 0 && token.substring(0, eq).trim().equalsIgnoreCase(name)) {
+                String value = token.substring(eq + 1).trim();
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1).replace("\\\"", "\"").replace("\\\\", "\\");
+                }
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> splitParameters(String headerValue) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < headerValue.length(); i++) {
+            char c = headerValue.charAt(i);
+            if (c == '"' && (i == 0 || headerValue.charAt(i - 1) != '\\')) {
+                quoted = !quoted;
+            }
+            if (c == ';' && !quoted) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            } else {
+                token.append(c);
+            }
+        }
+        tokens.add(token.toString());
+        return tokens;
+    }
+
+    /**
+     * 일부 브라우저가 보내는 경로를 제거한 파일 이름
+     */
+    private static String baseName(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        int slash = Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\'));
+        return filename.substring(slash + 1);
+    }
+
+    /**
+     * 파트 하나의 헤더 정보와 본문 스트림
+     */
+    public static class Part {
+        private String name;
+        private String filename;
+        private String contentType;
+        private InputStream body;
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 파일 파트가 아니면 null
+         */
+        public String getFilename() {
+            return filename;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * 다음 경계 직전까지의 본문 (next() 호출 후에는 사용할 수 없음)
+         */
+        public InputStream getBody() {
+            return body;
+        }
+    }
+
+    /**
+     * 다음 경계 직전에서 끝나는 본문 스트림
+     * 버퍼 끝에 경계의 앞부분이 걸쳐 있을 수 있으므로 경계 길이만큼은 남겨 두고 넘겨줍니다.
+     */
+    private class PartInputStream extends InputStream {
+
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = read(one, 0, 1);
+            return n < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (current != this || done) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int found = indexOf(delimiter, pos);
+                int available = found >= 0 ? found - pos : limit - pos - (delimiter.length - 1);
+                if (available > 0) {
+                    int n = Math.min(len, available);
+                    System.arraycopy(buffer, pos, b, off, n);
+                    pos += n;
+                    return n;
+                }
+                if (found >= 0) {
+                    done = true;
+                    return -1;
+                }
+                if (!fill()) {
+                    throw new EOFException("Multipart body ended before closing boundary");
+                }
+            }
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+
+        private void skipToDelimiter() throws IOException {
+            byte[] skip = new byte[BUFFER_SIZE];
+            while (read(skip, 0, skip.length) >= 0) {
+                // 남은 본문 버림
+            }
+        }
+    }
+}
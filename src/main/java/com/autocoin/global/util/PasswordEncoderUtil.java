@@ -1,20 +1,136 @@
 package com.autocoin.global.util;
 
-import lombok.RequiredArgsConstructor;
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해싱/검증 유틸리티
+ * BCrypt 연산은 CPU 비용이 크므로 Tomcat 요청 스레드가 아닌 전용 스레드 풀에서 실행합니다.
+ * 대기열이 가득 차거나 timeout-millis 안에 끝나지 않으면 503(Retry-After)으로 응답하여
+ * 로그인/회원가입 폭주가 다른 API의 처리 스레드를 점유하지 않도록 합니다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class PasswordEncoderUtil {
 
     private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final long retryAfterSeconds;
+    private final long timeoutMillis;
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordEncoderUtil(PasswordEncoder passwordEncoder,
+                               @Value("${password.hashing.threads:0}") int threads,
+                               @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                               @Value("${password.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                               @Value("${password.hashing.timeout-millis:5000}") long timeoutMillis,
+                               MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.timeoutMillis = timeoutMillis;
+
+        // 0 이하이면 CPU 코어의 절반을 사용하여 나머지 코어는 일반 요청 처리에 남겨둠
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashingExecutor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("password.hash.duration")
+                .description("BCrypt encode/matches execution time")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hash.wait")
+                .description("Time spent in the hashing queue before execution")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("Hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("password.hash.timeout")
+                .description("Hashing requests abandoned after waiting longer than the timeout")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", hashingExecutor, executor -> executor.getQueue().size())
+                .description("Hashing requests waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", hashingExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing requests currently executing")
+                .register(meterRegistry);
+    }
 
     public String encode(String password) {
-        return passwordEncoder.encode(password);
+        return execute(() -> passwordEncoder.encode(password));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 형식이나 비용이 현재 설정과 다른지 확인 (해싱 없이 문자열만 검사)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new CustomException(ErrorCode.SERVICE_BUSY, retryAfterSeconds);
+        }
+
+        try {
+            // 대기 + 실행 시간 상한 (요청 스레드가 대기열 정체에 묶여 있지 않도록)
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            log.warn("Password hashing did not finish within {} ms", timeoutMillis);
+            throw new CustomException(ErrorCode.SERVICE_BUSY, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
     }
 }
@@ -0,0 +1,330 @@
+package com.autocoin.global.util;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * S3 멀티파트 업로드 엔진
+ * 입력 스트림을 파트 크기만큼씩 읽어 전용 스레드 풀에서 여러 파트를 동시에 업로드합니다.
+ * 연결 하나로 순서대로 보내는 대신 여러 연결을 사용해 대역폭을 채우고,
+ * 실패한 파트만 백오프 후 다시 보내므로 일시적인 오류에도 처음부터 다시 올리지 않습니다.
+ *
+ * 파트 버퍼는 모든 업로드가 공유하는 풀(max-buffers개)에서 빌려 쓰며, 풀이 비면 읽기를 멈추고 기다립니다.
+ * 따라서 동시 업로드 수와 관계없이 버퍼 메모리는 max-buffers × part-size를 넘지 않습니다.
+ * buffer-timeout-millis 안에 버퍼를 얻지 못하면 503(Retry-After)으로 응답하여
+ * 업로드 폭주 시 요청 스레드가 풀 대기에 무기한 묶이지 않도록 합니다.
+ * 한 파트라도 최종 실패하면 남은 파트를 보내지 않고 멀티파트 업로드를 중단(abort)합니다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    // S3 멀티파트 업로드의 파트 최소 크기 5MB, 최대 파트 수 10,000
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final int MAX_PARTS = 10_000;
+
+    private final AmazonS3 amazonS3;
+    private final int partSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long bufferTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor partExecutor;
+    private final Semaphore bufferPermits;
+    private final ConcurrentLinkedQueue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+    private final Counter retryCounter;
+    private final Counter abortCounter;
+    private final Counter bufferTimeoutCounter;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Value("${file.upload.part-size:8MB}") DataSize partSize,
+                               @Value("${file.upload.concurrency:4}") int concurrency,
+                               @Value("${file.upload.max-buffers:0}") int maxBuffers,
+                               @Value("${file.upload.part-max-attempts:3}") int maxAttempts,
+                               @Value("${file.upload.retry-backoff-ms:200}") long backoffMillis,
+                               @Value("${file.upload.buffer-timeout-millis:5000}") long bufferTimeoutMillis,
+                               @Value("${file.upload.retry-after-seconds:1}") long retryAfterSeconds,
+                               MeterRegistry meterRegistry) {
+        this.amazonS3 = amazonS3;
+        this.partSize = (int) Math.max(MIN_PART_SIZE, Math.min(partSize.toBytes(), Integer.MAX_VALUE - 8));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.bufferTimeoutMillis = bufferTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        // 대기 작업 수는 버퍼 수로 제한되므로 큐 자체는 제한하지 않음
+        int threads = Math.max(1, concurrency);
+        this.partExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("s3-part-upload-"));
+        // 0 이하이면 모든 스레드가 업로드하는 동안 다음 파트를 읽을 여유 버퍼 2개
+        this.bufferPermits = new Semaphore(maxBuffers > 0 ? maxBuffers : threads + 2);
+
+        this.retryCounter = Counter.builder("file.upload.part.retries")
+                .description("Multipart upload parts retried after a transient failure")
+                .register(meterRegistry);
+        this.abortCounter = Counter.builder("file.upload.aborted")
+                .description("Multipart uploads aborted after a failure")
+                .register(meterRegistry);
+        this.bufferTimeoutCounter = Counter.builder("file.upload.buffers.timeout")
+                .description("Uploads rejected after waiting longer than the timeout for a part buffer")
+                .register(meterRegistry);
+        Gauge.builder("file.upload.parts.active", partExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Parts currently being uploaded")
+                .register(meterRegistry);
+        Gauge.builder("file.upload.buffers.available", bufferPermits, Semaphore::availablePermits)
+                .description("Part buffers that can be borrowed without waiting")
+                .register(meterRegistry);
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * 파트 버퍼 대여 (풀이 비어 있으면 buffer-timeout-millis까지 반환을 기다리고, 그래도 없으면 SERVICE_BUSY)
+     */
+    public byte[] acquireBuffer() {
+        try {
+            if (!bufferPermits.tryAcquire(bufferTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                bufferTimeoutCounter.increment();
+                log.warn("No upload part buffer became available within {} ms", bufferTimeoutMillis);
+                throw new CustomException(ErrorCode.SERVICE_BUSY, retryAfterSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+        byte[] buffer = freeBuffers.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    public void releaseBuffer(byte[] buffer) {
+        freeBuffers.offer(buffer);
+        bufferPermits.release();
+    }
+
+    /**
+     * 스트림을 끝까지 멀티파트로 업로드합니다.
+     * 첫 파트는 호출자가 이미 읽은 버퍼를 그대로 사용하며, 이 버퍼는 성공/실패와 관계없이 이 메서드가 반납합니다.
+     *
+     * @param firstPart acquireBuffer()로 빌려 파트 크기만큼 채운 버퍼
+     * @param digest 업로드하는 내용으로 갱신할 해시
+     * @return 업로드한 전체 바이트 수
+     */
+    public long upload(String bucket, String key, ObjectMetadata metadata, InputStream inputStream,
+                       byte[] firstPart, int firstLength, MessageDigest digest, long maxSize) {
+        String uploadId;
+        try {
+            uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)
+                    .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+        } catch (RuntimeException e) {
+            releaseBuffer(firstPart);
+            throw e;
+        }
+
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<PartETag>> parts = new ArrayList<>();
+        byte[] buffer = firstPart;
+        int length = firstLength;
+        long total = 0;
+        try {
+            while (true) {
+                total += length;
+                if (total > maxSize || parts.size() == MAX_PARTS) {
+                    throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+                }
+                digest.update(buffer, 0, length);
+                parts.add(submitPart(bucket, key, uploadId, parts.size() + 1, buffer, length, failed));
+                buffer = null;
+
+                if (length < partSize || failed.get()) {
+                    break;
+                }
+                buffer = acquireBuffer();
+                length = readPart(inputStream, buffer);
+                if (length == 0) {
+                    break;
+                }
+            }
+
+            List<PartETag> partETags = new ArrayList<>(parts.size());
+            for (Future<PartETag> part : parts) {
+                partETags.add(await(part));
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+            return total;
+        } catch (RuntimeException e) {
+            // 대기 중인 파트는 실행되지 않고 건너뛰며, 전송 중인 파트가 끝난 뒤 중단해야 조각이 남지 않음
+            failed.set(true);
+            parts.forEach(this::awaitQuietly);
+            abort(bucket, key, uploadId);
+            if (e instanceof CustomException) {
+                throw e;
+            }
+            log.error("Error uploading multipart object {}", key, e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        } finally {
+            if (buffer != null) {
+                releaseBuffer(buffer);
+            }
+        }
+    }
+
+    /**
+     * 버퍼가 가득 찰 때까지(또는 스트림 끝까지) 읽음
+     */
+    static int readPart(InputStream inputStream, byte[] buffer) {
+        return readPart(inputStream, buffer, 0);
+    }
+
+    /**
+     * offset부터 버퍼가 가득 찰 때까지(또는 스트림 끝까지) 읽고 읽은 바이트 수를 반환
+     */
+    static int readPart(InputStream inputStream, byte[] buffer, int offset) {
+        try {
+            return inputStream.readNBytes(buffer, offset, buffer.length - offset);
+        } catch (IOException e) {
+            log.warn("Error reading upload stream: {}", e.getMessage());
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
+    private Future<PartETag> submitPart(String bucket, String key, String uploadId, int partNumber,
+                                        byte[] buffer, int length, AtomicBoolean failed) {
+        try {
+            return partExecutor.submit(() -> {
+                try {
+                    if (failed.get()) {
+                        throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+                    }
+                    return uploadPart(bucket, key, uploadId, partNumber, buffer, length, failed);
+                } catch (RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                } finally {
+                    releaseBuffer(buffer);
+                }
+            });
+        } catch (RuntimeException e) {
+            releaseBuffer(buffer);
+            throw e;
+        }
+    }
+
+    private PartETag uploadPart(String bucket, String key, String uploadId, int partNumber,
+                                byte[] buffer, int length, AtomicBoolean failed) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length)).getPartETag();
+            } catch (AmazonClientException e) {
+                if (attempt >= maxAttempts || !isRetryable(e) || failed.get()) {
+                    throw e;
+                }
+                retryCounter.increment();
+                long delay = backoffMillis << (attempt - 1);
+                delay += ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+                log.warn("Retrying part {} of {} in {}ms (attempt {}/{}): {}",
+                        partNumber, key, delay, attempt + 1, maxAttempts, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 네트워크 오류, 5xx, 429(요청 제한)만 재시도
+     */
+    private static boolean isRetryable(AmazonClientException e) {
+        if (e instanceof AmazonServiceException serviceException) {
+            int status = serviceException.getStatusCode();
+            return status >= 500 || status == 429;
+        }
+        return e.isRetryable();
+    }
+
+    private static PartETag await(Future<PartETag> part) {
+        try {
+            return part.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Part upload failed", e.getCause());
+        }
+    }
+
+    private void awaitQuietly(Future<PartETag> part) {
+        try {
+            part.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+            // 실패 원인은 이미 처리됨
+        }
+    }
+
+    private void abort(String bucket, String key, String uploadId) {
+        abortCounter.increment();
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (Exception e) {
+            log.error("Error aborting multipart upload {}", uploadId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partExecutor.shutdown();
+    }
+}
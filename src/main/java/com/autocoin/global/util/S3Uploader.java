@@ -1,8 +1,12 @@
 package com.autocoin.global.util;
 
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.autocoin.global.exception.CustomException;
@@ -10,11 +14,21 @@ import com.autocoin.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.util.unit.DataSize;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.net.URL;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -23,42 +37,254 @@ import java.util.UUID;
 public class S3Uploader {
 
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader multipartUploader;
+
+    // 해시를 알기 전에 업로드하는 큰 파일의 임시 위치 (dirName 아래)
+    private static final String STAGING_DIRECTORY = "staging";
+    // 파트 버퍼 풀을 쓰기 전에 읽는 첫 조각 크기 (이보다 작은 파일은 풀을 기다리지 않음)
+    private static final int FIRST_CHUNK_SIZE = 64 * 1024;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    public String upload(MultipartFile multipartFile, String dirName) {
-        String fileName = createFileName(multipartFile.getOriginalFilename(), dirName);
+    @Value("${file.upload.max-size:5GB}")
+    private DataSize maxSize;
+
+    /**
+     * 스트리밍 업로드 결과 (크기, SHA-256, 콘텐츠 타입은 업로드하면서 계산, key/url은 해시와 업로드마다 다른 접미사로 만든 내용 주소)
+     */
+    public record StreamedObject(String url, String key, long size, String sha256, String contentType) {
+    }
+
+    /**
+     * 내용 해시가 정해진 뒤 호출되어, 같은 내용의 객체를 재사용할지 새로 저장할지 결정합니다.
+     */
+    @FunctionalInterface
+    public interface ContentPublisher<T> {
+        /**
+         * @param content 계산된 크기/해시/콘텐츠 타입과 내용 주소 키
+         * @param store 실행하면 객체를 content.key()에 저장 (같은 내용의 객체를 재사용하면 실행하지 않음)
+         */
+        T publish(StreamedObject content, Runnable store);
+    }
+
+    /**
+     * 한 번만 읽을 수 있는 스트림을 디스크에 쓰지 않고 읽으면서 SHA-256을 계산해 내용 주소 키(dirName/해시-UUID)에 저장합니다.
+     * 저장 여부는 publisher가 결정하므로 같은 내용이 이미 있으면 저장소에 다시 쓰지 않습니다.
+     *
+     * 첫 파트 크기보다 작은 파일은 메모리에서 해시를 먼저 계산하므로 같은 내용이면 PUT 자체를 생략합니다.
+     * 첫 조각(FIRST_CHUNK_SIZE)은 요청마다 따로 할당한 작은 버퍼로 읽고, 본문이 그보다 클 때만 공유 파트 버퍼를 빌립니다.
+     * 공유 버퍼에 읽은 내용은 복사한 뒤 반납하고 publisher를 호출하므로, 참조 등록을 기다리는 동안 풀을 점유하지 않습니다.
+     * 큰 파일은 해시를 알기 전에 전송해야 하므로 임시 키로 멀티파트 업로드한 뒤,
+     * 새 내용일 때만 서버 측 복사로 내용 주소 키에 저장하고 임시 객체는 삭제합니다.
+     * 다시 읽을 수 있는 내용이면 해시를 먼저 계산하는 InputStreamSource 버전을 사용합니다.
+     *
+     * @param inputStream 파일 본문 (호출자가 닫음)
+     * @param declaredContentType 클라이언트가 보낸 Content-Type (없거나 octet-stream이면 내용으로 판별)
+     */
+    public <T> T uploadContentAddressed(InputStream inputStream, String declaredContentType, String dirName,
+                                        ContentPublisher<T> publisher) {
+        MessageDigest digest = sha256();
+
+        byte[] firstChunk = new byte[FIRST_CHUNK_SIZE];
+        int read = S3MultipartUploader.readPart(inputStream, firstChunk);
+        String contentType = ContentTypeSniffer.detect(firstChunk, read, declaredContentType);
+        if (read < firstChunk.length) {
+            return publishInMemory(firstChunk, read, contentType, dirName, digest, publisher);
+        }
+
+        byte[] firstPart = multipartUploader.acquireBuffer();
+        try {
+            System.arraycopy(firstChunk, 0, firstPart, 0, read);
+            read += S3MultipartUploader.readPart(inputStream, firstPart, read);
+        } catch (RuntimeException e) {
+            multipartUploader.releaseBuffer(firstPart);
+            throw e;
+        }
+
+        if (read < firstPart.length) {
+            byte[] content = Arrays.copyOf(firstPart, read);
+            multipartUploader.releaseBuffer(firstPart);
+            return publishInMemory(content, content.length, contentType, dirName, digest, publisher);
+        }
+
+        String stagingKey = dirName + "/" + STAGING_DIRECTORY + "/" + UUID.randomUUID();
         ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentLength(multipartFile.getSize());
-        objectMetadata.setContentType(multipartFile.getContentType());
+        objectMetadata.setContentType(contentType);
+        long size = multipartUploader.upload(bucket, stagingKey, objectMetadata, inputStream,
+                firstPart, read, digest, maxSize.toBytes());
+        try {
+            StreamedObject content = contentObject(dirName, digest, size, contentType);
+            return publisher.publish(content, () -> amazonS3.copyObject(
+                    new CopyObjectRequest(bucket, stagingKey, bucket, content.key())
+                            .withCannedAccessControlList(CannedAccessControlList.PublicRead)));
+        } finally {
+            try {
+                deleteObject(stagingKey);
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete staged upload object {}: {}", stagingKey, e.getMessage());
+            }
+        }
+    }
 
-        try (InputStream inputStream = multipartFile.getInputStream()) {
-            amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
+    /**
+     * 다시 읽을 수 있는 내용(임시 저장된 multipart 파일, 로컬 임시 파일)을 내용 주소 키에 저장합니다.
+     * 먼저 끝까지 읽어 크기/해시/콘텐츠 타입을 계산하고 publisher를 호출하며,
+     * 새 내용일 때만(store 실행 시) 다시 열어 내용 주소 키로 바로 업로드합니다.
+     * 따라서 같은 내용이면 크기와 관계없이 저장소에 전송하지 않고, 임시 키와 복사도 필요 없습니다.
+     *
+     * @param source 해시 계산에 한 번, 새 내용이면 업로드에 한 번 더 열림 (각 스트림은 여기서 닫음)
+     * @param declaredContentType 클라이언트가 보낸 Content-Type (없거나 octet-stream이면 내용으로 판별)
+     */
+    public <T> T uploadContentAddressed(InputStreamSource source, String declaredContentType, String dirName,
+                                        ContentPublisher<T> publisher) {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[FIRST_CHUNK_SIZE];
+        long size = 0;
+        String contentType;
+        try (InputStream inputStream = source.getInputStream()) {
+            int read = S3MultipartUploader.readPart(inputStream, buffer);
+            contentType = ContentTypeSniffer.detect(buffer, read, declaredContentType);
+            while (read > 0) {
+                size += read;
+                checkSize(size);
+                digest.update(buffer, 0, read);
+                read = S3MultipartUploader.readPart(inputStream, buffer);
+            }
         } catch (IOException e) {
-            log.error("Error uploading file", e);
+            log.error("Error reading upload content", e);
             throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
         }
 
-        return amazonS3.getUrl(bucket, fileName).toString();
+        StreamedObject content = contentObject(dirName, digest, size, contentType);
+        return publisher.publish(content, () -> storeFrom(source, content));
     }
 
-    public void delete(String fileUrl) {
+    /**
+     * 클라이언트가 직접 업로드할 새 객체 키 (dirName/UUID_파일이름)
+     */
+    public String newObjectKey(String originalFileName, String dirName) {
+        return createFileName(originalFileName, dirName);
+    }
+
+    public String urlOf(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    /**
+     * 객체를 직접 업로드할 수 있는 Presigned PUT URL (서명에 Content-Type이 포함되므로 업로드 시 같은 값을 보내야 함)
+     */
+    public URL presignPut(String key, String contentType, Instant expiresAt) {
+        return amazonS3.generatePresignedUrl(new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType));
+    }
+
+    /**
+     * 저장된 객체의 메타데이터 (크기, ETag, 콘텐츠 타입), 객체가 없으면 empty
+     */
+    public Optional<ObjectMetadata> findObjectMetadata(String key) {
         try {
-            String fileName = extractFileNameFromUrl(fileUrl);
-            amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
-        } catch (Exception e) {
-            log.error("Error deleting file", e);
-            throw new CustomException(ErrorCode.FILE_DOWNLOAD_ERROR);
+            return Optional.of(amazonS3.getObjectMetadata(bucket, key));
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
         }
     }
 
-    private String createFileName(String originalFileName, String dirName) {
-        return dirName + "/" + UUID.randomUUID() + "_" + originalFileName;
+    /**
+     * 직접 업로드된 객체를 서버 업로드와 같은 공개 읽기 권한으로 변경
+     */
+    public void makePublic(String key) {
+        amazonS3.setObjectAcl(bucket, key, CannedAccessControlList.PublicRead);
+    }
+
+    public void deleteObject(String key) {
+        amazonS3.deleteObject(new DeleteObjectRequest(bucket, key));
+    }
+
+    private <T> T publishInMemory(byte[] buffer, int length, String contentType, String dirName,
+                                  MessageDigest digest, ContentPublisher<T> publisher) {
+        checkSize(length);
+        digest.update(buffer, 0, length);
+        StreamedObject content = contentObject(dirName, digest, length, contentType);
+        return publisher.publish(content, () -> putObject(content.key(), buffer, length, contentType));
+    }
+
+    /**
+     * 해시를 계산한 내용을 다시 읽어 content.key()에 업로드 (그 사이 내용이 바뀌었으면 업로드한 객체를 지우고 실패)
+     */
+    private void storeFrom(InputStreamSource source, StreamedObject content) {
+        MessageDigest digest = sha256();
+        long size;
+        try (InputStream inputStream = source.getInputStream()) {
+            byte[] firstPart = multipartUploader.acquireBuffer();
+            int read;
+            try {
+                read = S3MultipartUploader.readPart(inputStream, firstPart);
+            } catch (RuntimeException e) {
+                multipartUploader.releaseBuffer(firstPart);
+                throw e;
+            }
+
+            if (read < firstPart.length) {
+                try {
+                    digest.update(firstPart, 0, read);
+                    putObject(content.key(), firstPart, read, content.contentType());
+                } finally {
+                    multipartUploader.releaseBuffer(firstPart);
+                }
+                size = read;
+            } else {
+                ObjectMetadata objectMetadata = new ObjectMetadata();
+                objectMetadata.setContentType(content.contentType());
+                size = multipartUploader.upload(bucket, content.key(), objectMetadata, inputStream,
+                        firstPart, read, digest, maxSize.toBytes());
+            }
+        } catch (IOException e) {
+            log.error("Error reading upload content", e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+
+        if (size != content.size() || !HexFormat.of().formatHex(digest.digest()).equals(content.sha256())) {
+            log.warn("Upload content changed between hashing and upload of {}", content.key());
+            deleteObject(content.key());
+            throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
+    private void putObject(String key, byte[] content, int length, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(length);
+        objectMetadata.setContentType(contentType);
+        amazonS3.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(content, 0, length), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    private StreamedObject contentObject(String dirName, MessageDigest digest, long size, String contentType) {
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        // 같은 내용이라도 새로 저장할 때마다 다른 키를 써서, 이전 객체의 삭제(마지막 참조 삭제 후)가 새 객체를 지우지 않도록 함
+        String key = dirName + "/" + sha256 + "-" + UUID.randomUUID();
+        return new StreamedObject(amazonS3.getUrl(bucket, key).toString(), key, size, sha256, contentType);
+    }
+
+    private void checkSize(long size) {
+        if (size > maxSize.toBytes()) {
+            throw new CustomException(ErrorCode.FILE_TOO_LARGE);
+        }
     }
 
-    private String extractFileNameFromUrl(String fileUrl) {
-        return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String createFileName(String originalFileName, String dirName) {
+        return dirName + "/" + UUID.randomUUID() + "_" + originalFileName;
     }
 }
@@ -0,0 +1,77 @@
+package com.autocoin.global.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저 (한국어 + 영어)
+ *
+ * - NFKC 정규화 후 소문자로 변환
+ * - 라틴 문자/숫자 등은 공백·기호 기준 단어 단위 (한 글자 단어는 숫자만 유지)
+ * - 한글·한자·가나는 형태소 분석 없이 2-gram 단위 (한 글자로 된 구간은 그대로)
+ *   조사가 붙은 "검색엔진을"도 "검색엔진"의 2-gram(검색, 색엔, 엔진)을 모두 포함하므로
+ *   질의의 모든 토큰을 포함하는 문서를 찾으면 어절 내부 검색이 됩니다.
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int length = normalized.length();
+        int start = -1;
+        boolean cjkRun = false;
+        for (int i = 0; i < length; ) {
+            int codePoint = normalized.codePointAt(i);
+            boolean letterOrDigit = Character.isLetterOrDigit(codePoint);
+            boolean cjk = letterOrDigit && isCjk(codePoint);
+            // 구간 종료: 구분자를 만나거나 문자 종류(CJK / 그 외)가 바뀔 때
+            if (start >= 0 && (!letterOrDigit || cjk != cjkRun)) {
+                emit(normalized.substring(start, i), cjkRun, tokens);
+                start = -1;
+            }
+            if (letterOrDigit && start < 0) {
+                start = i;
+                cjkRun = cjk;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            emit(normalized.substring(start), cjkRun, tokens);
+        }
+        return tokens;
+    }
+
+    private static void emit(String run, boolean cjk, List<String> tokens) {
+        if (!cjk) {
+            if (run.codePointCount(0, run.length()) > 1 || Character.isDigit(run.codePointAt(0))) {
+                tokens.add(run);
+            }
+            return;
+        }
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
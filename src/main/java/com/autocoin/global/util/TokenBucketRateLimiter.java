@@ -0,0 +1,103 @@
+package com.autocoin.global.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(IP, 이메일 등)별 토큰 버킷 제한기
+ *
+ * 버킷 상태를 GCRA(Generic Cell Rate Algorithm) 방식의 "다음 토큰 도착 예정 시각" 하나로 표현하여
+ * 키마다 AtomicLong 하나만 사용하고, CAS로 갱신하므로 락이 없습니다.
+ * 키 수는 maxKeys로 제한되며, idleTimeout 동안 사용되지 않은 버킷은 제거됩니다.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final long emissionIntervalNanos; // 토큰 1개가 보충되는 간격
+    private final long burstToleranceNanos;   // 한 번에 허용되는 추가 요청(capacity - 1)만큼의 여유
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+
+    public TokenBucketRateLimiter(String name, int capacity, int refillPerMinute, long maxKeys,
+                                  Duration idleTimeout, MeterRegistry meterRegistry) {
+        this(name, capacity, refillPerMinute, maxKeys, idleTimeout, meterRegistry, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(String name, int capacity, int refillPerMinute, long maxKeys,
+                           Duration idleTimeout, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+        }
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+
+        this.allowedCounter = Counter.builder("rate.limit.requests")
+                .tag("limiter", name)
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("rate.limit.requests")
+                .tag("limiter", name)
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        Gauge.builder("rate.limit.keys", buckets, Cache::estimatedSize)
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 1개를 소비합니다.
+     *
+     * @return 허용되면 0, 거부되면 다음 토큰을 사용할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(UNSET));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrival.get();
+            long base = (current == UNSET || current - now < 0) ? now : current;
+
+            long waitNanos = base - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                rejectedCounter.increment();
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, base + emissionIntervalNanos)) {
+                allowedCounter.increment();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 토큰을 소비하지 않고 지금 요청하면 거부될지 확인합니다. (실패한 요청만 소비하는 제한용)
+     *
+     * @return 토큰이 남아 있으면 0, 없으면 다음 토큰을 사용할 수 있을 때까지 남은 시간(ns)
+     */
+    public long waitNanos(String key) {
+        AtomicLong theoreticalArrival = buckets.getIfPresent(key);
+        if (theoreticalArrival == null) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        long current = theoreticalArrival.get();
+        long base = (current == UNSET || current - now < 0) ? now : current;
+        // 소비 시 base + 간격이 되므로 다음 소비가 허용되려면 base - now <= burstTolerance
+        return Math.max(0, base - now - burstToleranceNanos);
+    }
+}
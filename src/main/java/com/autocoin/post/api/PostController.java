@@ -1,10 +1,17 @@
 package com.autocoin.post.api;
 
+import com.autocoin.global.dto.CursorPageResponse;
+import com.autocoin.global.dto.ResourceVersion;
+import com.autocoin.global.util.JsonArrayStreamer;
 import com.autocoin.post.application.PostService;
 import com.autocoin.post.domain.Post;
 import com.autocoin.post.dto.PostRequestDto;
 import com.autocoin.post.dto.PostResponseDto;
-import com.autocoin.user.domain.User;
+import com.autocoin.post.dto.PostSearchResponseDto;
+import com.autocoin.post.dto.PostSummaryResponseDto;
+import com.autocoin.post.dto.PostView;
+import com.autocoin.user.domain.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,13 +22,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Tag(name = "게시글", description = "게시글 CRUD API")
 @RestController
@@ -30,7 +40,11 @@ import java.util.stream.Collectors;
 @SecurityRequirement(name = "bearerAuth") // 모든 API에 JWT 인증 필요
 public class PostController {
 
+    // 클라이언트가 응답을 저장해 두고 매번 ETag로 재검증하도록 (기본값 no-store 대신)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final PostService postService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "게시글 작성", description = "새 게시글을 작성합니다.")
     @ApiResponses(value = {
@@ -43,58 +57,124 @@ public class PostController {
     @PostMapping
     public ResponseEntity<PostResponseDto> createPost(
             @Valid @RequestBody PostRequestDto requestDto,
-            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
-        Post post = postService.createPost(requestDto, user);
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal principal) {
+        Post post = postService.createPost(requestDto, principal.getId());
         return new ResponseEntity<>(PostResponseDto.of(post), HttpStatus.CREATED);
     }
     
-    @Operation(summary = "게시글 조회", description = "ID로 게시글을 조회합니다.")
+    @Operation(summary = "게시글 조회", description = "ID로 게시글을 조회합니다. ETag(If-None-Match) 또는 Last-Modified(If-Modified-Since)가 일치하면 본문 없이 304를 반환합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "게시글 조회 성공",
                 content = @Content(schema = @Schema(implementation = PostResponseDto.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
         @ApiResponse(responseCode = "401", description = "인증 실패"),
         @ApiResponse(responseCode = "404", description = "게시글 없음"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponseDto> getPost(
-            @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId) {
-        Post post = postService.findPostById(postId);
-        return ResponseEntity.ok(PostResponseDto.of(post));
+            @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        PostResponseDto post = postService.getPost(postId);
+        ResourceVersion version = post.resourceVersion();
+        if (webRequest.checkNotModified(ResourceVersion.etag(version), version.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(post);
     }
     
-    @Operation(summary = "모든 게시글 조회", description = "모든 게시글 목록을 조회합니다.")
+    @Operation(summary = "모든 게시글 조회", description = "게시글 목록을 최신순으로 조회합니다. view=summary이면 본문 대신 요약(excerpt)만 반환합니다. 응답의 nextCursor로 다음 페이지를 조회합니다. ETag(If-None-Match)가 일치하면 본문 없이 304를 반환합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 view 값"),
         @ApiResponse(responseCode = "401", description = "인증 실패"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
-    public ResponseEntity<List<PostResponseDto>> getAllPosts() {
-        List<Post> posts = postService.findAllPosts();
-        List<PostResponseDto> responseDtos = posts.stream()
-                .map(PostResponseDto::of)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responseDtos);
+    public ResponseEntity<CursorPageResponse<?>> getAllPosts(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer size,
+            @Parameter(description = "응답 형태: full(본문 포함, 기본) 또는 summary(제목과 본문 요약)") @RequestParam(required = false) String view,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        PostView postView = PostView.from(view);
+        // 목록은 삭제를 수정 시각으로 알 수 없으므로 ETag로만 검증
+        String variant = listVariant(postView, cursor, size, null);
+        if (webRequest.checkNotModified(ResourceVersion.etag(variant, postService.findPostVersions(cursor, size)))) {
+            return null;
+        }
+        CursorPageResponse<?> page = postView == PostView.SUMMARY
+                ? postService.findPostSummaries(cursor, size).map(PostSummaryResponseDto::of)
+                : postService.findPosts(cursor, size).map(PostResponseDto::of);
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(page);
     }
     
-    @Operation(summary = "내 게시글 조회", description = "현재 사용자가 작성한 게시글 목록을 조회합니다.")
+    @Operation(summary = "내 게시글 조회", description = "현재 사용자가 작성한 게시글 목록을 최신순으로 조회합니다. view=summary이면 본문 대신 요약(excerpt)만 반환합니다. 응답의 nextCursor로 다음 페이지를 조회합니다. ETag(If-None-Match)가 일치하면 본문 없이 304를 반환합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "내 게시글 목록 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 view 값"),
         @ApiResponse(responseCode = "401", description = "인증 실패"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/user")
-    public ResponseEntity<List<PostResponseDto>> getUserPosts(
-            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
-        List<Post> posts = postService.findPostsByUser(user);
-        List<PostResponseDto> responseDtos = posts.stream()
-                .map(PostResponseDto::of)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responseDtos);
+    public ResponseEntity<CursorPageResponse<?>> getUserPosts(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer size,
+            @Parameter(description = "응답 형태: full(본문 포함, 기본) 또는 summary(제목과 본문 요약)") @RequestParam(required = false) String view,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal principal,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        PostView postView = PostView.from(view);
+        Long userId = principal.getId();
+        String variant = listVariant(postView, cursor, size, userId);
+        if (webRequest.checkNotModified(
+                ResourceVersion.etag(variant, postService.findPostVersionsByUser(userId, cursor, size)))) {
+            return null;
+        }
+        CursorPageResponse<?> page = postView == PostView.SUMMARY
+                ? postService.findPostSummariesByUser(userId, cursor, size).map(PostSummaryResponseDto::of)
+                : postService.findPostsByUser(userId, cursor, size).map(PostResponseDto::of);
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(page);
+    }
+    
+    @Operation(summary = "게시글 검색", description = "제목과 본문에 검색어의 모든 단어가 포함된 게시글을 관련도순으로 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "게시글 검색 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<PostSearchResponseDto>> searchPosts(
+            @Parameter(description = "검색어", required = true) @RequestParam String q,
+            @Parameter(description = "최대 결과 수 (기본 20, 최대 50)") @RequestParam(required = false) Integer size) {
+        List<PostSearchResponseDto> results = postService.searchPosts(q, size).stream()
+                .map(PostSearchResponseDto::of)
+                .toList();
+        return ResponseEntity.ok(results);
     }
     
-    @Operation(summary = "게시글 수정", description = "게시글을 수정합니다.")
+    @Operation(summary = "모든 게시글 스트리밍 조회", description = "모든 게시글을 최신순으로 JSON 배열로 내려받습니다. 목록 전체를 메모리에 올리지 않고 조회되는 대로 전송합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "게시글 목록 전송 시작"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPosts() {
+        StreamingResponseBody body = JsonArrayStreamer.<PostResponseDto>stream(objectMapper,
+                consumer -> postService.streamAllPosts(post -> consumer.accept(PostResponseDto.of(post))));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
+    @Operation(summary = "게시글 수정", description = "게시글을 수정합니다. 요청에 조회했던 version을 넣으면 그 사이 다른 수정이 있었을 때 409를 반환합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "게시글 수정 성공",
                 content = @Content(schema = @Schema(implementation = PostResponseDto.class))),
@@ -102,14 +182,15 @@ public class PostController {
         @ApiResponse(responseCode = "401", description = "인증 실패"),
         @ApiResponse(responseCode = "403", description = "권한 없음 - 게시글 작성자가 아님"),
         @ApiResponse(responseCode = "404", description = "게시글 없음"),
+        @ApiResponse(responseCode = "409", description = "버전 불일치 - 다른 요청이 먼저 수정함"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @PutMapping("/{postId}")
     public ResponseEntity<PostResponseDto> updatePost(
             @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
             @Valid @RequestBody PostRequestDto requestDto,
-            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
-        Post post = postService.updatePost(postId, requestDto, user);
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal principal) {
+        Post post = postService.updatePost(postId, requestDto, principal.getId());
         return ResponseEntity.ok(PostResponseDto.of(post));
     }
     
@@ -124,8 +205,13 @@ public class PostController {
     @DeleteMapping("/{postId}")
     public ResponseEntity<Void> deletePost(
             @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
-            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
-        postService.deletePost(postId, user);
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal principal) {
+        postService.deletePost(postId, principal.getId());
         return ResponseEntity.noContent().build();
     }
+
+    // 같은 게시글 버전이라도 본문 포함 여부, 페이지 크기 등이 다르면 응답이 다르므로 ETag에 함께 반영
+    private static String listVariant(PostView view, String cursor, Integer size, Long userId) {
+        return view + ":" + cursor + ":" + size + ":" + userId;
+    }
 }
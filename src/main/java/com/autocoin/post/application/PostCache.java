@@ -0,0 +1,54 @@
+package com.autocoin.post.application;
+
+import com.autocoin.post.dto.PostResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 단건 조회 캐시 (id -> PostResponseDto)
+ *
+ * - 같은 키의 캐시 미스가 동시에 몰려도 DB 조회는 한 번만 실행되고 나머지 요청은 그 결과를 기다립니다.
+ * - PostResponseDto는 변경 메소드가 없어 복사 없이 공유합니다.
+ * - 수정/삭제 시 PostService가 즉시, 그리고 커밋 후 한 번 더 무효화합니다.
+ *   (커밋 전에 다른 요청이 이전 값을 다시 올려두는 경우 대비)
+ * - 적중률과 로드 시간은 cache.* 지표(cache=posts.by-id)로 내보냅니다.
+ */
+@Component
+public class PostCache {
+
+    private final Cache<Long, PostResponseDto> postsById;
+
+    public PostCache(@Value("${post.cache.max-size:10000}") long maxSize,
+                     @Value("${post.cache.ttl-seconds:60}") long ttlSeconds,
+                     MeterRegistry meterRegistry) {
+        this.postsById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, postsById, "posts.by-id");
+    }
+
+    /**
+     * 캐시에 없으면 loader로 읽어 저장합니다. loader가 예외를 던지면 저장하지 않고 그대로 전달합니다.
+     */
+    public PostResponseDto get(Long postId, Function<Long, PostResponseDto> loader) {
+        return postsById.get(postId, loader);
+    }
+
+    public void evict(Long postId) {
+        postsById.invalidate(postId);
+    }
+
+    public CacheStats stats() {
+        return postsById.stats();
+    }
+}
@@ -1,77 +1,186 @@
 package com.autocoin.post.application;
 
+import com.autocoin.global.dto.CursorPageResponse;
+import com.autocoin.global.dto.ResourceVersion;
 import com.autocoin.global.exception.CustomException;
 import com.autocoin.global.exception.ErrorCode;
+import com.autocoin.global.util.TransactionUtils;
 import com.autocoin.post.domain.Post;
+import com.autocoin.post.domain.PostCursor;
 import com.autocoin.post.domain.PostRepository;
+import com.autocoin.post.domain.PostSearchDocument;
+import com.autocoin.post.domain.PostSearchHit;
+import com.autocoin.post.domain.PostSearchIndex;
+import com.autocoin.post.domain.PostSummary;
 import com.autocoin.post.dto.PostRequestDto;
-import com.autocoin.user.domain.User;
+import com.autocoin.post.dto.PostResponseDto;
+import com.autocoin.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
     private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostCache postCache;
+
+    @Value("${post.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${post.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${post.search.max-size:50}")
+    private int maxSearchSize;
 
     @Transactional
-    public Post createPost(PostRequestDto requestDto, User user) {
+    public Post createPost(PostRequestDto requestDto, Long userId) {
         Post post = Post.builder()
                 .title(requestDto.getTitle())
                 .content(requestDto.getContent())
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .build();
                 
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        indexAfterCommit(saved);
+        return saved;
+    }
+    
+    /**
+     * 게시글 단건 조회 (캐시 우선). 캐시 적중 시 트랜잭션과 DB 커넥션을 사용하지 않도록 트랜잭션을 걸지 않습니다.
+     */
+    public PostResponseDto getPost(Long postId) {
+        return postCache.get(postId, id -> postRepository.findById(id)
+                .map(PostResponseDto::of)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND)));
     }
     
     @Transactional(readOnly = true)
-    public Post findPostById(Long postId) {
-        return postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+    public CursorPageResponse<Post> findPosts(String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        // 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<Post> posts = postRepository.findPage(PostCursor.decode(cursor), pageSize + 1);
+        return CursorPageResponse.of(posts, pageSize, post -> PostCursor.of(post).encode());
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Post> findPostsByUser(Long userId, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        List<Post> posts = postRepository.findPageByUserId(userId, PostCursor.decode(cursor), pageSize + 1);
+        return CursorPageResponse.of(posts, pageSize, post -> PostCursor.of(post).encode());
+    }
+    
+    /**
+     * findPosts와 같은 페이지를 요약(content 제외)으로 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostSummary> findPostSummaries(String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        List<PostSummary> summaries = postRepository.findSummaryPage(PostCursor.decode(cursor), pageSize + 1);
+        return CursorPageResponse.of(summaries, pageSize, summary -> PostCursor.of(summary).encode());
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostSummary> findPostSummariesByUser(Long userId, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        List<PostSummary> summaries = postRepository.findSummaryPageByUserId(userId, PostCursor.decode(cursor), pageSize + 1);
+        return CursorPageResponse.of(summaries, pageSize, summary -> PostCursor.of(summary).encode());
+    }
+    
+    /**
+     * findPosts와 같은 페이지(다음 페이지 판단용 1개 포함)의 버전 정보. 조건부 GET 검증에 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<ResourceVersion> findPostVersions(String cursor, Integer size) {
+        return postRepository.findPageVersions(PostCursor.decode(cursor), pageSize(size) + 1);
     }
     
     @Transactional(readOnly = true)
-    public List<Post> findAllPosts() {
-        return postRepository.findAllByOrderByCreatedAtDesc();
+    public List<ResourceVersion> findPostVersionsByUser(Long userId, String cursor, Integer size) {
+        return postRepository.findPageVersionsByUserId(userId, PostCursor.decode(cursor), pageSize(size) + 1);
     }
     
+    /**
+     * 전체 게시글을 최신순으로 한 건씩 전달합니다. 트랜잭션(DB 커서)은 순회가 끝날 때까지 유지됩니다.
+     */
     @Transactional(readOnly = true)
-    public List<Post> findPostsByUser(User user) {
-        return postRepository.findByUserOrderByCreatedAtDesc(user);
+    public void streamAllPosts(Consumer<Post> action) {
+        postRepository.streamAll(action);
     }
     
+    /**
+     * 작성자 확인과 수정을 UPDATE 한 문장으로 처리합니다. (version을 보내면 버전이 같을 때만 수정)
+     * 변경된 행이 없을 때만 원인을 조회하여 404 / 403 / 409로 구분합니다.
+     */
     @Transactional
-    public Post updatePost(Long postId, PostRequestDto requestDto, User user) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-                
-        // 작성자 확인
-        if (!post.getUser().getId().equals(user.getId())) {
-            throw new CustomException(ErrorCode.NOT_POST_OWNER);
+    public Post updatePost(Long postId, PostRequestDto requestDto, Long userId) {
+        int updated = postRepository.updateIfOwner(postId, userId, requestDto.getVersion(),
+                requestDto.getTitle(), requestDto.getContent());
+        if (updated == 0) {
+            throw rejection(postId, userId);
         }
+        evictCache(postId);
         
-        // 게시글 수정
-        post.update(requestDto.getTitle(), requestDto.getContent());
-        
-        return postRepository.save(post);
+        // 응답과 검색 색인에 쓸 수정 결과 (작성자 포함 1회 조회)
+        Post saved = postRepository.findById(postId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        indexAfterCommit(saved);
+        return saved;
     }
     
+    /**
+     * 작성자 확인과 삭제를 DELETE 한 문장으로 처리합니다. 삭제된 행이 없을 때만 원인을 조회합니다.
+     */
     @Transactional
-    public void deletePost(Long postId, User user) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-                
-        // 작성자 확인
-        if (!post.getUser().getId().equals(user.getId())) {
-            throw new CustomException(ErrorCode.NOT_POST_OWNER);
+    public void deletePost(Long postId, Long userId) {
+        if (postRepository.deleteIfOwner(postId, userId) == 0) {
+            throw rejection(postId, userId);
         }
-        
-        // 게시글 삭제
-        postRepository.delete(post);
+        evictCache(postId);
+        TransactionUtils.afterCommit(() -> postSearchIndex.remove(postId));
+    }
+    
+    /**
+     * 제목/본문 검색 (메모리 색인만 사용하며 DB를 조회하지 않음)
+     */
+    public List<PostSearchHit> searchPosts(String query, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxSearchSize));
+        return postSearchIndex.search(query, limit);
+    }
+    
+    // 조건부 수정/삭제가 실패한 원인: 게시글 없음 -> 작성자 아님 -> (남은 경우) 버전 불일치
+    private CustomException rejection(Long postId, Long userId) {
+        return postRepository.findOwnership(postId)
+                .map(ownership -> ownership.userId().equals(userId)
+                        ? new CustomException(ErrorCode.POST_VERSION_CONFLICT)
+                        : new CustomException(ErrorCode.NOT_POST_OWNER))
+                .orElseGet(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+    }
+    
+    // 커밋 전에 다른 요청이 이전 값을 다시 캐시에 올릴 수 있으므로 커밋 후에도 한 번 더 무효화
+    private void evictCache(Long postId) {
+        postCache.evict(postId);
+        TransactionUtils.afterCommit(() -> postCache.evict(postId));
+    }
+    
+    // 롤백된 변경이 검색에 보이지 않도록 커밋 이후에 반영 (스냅샷은 영속성 컨텍스트가 열려 있을 때 생성)
+    private void indexAfterCommit(Post post) {
+        PostSearchDocument document = PostSearchDocument.of(post);
+        TransactionUtils.afterCommit(() -> postSearchIndex.index(document));
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(size, maxPageSize));
     }
 }
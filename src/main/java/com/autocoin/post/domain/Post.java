@@ -10,13 +10,20 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 목록 정렬(created_at DESC, id DESC)과 keyset 조건을 인덱스만으로 처리
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_posts_user_id_created_at_id", columnList = "user_id, created_at, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Post {
 
+    // 목록 요약 응답에 쓰는 본문 앞부분 길이 (공백 정리 후, 말줄임표 제외)
+    public static final int EXCERPT_LENGTH = 150;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,9 +31,15 @@ public class Post {
     @Column(nullable = false)
     private String title;
 
+    // 스키마 검증: MySQL은 컬럼 타입 이름(TEXT), H2는 TEXT를 CLOB으로 만들므로 타입 코드(CLOB)로 일치
+    @Lob
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 목록 조회가 TEXT 컬럼을 읽지 않도록 저장 시점에 만들어 두는 본문 요약
+    @Column(length = 200)
+    private String excerpt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -36,8 +49,14 @@ public class Post {
 
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금 버전 (수정할 때마다 1 증가, 수정 요청의 version과 비교)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
+        excerpt = excerptOf(content);
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
@@ -51,5 +70,24 @@ public class Post {
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    /**
+     * 본문의 연속 공백을 하나로 줄이고 EXCERPT_LENGTH자까지 자릅니다. (잘린 경우 말줄임표 추가)
+     */
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return "";
+        }
+        String collapsed = content.strip().replaceAll("\\s+", " ");
+        if (collapsed.length() <= EXCERPT_LENGTH) {
+            return collapsed;
+        }
+        int end = EXCERPT_LENGTH;
+        if (Character.isHighSurrogate(collapsed.charAt(end - 1))) {
+            end--;
+        }
+        return collapsed.substring(0, end) + "…";
     }
 }
@@ -0,0 +1,7 @@
+package com.autocoin.post.domain;
+
+/**
+ * 조건부 수정/삭제가 실패했을 때 원인(없음 / 작성자 아님 / 버전 불일치)을 가리기 위한 조회 결과
+ */
+public record PostOwnership(Long userId, Long version) {
+}
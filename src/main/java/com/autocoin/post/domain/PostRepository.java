@@ -1,14 +1,28 @@
 package com.autocoin.post.domain;
 
-import com.autocoin.user.domain.User;
+import com.autocoin.global.dto.ResourceVersion;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PostRepository {
     Post save(Post post);
     Optional<Post> findById(Long id);
-    List<Post> findAllByOrderByCreatedAtDesc();
-    List<Post> findByUserOrderByCreatedAtDesc(User user);
+    // created_at DESC, id DESC 순서로 cursor 다음부터 최대 limit개 (cursor가 null이면 처음부터)
+    List<Post> findPage(PostCursor cursor, int limit);
+    List<Post> findPageByUserId(Long userId, PostCursor cursor, int limit);
+    // 위 페이지 조회와 같은 범위의 요약 (content 컬럼을 읽지 않음)
+    List<PostSummary> findSummaryPage(PostCursor cursor, int limit);
+    List<PostSummary> findSummaryPageByUserId(Long userId, PostCursor cursor, int limit);
+    // 위 페이지 조회와 같은 범위의 (id, updatedAt)만 조회 (본문 컬럼을 읽지 않는 조건부 GET 검증용)
+    List<ResourceVersion> findPageVersions(PostCursor cursor, int limit);
+    List<ResourceVersion> findPageVersionsByUserId(Long userId, PostCursor cursor, int limit);
+    // 전체 게시글을 최신순으로 DB 커서로 읽으며 한 건씩 전달 (전달 후 영속성 컨텍스트에서 분리)
+    void streamAll(Consumer<Post> action);
     void delete(Post post);
+    // id와 작성자(그리고 expectedVersion이 있으면 버전)가 일치할 때만 한 문장으로 수정/삭제, 변경된 행 수 반환
+    int updateIfOwner(Long id, Long userId, Long expectedVersion, String title, String content);
+    int deleteIfOwner(Long id, Long userId);
+    Optional<PostOwnership> findOwnership(Long id);
 }
@@ -0,0 +1,17 @@
+package com.autocoin.post.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인에 넣을 게시글 스냅샷
+ *
+ * 트랜잭션 안에서 엔티티로부터 만들어 두고, 커밋 이후(영속성 컨텍스트 밖)에 색인에 반영합니다.
+ */
+public record PostSearchDocument(Long postId, String title, String content, Long authorId,
+                                 String authorUsername, LocalDateTime createdAt) {
+
+    public static PostSearchDocument of(Post post) {
+        return new PostSearchDocument(post.getId(), post.getTitle(), post.getContent(),
+                post.getUser().getId(), post.getUser().getUsername(), post.getCreatedAt());
+    }
+}
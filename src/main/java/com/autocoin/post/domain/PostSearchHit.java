@@ -0,0 +1,7 @@
+package com.autocoin.post.domain;
+
+import java.time.LocalDateTime;
+
+public record PostSearchHit(Long postId, String title, String excerpt, Long authorId,
+                            String authorUsername, LocalDateTime createdAt, double score) {
+}
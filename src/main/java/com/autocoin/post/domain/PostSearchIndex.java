@@ -0,0 +1,11 @@
+package com.autocoin.post.domain;
+
+import java.util.List;
+
+public interface PostSearchIndex {
+    // 같은 게시글이 이미 색인되어 있으면 교체
+    void index(PostSearchDocument document);
+    void remove(Long postId);
+    // 질의의 모든 토큰을 포함하는 게시글을 점수 내림차순으로 최대 limit개
+    List<PostSearchHit> search(String query, int limit);
+}
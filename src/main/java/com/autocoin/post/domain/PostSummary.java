@@ -0,0 +1,10 @@
+package com.autocoin.post.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 요약 (content 컬럼을 읽지 않는 프로젝션 쿼리 결과)
+ */
+public record PostSummary(Long id, String title, String excerpt, Long authorId, String authorUsername,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -19,4 +19,11 @@ public class PostRequestDto {
 
     @NotBlank(message = "내용은 필수 입력값입니다.")
     private String content;
+
+    // 수정 시 마지막으로 조회한 게시글의 version (생략하면 버전 확인 없이 수정)
+    private Long version;
+
+    public PostRequestDto(String title, String content) {
+        this(title, content, null);
+    }
 }
@@ -1,5 +1,6 @@
 package com.autocoin.post.dto;
 
+import com.autocoin.global.dto.ResourceVersion;
 import com.autocoin.post.domain.Post;
 import com.autocoin.user.dto.UserResponseDto;
 import lombok.AllArgsConstructor;
@@ -20,6 +21,7 @@ public class PostResponseDto {
     private UserResponseDto user;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     
     public static PostResponseDto of(Post post) {
         return PostResponseDto.builder()
@@ -29,6 +31,12 @@ public class PostResponseDto {
                 .user(UserResponseDto.of(post.getUser()))
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .version(post.getVersion())
                 .build();
     }
+    
+    // 조건부 GET 검증값 계산용 (JSON 속성 아님)
+    public ResourceVersion resourceVersion() {
+        return new ResourceVersion(id, updatedAt, user != null ? user.getUpdatedAt() : null);
+    }
 }
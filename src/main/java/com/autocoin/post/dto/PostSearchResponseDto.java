@@ -0,0 +1,35 @@
+package com.autocoin.post.dto;
+
+import com.autocoin.post.domain.PostSearchHit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchResponseDto {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private Long authorId;
+    private String authorUsername;
+    private LocalDateTime createdAt;
+    private double score;
+
+    public static PostSearchResponseDto of(PostSearchHit hit) {
+        return PostSearchResponseDto.builder()
+                .id(hit.postId())
+                .title(hit.title())
+                .excerpt(hit.excerpt())
+                .authorId(hit.authorId())
+                .authorUsername(hit.authorUsername())
+                .createdAt(hit.createdAt())
+                .score(hit.score())
+                .build();
+    }
+}
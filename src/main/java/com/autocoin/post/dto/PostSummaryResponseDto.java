@@ -0,0 +1,41 @@
+package com.autocoin.post.dto;
+
+import com.autocoin.post.domain.PostSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryResponseDto {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private Author author;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static PostSummaryResponseDto of(PostSummary summary) {
+        return PostSummaryResponseDto.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .excerpt(summary.excerpt())
+                .author(new Author(summary.authorId(), summary.authorUsername()))
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Author {
+        private Long id;
+        private String username;
+    }
+}
@@ -0,0 +1,25 @@
+package com.autocoin.post.dto;
+
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+
+import java.util.Locale;
+
+/**
+ * 게시글 목록 응답 형태 (view 파라미터)
+ * FULL: 본문 전체 포함 (PostResponseDto), SUMMARY: 제목과 본문 요약만 (PostSummaryResponseDto)
+ */
+public enum PostView {
+    FULL, SUMMARY;
+
+    public static PostView from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return PostView.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
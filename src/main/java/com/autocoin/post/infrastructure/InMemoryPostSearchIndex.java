@@ -0,0 +1,345 @@
+package com.autocoin.post.infrastructure;
+
+import com.autocoin.global.util.TextTokenizer;
+import com.autocoin.post.domain.Post;
+import com.autocoin.post.domain.PostRepository;
+import com.autocoin.post.domain.PostSearchDocument;
+import com.autocoin.post.domain.PostSearchHit;
+import com.autocoin.post.domain.PostSearchIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 전문 검색용 메모리 역색인
+ *
+ * - 토큰화: TextTokenizer (영어 단어, 한글 2-gram)
+ * - posting list: 내부 문서 번호 증분 + 출현 빈도를 varint로 압축 (PostingList)
+ * - 검색: 질의의 모든 토큰을 포함하는 문서만 (짧은 posting list부터 교집합), BM25로 순위 결정
+ *   제목 토큰은 TITLE_WEIGHT배로 계산하여 제목 일치를 우선합니다.
+ * - 수정/삭제: 기존 문서 번호는 삭제 표시만 하고 새 번호로 다시 색인합니다.
+ *   삭제 표시가 쌓이면 posting list를 다시 써서 정리합니다.
+ *
+ * 애플리케이션 기동 시 전체 게시글로 만들고, 이후에는 PostService가 커밋 후 반영합니다.
+ * 기동 시 색인은 요청을 받기 시작한 뒤에 돌기 때문에, 그 사이 커밋 후 반영된 게시글은 기록해 두고
+ * 전체 조회 결과(그보다 오래된 스냅샷일 수 있음)로 덮어쓰지 않습니다.
+ * 색인은 인스턴스마다 따로 가지므로 여러 인스턴스로 운영하면 다른 인스턴스에서 일어난 변경은
+ * 재기동 시점에 반영됩니다.
+ */
+@Slf4j
+@Component
+public class InMemoryPostSearchIndex implements PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docNumByPostId = new HashMap<>();
+    // 문서 번호 -> 저장된 문서 (삭제 표시된 번호는 null)
+    private final List<StoredDocument> documents = new ArrayList<>();
+    // 기동 시 색인 중 index/remove로 반영된 게시글 id (색인 중이 아니면 null)
+    private Set<Long> touchedDuringBuild;
+    private long totalLength;
+    private int tombstones;
+
+    @Value("${post.search.build-on-startup:true}")
+    private boolean buildOnStartup = true;
+
+    public InMemoryPostSearchIndex(PostRepository postRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        Gauge.builder("post.search.index.documents", this, InMemoryPostSearchIndex::size)
+                .description("Posts currently searchable")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!buildOnStartup) {
+            return;
+        }
+        long started = System.nanoTime();
+        setTouchedDuringBuild(new HashSet<>());
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    postRepository.streamAll(post -> index(PostSearchDocument.of(post), true)));
+        } finally {
+            setTouchedDuringBuild(null);
+        }
+        log.info("Post search index built: {} posts, {} terms, {} posting bytes in {} ms",
+                size(), termCount(), postingBytes(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public void index(PostSearchDocument document) {
+        index(document, false);
+    }
+
+    private void index(PostSearchDocument document, boolean fromBuild) {
+        // 토큰화는 락 밖에서
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : TextTokenizer.tokenize(document.title())) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : TextTokenizer.tokenize(document.content())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        StoredDocument stored = new StoredDocument(document.postId(), document.title(),
+                Post.excerptOf(document.content()), document.authorId(), document.authorUsername(),
+                document.createdAt(), length);
+
+        lock.writeLock().lock();
+        try {
+            if (!markTouchedLocked(document.postId(), fromBuild)) {
+                return;
+            }
+            removeLocked(document.postId());
+            int docNum = documents.size();
+            documents.add(stored);
+            docNumByPostId.put(document.postId(), docNum);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(docNum, frequency));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            markTouchedLocked(postId, false);
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PostSearchHit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveCount = docNumByPostId.size();
+            if (liveCount == 0) {
+                return List.of();
+            }
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 posting list로 후보를 만들고 나머지와 차례로 교집합
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            double averageLength = (double) totalLength / liveCount;
+
+            PostingList first = lists.get(0);
+            int[] candidates = new int[first.size()];
+            double[] scores = new double[first.size()];
+            int count = 0;
+            double idf = idf(first.size(), liveCount);
+            PostingList.Reader reader = first.reader();
+            while (reader.next()) {
+                StoredDocument document = documents.get(reader.docNum());
+                if (document == null) {
+                    continue;
+                }
+                candidates[count] = reader.docNum();
+                scores[count] = idf * termWeight(reader.frequency(), document.length(), averageLength);
+                count++;
+            }
+
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                PostingList list = lists.get(i);
+                idf = idf(list.size(), liveCount);
+                reader = list.reader();
+                boolean hasNext = reader.next();
+                int kept = 0;
+                for (int c = 0; c < count && hasNext; ) {
+                    int candidate = candidates[c];
+                    if (reader.docNum() < candidate) {
+                        hasNext = reader.next();
+                    } else if (reader.docNum() > candidate) {
+                        c++;
+                    } else {
+                        candidates[kept] = candidate;
+                        scores[kept] = scores[c] + idf * termWeight(reader.frequency(),
+                                documents.get(candidate).length(), averageLength);
+                        kept++;
+                        c++;
+                        hasNext = reader.next();
+                    }
+                }
+                count = kept;
+            }
+
+            return topHits(candidates, scores, count, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docNumByPostId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long postingBytes() {
+        lock.readLock().lock();
+        try {
+            return postings.values().stream().mapToLong(PostingList::byteSize).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<PostSearchHit> topHits(int[] candidates, double[] scores, int count, int limit) {
+        // 점수가 같으면 나중에 색인된(최근) 문서 우선
+        Comparator<Integer> byScore = Comparator.<Integer>comparingDouble(i -> scores[i])
+                .thenComparingInt(i -> candidates[i]);
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, Math.max(count, 1)) + 1, byScore);
+        for (int i = 0; i < count; i++) {
+            top.offer(i);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        PostSearchHit[] hits = new PostSearchHit[top.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            int index = top.poll();
+            StoredDocument document = documents.get(candidates[index]);
+            hits[i] = new PostSearchHit(document.postId(), document.title(), document.excerpt(),
+                    document.authorId(), document.authorUsername(), document.createdAt(), scores[index]);
+        }
+        return Arrays.asList(hits);
+    }
+
+    private void setTouchedDuringBuild(Set<Long> touched) {
+        lock.writeLock().lock();
+        try {
+            touchedDuringBuild = touched;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기동 시 색인 중이면 커밋 후 반영된 게시글을 기록합니다.
+     * 전체 조회 결과는 이미 반영된 게시글이면 false (더 최신 상태를 덮어쓰지 않도록 건너뜀)
+     */
+    private boolean markTouchedLocked(Long postId, boolean fromBuild) {
+        if (touchedDuringBuild == null) {
+            return true;
+        }
+        if (fromBuild) {
+            return !touchedDuringBuild.contains(postId);
+        }
+        touchedDuringBuild.add(postId);
+        return true;
+    }
+
+    private void removeLocked(Long postId) {
+        Integer docNum = docNumByPostId.remove(postId);
+        if (docNum == null) {
+            return;
+        }
+        StoredDocument removed = documents.set(docNum, null);
+        totalLength -= removed.length();
+        tombstones++;
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones * 4 >= documents.size()) {
+            compactLocked();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 posting list에서 빼고 문서 번호를 앞으로 당깁니다. (순서는 유지되므로 증분 인코딩 그대로)
+     */
+    private void compactLocked() {
+        int[] newDocNums = new int[documents.size()];
+        List<StoredDocument> live = new ArrayList<>(docNumByPostId.size());
+        for (int docNum = 0; docNum < documents.size(); docNum++) {
+            StoredDocument document = documents.get(docNum);
+            if (document == null) {
+                newDocNums[docNum] = -1;
+            } else {
+                newDocNums[docNum] = live.size();
+                live.add(document);
+            }
+        }
+        postings.replaceAll((term, list) -> list.remap(newDocNums));
+        postings.values().removeIf(list -> list.size() == 0);
+
+        documents.clear();
+        documents.addAll(live);
+        docNumByPostId.clear();
+        for (int docNum = 0; docNum < live.size(); docNum++) {
+            docNumByPostId.put(live.get(docNum).postId(), docNum);
+        }
+        log.debug("Post search index compacted: {} tombstones removed", tombstones);
+        tombstones = 0;
+    }
+
+    private static double idf(int documentFrequency, int documentCount) {
+        // posting list 크기에는 아직 정리되지 않은 삭제 문서가 포함되어 있어 근사값 (문서 수를 넘지 않도록 보정)
+        int frequency = Math.min(documentFrequency, documentCount);
+        return Math.log(1 + (documentCount - frequency + 0.5) / (frequency + 0.5));
+    }
+
+    private static double termWeight(int frequency, int documentLength, double averageLength) {
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * documentLength / averageLength));
+    }
+
+    private record StoredDocument(Long postId, String title, String excerpt, Long authorId,
+                                  String authorUsername, LocalDateTime createdAt, int length) {
+    }
+}
@@ -1,14 +1,118 @@
 package com.autocoin.post.infrastructure;
 
+import com.autocoin.global.dto.ResourceVersion;
 import com.autocoin.post.domain.Post;
-import com.autocoin.user.domain.User;
+import com.autocoin.post.domain.PostOwnership;
+import com.autocoin.post.domain.PostSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostJpaRepository extends JpaRepository<Post, Long> {
-    List<Post> findAllByOrderByCreatedAtDesc();
-    List<Post> findByUserOrderByCreatedAtDesc(User user);
+
+    // 응답 DTO에 작성자 정보가 포함되므로 모든 조회에서 user를 함께 가져와 N+1 쿼리를 방지
+    @Query("select p from Post p join fetch p.user where p.id = :id")
+    Optional<Post> findWithUserById(@Param("id") Long id);
+
+    // Keyset pagination: (created_at, id) 인덱스를 역순으로 읽으므로 OFFSET 없이 페이지 위치와 무관하게 일정한 비용
+    @Query("select p from Post p join fetch p.user order by p.createdAt desc, p.id desc")
+    List<Post> findFirstPage(Pageable pageable);
+
+    @Query("select p from Post p join fetch p.user "
+            + "where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id) "
+            + "order by p.createdAt desc, p.id desc")
+    List<Post> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select p from Post p join fetch p.user where p.user.id = :userId order by p.createdAt desc, p.id desc")
+    List<Post> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select p from Post p join fetch p.user "
+            + "where p.user.id = :userId "
+            + "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) "
+            + "order by p.createdAt desc, p.id desc")
+    List<Post> findPageByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id, Pageable pageable);
+
+    // 목록 요약: 페이지 조회와 같은 조건/정렬로 content를 제외한 컬럼만 조회
+    @Query("select new com.autocoin.post.domain.PostSummary(p.id, p.title, p.excerpt, u.id, u.username, p.createdAt, p.updatedAt) "
+            + "from Post p join p.user u order by p.createdAt desc, p.id desc")
+    List<PostSummary> findFirstSummaryPage(Pageable pageable);
+
+    @Query("select new com.autocoin.post.domain.PostSummary(p.id, p.title, p.excerpt, u.id, u.username, p.createdAt, p.updatedAt) "
+            + "from Post p join p.user u "
+            + "where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id) "
+            + "order by p.createdAt desc, p.id desc")
+    List<PostSummary> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query("select new com.autocoin.post.domain.PostSummary(p.id, p.title, p.excerpt, u.id, u.username, p.createdAt, p.updatedAt) "
+            + "from Post p join p.user u where u.id = :userId order by p.createdAt desc, p.id desc")
+    List<PostSummary> findFirstSummaryPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select new com.autocoin.post.domain.PostSummary(p.id, p.title, p.excerpt, u.id, u.username, p.createdAt, p.updatedAt) "
+            + "from Post p join p.user u "
+            + "where u.id = :userId "
+            + "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) "
+            + "order by p.createdAt desc, p.id desc")
+    List<PostSummary> findSummaryPageByUserIdAfter(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id, Pageable pageable);
+
+    // 페이지 조회와 같은 조건/정렬로 버전 정보만 조회 (조건부 GET 검증용)
+    @Query("select new com.autocoin.global.dto.ResourceVersion(p.id, p.updatedAt, u.updatedAt) "
+            + "from Post p join p.user u order by p.createdAt desc, p.id desc")
+    List<ResourceVersion> findFirstPageVersions(Pageable pageable);
+
+    @Query("select new com.autocoin.global.dto.ResourceVersion(p.id, p.updatedAt, u.updatedAt) "
+            + "from Post p join p.user u "
+            + "where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id) "
+            + "order by p.createdAt desc, p.id desc")
+    List<ResourceVersion> findPageVersionsAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("select new com.autocoin.global.dto.ResourceVersion(p.id, p.updatedAt, u.updatedAt) "
+            + "from Post p join p.user u where u.id = :userId order by p.createdAt desc, p.id desc")
+    List<ResourceVersion> findFirstPageVersionsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select new com.autocoin.global.dto.ResourceVersion(p.id, p.updatedAt, u.updatedAt) "
+            + "from Post p join p.user u "
+            + "where u.id = :userId "
+            + "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) "
+            + "order by p.createdAt desc, p.id desc")
+    List<ResourceVersion> findPageVersionsByUserIdAfter(@Param("userId") Long userId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id, Pageable pageable);
+
+    // 작성자 확인과 수정을 한 문장으로 (bulk update는 @PreUpdate가 호출되지 않으므로 excerpt/updatedAt/version 직접 갱신)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Post p set p.title = :title, p.content = :content, p.excerpt = :excerpt, "
+            + "p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "where p.id = :id and p.user.id = :userId and (:version is null or p.version = :version)")
+    int updateIfOwner(@Param("id") Long id, @Param("userId") Long userId, @Param("version") Long version,
+                      @Param("title") String title, @Param("content") String content,
+                      @Param("excerpt") String excerpt, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Post p where p.id = :id and p.user.id = :userId")
+    int deleteIfOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("select new com.autocoin.post.domain.PostOwnership(p.user.id, p.version) from Post p where p.id = :id")
+    Optional<PostOwnership> findOwnership(@Param("id") Long id);
+
+    // 결과를 한 번에 읽지 않고 fetch size 단위로 가져옴 (트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select p from Post p join fetch p.user order by p.createdAt desc, p.id desc")
+    Stream<Post> streamAll();
 }
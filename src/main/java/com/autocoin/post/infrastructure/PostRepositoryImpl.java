@@ -1,13 +1,22 @@
 package com.autocoin.post.infrastructure;
 
+import com.autocoin.global.dto.ResourceVersion;
 import com.autocoin.post.domain.Post;
+import com.autocoin.post.domain.PostCursor;
+import com.autocoin.post.domain.PostOwnership;
 import com.autocoin.post.domain.PostRepository;
-import com.autocoin.user.domain.User;
+import com.autocoin.post.domain.PostSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -15,6 +24,9 @@ public class PostRepositoryImpl implements PostRepository {
 
     private final PostJpaRepository postJpaRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public Post save(Post post) {
         return postJpaRepository.save(post);
@@ -22,21 +34,87 @@ public class PostRepositoryImpl implements PostRepository {
 
     @Override
     public Optional<Post> findById(Long id) {
-        return postJpaRepository.findById(id);
+        return postJpaRepository.findWithUserById(id);
+    }
+
+    @Override
+    public List<Post> findPage(PostCursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        return cursor == null
+                ? postJpaRepository.findFirstPage(pageRequest)
+                : postJpaRepository.findPageAfter(cursor.createdAt(), cursor.id(), pageRequest);
+    }
+
+    @Override
+    public List<Post> findPageByUserId(Long userId, PostCursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        return cursor == null
+                ? postJpaRepository.findFirstPageByUserId(userId, pageRequest)
+                : postJpaRepository.findPageByUserIdAfter(userId, cursor.createdAt(), cursor.id(), pageRequest);
+    }
+
+    @Override
+    public List<PostSummary> findSummaryPage(PostCursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        return cursor == null
+                ? postJpaRepository.findFirstSummaryPage(pageRequest)
+                : postJpaRepository.findSummaryPageAfter(cursor.createdAt(), cursor.id(), pageRequest);
+    }
+
+    @Override
+    public List<PostSummary> findSummaryPageByUserId(Long userId, PostCursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        return cursor == null
+                ? postJpaRepository.findFirstSummaryPageByUserId(userId, pageRequest)
+                : postJpaRepository.findSummaryPageByUserIdAfter(userId, cursor.createdAt(), cursor.id(), pageRequest);
     }
 
     @Override
-    public List<Post> findAllByOrderByCreatedAtDesc() {
-        return postJpaRepository.findAllByOrderByCreatedAtDesc();
+    public List<ResourceVersion> findPageVersions(PostCursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        return cursor == null
+                ? postJpaRepository.findFirstPageVersions(pageRequest)
+                : postJpaRepository.findPageVersionsAfter(cursor.createdAt(), cursor.id(), pageRequest);
     }
 
     @Override
-    public List<Post> findByUserOrderByCreatedAtDesc(User user) {
-        return postJpaRepository.findByUserOrderByCreatedAtDesc(user);
+    public List<ResourceVersion> findPageVersionsByUserId(Long userId, PostCursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        return cursor == null
+                ? postJpaRepository.findFirstPageVersionsByUserId(userId, pageRequest)
+                : postJpaRepository.findPageVersionsByUserIdAfter(userId, cursor.createdAt(), cursor.id(), pageRequest);
+    }
+
+    @Override
+    public void streamAll(Consumer<Post> action) {
+        try (Stream<Post> posts = postJpaRepository.streamAll()) {
+            posts.forEach(post -> {
+                action.accept(post);
+                // 처리한 엔티티를 분리하여 영속성 컨텍스트가 결과 크기만큼 커지지 않도록 함
+                entityManager.detach(post.getUser());
+                entityManager.detach(post);
+            });
+        }
     }
 
     @Override
     public void delete(Post post) {
         postJpaRepository.delete(post);
     }
+
+    @Override
+    public int updateIfOwner(Long id, Long userId, Long expectedVersion, String title, String content) {
+        return postJpaRepository.updateIfOwner(id, userId, expectedVersion, title, content,
+                Post.excerptOf(content), LocalDateTime.now());
+    }
+
+    @Override
+    public int deleteIfOwner(Long id, Long userId) {
+        return postJpaRepository.deleteIfOwner(id, userId);
+    }
+
+    @Override
+    public Optional<PostOwnership> findOwnership(Long id) {
+        return postJpaRepository.findOwnership(id);
+    }
 }
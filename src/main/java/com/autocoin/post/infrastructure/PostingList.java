@@ -0,0 +1,107 @@
+package com.autocoin.post.infrastructure;
+
+import java.util.Arrays;
+
+/**
+ * 한 토큰의 posting list
+ *
+ * (문서 번호 증분, 출현 빈도) 쌍을 varint로 이어 붙인 바이트 배열입니다.
+ * 문서 번호는 색인 순서대로 증가하므로 증분은 항상 양수이고 대부분 1~2바이트에 들어갑니다.
+ * 동기화는 색인(InMemoryPostSearchIndex)의 읽기/쓰기 락에 맡깁니다.
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int size;
+    private int lastDocNum = -1;
+
+    void add(int docNum, int frequency) {
+        if (docNum <= lastDocNum) {
+            throw new IllegalArgumentException("docNum must increase: " + docNum + " <= " + lastDocNum);
+        }
+        writeVarInt(docNum - lastDocNum);
+        writeVarInt(frequency);
+        lastDocNum = docNum;
+        size++;
+    }
+
+    /**
+     * 색인에 들어간 문서 수 (삭제 표시된 문서 포함)
+     */
+    int size() {
+        return size;
+    }
+
+    int byteSize() {
+        return length;
+    }
+
+    Reader reader() {
+        return new Reader();
+    }
+
+    /**
+     * 문서 번호를 newDocNums[old]로 바꾼 새 목록을 만듭니다. 값이 음수인 문서(삭제됨)는 제외합니다.
+     */
+    PostingList remap(int[] newDocNums) {
+        PostingList remapped = new PostingList();
+        Reader reader = reader();
+        while (reader.next()) {
+            int docNum = newDocNums[reader.docNum()];
+            if (docNum >= 0) {
+                remapped.add(docNum, reader.frequency());
+            }
+        }
+        if (remapped.length < remapped.bytes.length) {
+            remapped.bytes = Arrays.copyOf(remapped.bytes, Math.max(remapped.length, 1));
+        }
+        return remapped;
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    final class Reader {
+        private int position;
+        private int docNum = -1;
+        private int frequency;
+
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            docNum += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        int docNum() {
+            return docNum;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
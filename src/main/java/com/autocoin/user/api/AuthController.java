@@ -1,11 +1,17 @@
 package com.autocoin.user.api;
 
 import com.autocoin.global.config.JwtTokenProvider;
+import com.autocoin.user.application.RefreshTokenService;
+import com.autocoin.user.application.TokenRevocationService;
 import com.autocoin.user.application.UserService;
 import com.autocoin.user.domain.User;
+import com.autocoin.user.domain.UserPrincipal;
+import com.autocoin.user.dto.RefreshTokenRequestDto;
+import com.autocoin.user.dto.TokenResponseDto;
 import com.autocoin.user.dto.UserLoginRequestDto;
 import com.autocoin.user.dto.UserResponseDto;
 import com.autocoin.user.dto.UserSignupRequestDto;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -28,7 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-@Tag(name = "인증", description = "회원가입, 로그인, 사용자 정보 조회 API")
+@Tag(name = "인증", description = "회원가입, 로그인, 토큰 재발급, 로그아웃, 사용자 정보 조회 API")
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
@@ -36,6 +42,8 @@ public class AuthController {
 
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Operation(summary = "회원가입", description = "이메일, 비밀번호, 사용자 이름으로 새 계정을 생성합니다.")
     @ApiResponses(value = {
@@ -50,7 +58,7 @@ public class AuthController {
         return new ResponseEntity<>(UserResponseDto.of(user), HttpStatus.CREATED);
     }
 
-    @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인하고 JWT 토큰을 발급받습니다.")
+    @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인하고 JWT 액세스 토큰과 리프레시 토큰을 발급받습니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "로그인 성공"),
         @ApiResponse(responseCode = "401", description = "인증 실패 - 이메일 또는 비밀번호 불일치"),
@@ -60,20 +68,66 @@ public class AuthController {
     public ResponseEntity<Map<String, Object>> login(@Valid @RequestBody UserLoginRequestDto requestDto) {
         User user = userService.login(requestDto);
         
-        // Role 정보를 List<String>으로 변환
-        List<String> roles = user.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.toList());
-        
         // JWT 토큰 생성
-        String token = jwtTokenProvider.createToken(user.getId(), user.getEmail(), roles);
+        String token = createAccessToken(user);
         
         Map<String, Object> response = new HashMap<>();
         response.put("token", token);
+        response.put("refreshToken", refreshTokenService.issue(user.getId()));
         response.put("user", UserResponseDto.of(user));
         
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급받습니다. 사용한 리프레시 토큰은 폐기됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "재발급 성공",
+                content = @Content(schema = @Schema(implementation = TokenResponseDto.class))),
+        @ApiResponse(responseCode = "401", description = "유효하지 않거나 이미 사용된 리프레시 토큰"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto requestDto) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(requestDto.getRefreshToken());
+        User user = userService.findUserById(rotation.userId());
+
+        return ResponseEntity.ok(TokenResponseDto.builder()
+                .token(createAccessToken(user))
+                .refreshToken(rotation.refreshToken())
+                .build());
+    }
+
+    @Operation(summary = "로그아웃", description = "현재 액세스 토큰을 폐기하고, 전달된 리프레시 토큰(없으면 사용자의 모든 리프레시 토큰)을 폐기합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "로그아웃 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패 - 유효하지 않은 토큰"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestBody(required = false) RefreshTokenRequestDto requestDto,
+                                    Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ErrorResponse.builder()
+                            .status(HttpStatus.UNAUTHORIZED.value())
+                            .code("C001")
+                            .message("Unauthorized")
+                            .timestamp(LocalDateTime.now())
+                            .build());
+        }
+
+        // 현재 액세스 토큰은 만료 시각까지 폐기 목록에 등록
+        if (authentication.getDetails() instanceof Claims claims) {
+            tokenRevocationService.revoke(claims.getId(), claims.getExpiration());
+        }
+
+        if (requestDto != null && requestDto.getRefreshToken() != null) {
+            refreshTokenService.revoke(requestDto.getRefreshToken(), principal.getId());
+        } else {
+            refreshTokenService.revokeAll(principal.getId());
+        }
+        return ResponseEntity.noContent().build();
+    }
     
     @Operation(summary = "내 정보 조회", description = "현재 인증된 사용자의 정보를 조회합니다.")
     @ApiResponses(value = {
@@ -83,8 +137,8 @@ public class AuthController {
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/me")
-    public ResponseEntity<?> getMyInfo(@AuthenticationPrincipal User user) {
-        if (user == null) {
+    public ResponseEntity<?> getMyInfo(@AuthenticationPrincipal UserPrincipal principal) {
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ErrorResponse.builder()
                             .status(HttpStatus.UNAUTHORIZED.value())
@@ -93,6 +147,14 @@ public class AuthController {
                             .timestamp(LocalDateTime.now())
                             .build());
         }
-        return ResponseEntity.ok(UserResponseDto.of(user));
+        return ResponseEntity.ok(UserResponseDto.of(userService.findUserById(principal.getId())));
+    }
+
+    private String createAccessToken(User user) {
+        // Role 정보를 List<String>으로 변환
+        List<String> roles = user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+        return jwtTokenProvider.createToken(user.getId(), user.getEmail(), user.getUsername(), roles);
     }
 }
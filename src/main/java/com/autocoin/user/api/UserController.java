@@ -1,7 +1,7 @@
 package com.autocoin.user.api;
 
 import com.autocoin.user.application.UserService;
-import com.autocoin.user.domain.User;
+import com.autocoin.user.domain.UserPrincipal;
 import com.autocoin.user.dto.UserResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -34,7 +34,7 @@ public class UserController {
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/me")
-    public ResponseEntity<UserResponseDto> getMyInfo(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(UserResponseDto.of(user));
+    public ResponseEntity<UserResponseDto> getMyInfo(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(UserResponseDto.of(userService.findUserById(principal.getId())));
     }
 }
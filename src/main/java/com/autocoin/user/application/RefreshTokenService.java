@@ -0,0 +1,133 @@
+package com.autocoin.user.application;
+
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import com.autocoin.user.domain.RefreshToken;
+import com.autocoin.user.domain.RefreshTokenRepository;
+import com.autocoin.user.domain.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급 / 회전 / 폐기
+ *
+ * - 토큰은 256bit 난수(base64url)이며 DB에는 SHA-256 해시만 저장
+ * - 사용할 때마다 기존 토큰을 폐기하고 같은 계열(familyId)의 새 토큰을 발급 (rotation)
+ * - 이미 폐기된 토큰이 다시 제출되면 탈취로 간주하여 계열 전체를 폐기 (reuse detection)
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final long refreshTokenValidTime;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               @Value("${jwt.refresh-expiration:1209600000}") long refreshTokenValidTime) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.refreshTokenValidTime = refreshTokenValidTime;
+    }
+
+    /**
+     * 새 로그인에 대한 리프레시 토큰을 발급합니다.
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 사용하고 같은 계열의 새 토큰으로 교체합니다.
+     * 계열 폐기는 예외가 발생해도 커밋되어야 하므로 CustomException에서는 롤백하지 않습니다.
+     */
+    @Transactional(noRollbackFor = CustomException.class)
+    public Rotation rotate(String rawToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        if (refreshToken.isExpired(now)) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        // 조건부 갱신이 0건이면 이미 사용된 토큰(동시 요청 포함)이므로 재사용으로 처리
+        if (refreshToken.isRevoked() || refreshTokenRepository.revokeIfActive(refreshToken.getId(), now) == 0) {
+            log.warn("Refresh token reuse detected, revoking family {}", refreshToken.getFamilyId());
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId(), now);
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        Long userId = refreshToken.getUser().getId();
+        return new Rotation(userId, issue(userId, refreshToken.getFamilyId()));
+    }
+
+    /**
+     * 리프레시 토큰이 속한 계열을 폐기합니다. 다른 사용자의 토큰이거나 없는 토큰이면 무시합니다.
+     */
+    @Transactional
+    public void revoke(String rawToken, Long userId) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .filter(refreshToken -> refreshToken.getUser().getId().equals(userId))
+                .ifPresent(refreshToken -> refreshTokenRepository.revokeFamily(refreshToken.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * 사용자의 모든 리프레시 토큰을 폐기합니다.
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 30 * * * *}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .user(userRepository.getReferenceById(userId))
+                .expiresAt(LocalDateTime.now().plusNanos(refreshTokenValidTime * 1_000_000L))
+                .build());
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record Rotation(Long userId, String refreshToken) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.autocoin.user.application;
+
+import com.autocoin.global.util.BloomFilter;
+import com.autocoin.user.domain.RevokedAccessToken;
+import com.autocoin.user.domain.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰(jti) 관리
+ *
+ * 요청마다 DB를 조회하지 않도록 폐기 목록을 메모리의 블룸 필터로 유지합니다.
+ * - 필터에 없으면 폐기되지 않은 토큰이 확실하므로 바로 통과
+ * - 필터에 있으면(폐기 또는 오탐) 그때만 DB에서 정확히 확인
+ *
+ * 다른 인스턴스에서 폐기된 토큰은 주기적인 동기화로 반영되며,
+ * 만료된 jti를 필터에서 비우기 위해 주기적으로 필터를 새로 만듭니다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    // 동기화 구간을 겹쳐서 커밋이 늦게 된 행도 놓치지 않도록 함 (중복 추가는 무해)
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter filterHits;
+    private final Counter confirmedRevocations;
+
+    private volatile BloomFilter denylist;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationService(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                  @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                                  @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  MeterRegistry meterRegistry) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filterHits = Counter.builder("jwt.revocation.filter.hits")
+                .description("Requests whose jti matched the revocation filter")
+                .register(meterRegistry);
+        this.confirmedRevocations = Counter.builder("jwt.revocation.confirmed")
+                .description("Requests rejected because the access token was revoked")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * jti가 폐기된 토큰인지 확인합니다. jti가 없는 토큰은 폐기할 수 없으므로 false입니다.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !denylist.mightContain(jti)) {
+            return false;
+        }
+        filterHits.increment();
+        boolean revoked = revokedAccessTokenRepository.existsByJti(jti);
+        if (revoked) {
+            confirmedRevocations.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * 액세스 토큰을 만료 시각까지 폐기합니다.
+     *
+     * 같은 토큰으로 동시에 로그아웃하면 조회 후 저장 사이에 다른 요청이 먼저 저장할 수 있으므로,
+     * jti 유니크 제약 위반은 이미 폐기된 것으로 처리합니다.
+     */
+    public void revoke(String jti, Date expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.after(new Date())) {
+            return;
+        }
+        if (!revokedAccessTokenRepository.existsByJti(jti)) {
+            try {
+                revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                        .jti(jti)
+                        .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                if (!revokedAccessTokenRepository.existsByJti(jti)) {
+                    throw e;
+                }
+                log.debug("Access token {} was already revoked by a concurrent request", jti);
+            }
+        }
+        denylist.put(jti);
+    }
+
+    /**
+     * 다른 인스턴스에서 최근에 폐기된 jti를 필터에 추가합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:10000}")
+    public synchronized void syncRecentRevocations() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        BloomFilter current = denylist;
+        revokedAccessTokenRepository.findJtisCreatedSince(lastSyncedAt.minus(SYNC_OVERLAP))
+                .forEach(current::put);
+        lastSyncedAt = startedAt;
+    }
+
+    /**
+     * 만료된 jti를 삭제하고 남은 jti로 필터를 새로 만듭니다.
+     */
+    @Scheduled(cron = "${jwt.revocation.rebuild-cron:0 0 * * * *}")
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        revokedAccessTokenRepository.deleteExpired(startedAt);
+        List<String> activeJtis = revokedAccessTokenRepository.findActiveJtis(startedAt);
+
+        // 예상치를 넘으면 오탐률이 커지므로 실제 개수에 맞춰 크기를 키움
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedInsertions, activeJtis.size() * 2L), falsePositiveRate);
+        activeJtis.forEach(rebuilt::put);
+        denylist = rebuilt;
+        lastSyncedAt = startedAt;
+        log.info("Rebuilt access token revocation filter with {} entries ({} bits)", activeJtis.size(), rebuilt.bitSize());
+    }
+}
@@ -5,33 +5,44 @@ import com.autocoin.global.exception.ErrorCode;
 import com.autocoin.global.util.PasswordEncoderUtil;
 import com.autocoin.user.domain.Role;
 import com.autocoin.user.domain.User;
+import com.autocoin.user.domain.UserPrincipal;
 import com.autocoin.user.domain.UserRepository;
 import com.autocoin.user.dto.UserLoginRequestDto;
 import com.autocoin.user.dto.UserSignupRequestDto;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
 public class UserService implements UserDetailsService {
 
+    // Name of the users.email unique constraint in the Flyway baseline (V1)
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     private final UserRepository userRepository;
     private final PasswordEncoderUtil passwordEncoderUtil;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         return userRepository.findByEmail(email)
+                .map(UserPrincipal::from)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 
-    @Transactional
+    // Not transactional: the BCrypt hash must not hold a pooled connection; the insert runs in the repository transaction
     public User signup(UserSignupRequestDto requestDto) {
-        // Check if email already exists
-        if (userRepository.existsByEmail(requestDto.getEmail())) {
+        // Skip the existence query for emails the filter has never seen; only a possible hit pays for the
+        // lookup, so duplicates still fail before the expensive hash
+        if (userRepository.mightExistByEmail(requestDto.getEmail())
+                && userRepository.existsByEmail(requestDto.getEmail())) {
             throw new CustomException(ErrorCode.EMAIL_DUPLICATION);
         }
 
@@ -43,10 +54,35 @@ public class UserService implements UserDetailsService {
                 .role(Role.ROLE_USER)
                 .build();
 
-        return userRepository.save(user);
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // The users.email unique constraint is the source of truth, including concurrent signups;
+            // any other violation (null column, length, ...) is a real error and must not look like a duplicate.
+            // Signup is anonymous, so read-your-writes stickiness does not apply: confirm on the primary,
+            // a lagging replica would miss the row that caused the violation
+            if (isEmailUniqueViolation(e) || userRepository.existsByEmailOnPrimary(requestDto.getEmail())) {
+                throw new CustomException(ErrorCode.EMAIL_DUPLICATION);
+            }
+            throw e;
+        }
+    }
+
+    // Databases baselined from the ddl-auto schema may carry a generated constraint name,
+    // so callers fall back to checking whether the email row now exists
+    private static boolean isEmailUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(EMAIL_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
     }
     
-    @Transactional(readOnly = true)
+    // Not transactional for the same reason as signup: matches() and the rehash both run BCrypt at the calibrated cost,
+    // so only the lookup and the conditional password update use a connection
     public User login(UserLoginRequestDto requestDto) {
         // Find user by email
         User user = userRepository.findByEmail(requestDto.getEmail())
@@ -56,6 +92,15 @@ public class UserService implements UserDetailsService {
         if (!passwordEncoderUtil.matches(requestDto.getPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.LOGIN_FAILED);
         }
+
+        // 저장된 해시의 형식이나 비용이 현재 설정과 다르면 로그인 성공 시점에 다시 해싱
+        // 그 사이 비밀번호가 바뀌었으면(저장된 해시가 다르면) 갱신하지 않음
+        if (passwordEncoderUtil.needsRehash(user.getPassword())) {
+            String rehashed = passwordEncoderUtil.encode(requestDto.getPassword());
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed)) {
+                user.changePassword(rehashed);
+            }
+        }
         
         return user;
     }
@@ -0,0 +1,13 @@
+package com.autocoin.user.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository {
+    RefreshToken save(RefreshToken refreshToken);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+    int revokeIfActive(Long id, LocalDateTime now);
+    int revokeFamily(String familyId, LocalDateTime now);
+    int revokeAllByUserId(Long userId, LocalDateTime now);
+    int deleteExpired(LocalDateTime now);
+}
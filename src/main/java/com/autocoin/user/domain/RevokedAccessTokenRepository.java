@@ -0,0 +1,12 @@
+package com.autocoin.user.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedAccessTokenRepository {
+    RevokedAccessToken save(RevokedAccessToken revokedAccessToken);
+    boolean existsByJti(String jti);
+    List<String> findJtisCreatedSince(LocalDateTime since);
+    List<String> findActiveJtis(LocalDateTime now);
+    int deleteExpired(LocalDateTime now);
+}
@@ -54,6 +54,11 @@ public class User implements UserDetails {
         updatedAt = LocalDateTime.now();
     }
 
+    // 비밀번호 변경 메소드 (인코딩된 값)
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(new SimpleGrantedAuthority(role.name()));
@@ -0,0 +1,66 @@
+package com.autocoin.user.domain;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * SecurityContext에 저장되는 인증 사용자 정보
+ * JPA 엔티티가 아닌 불변 객체로, JWT 클레임만으로도 복원할 수 있어
+ * 요청마다 users 테이블을 조회하지 않아도 됩니다.
+ * 전체 엔티티가 필요한 경우에만 id로 UserService를 통해 조회합니다.
+ */
+@Getter
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String username;
+    private final Role role;
+    private final String password; // 토큰에서 복원한 경우 null
+
+    private UserPrincipal(Long id, String email, String username, Role role, String password) {
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.role = role;
+        this.password = password;
+    }
+
+    public static UserPrincipal of(Long id, String email, String username, Role role) {
+        return new UserPrincipal(id, email, username, role, null);
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getUsername(), user.getRole(), user.getPassword());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority(role.name()));
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
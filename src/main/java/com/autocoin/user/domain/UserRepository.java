@@ -4,8 +4,15 @@ import java.util.Optional;
 
 public interface UserRepository {
     User save(User user);
+    User saveAndFlush(User user);
     Optional<User> findById(Long id);
+    User getReferenceById(Long id);
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    // 복제본이 아닌 주 DB에서 확인 (방금 실패한 쓰기의 원인처럼 복제 지연이 있으면 안 되는 확인용)
+    boolean existsByEmailOnPrimary(String email);
+    // 저장된 해시가 expectedPassword일 때만 newPassword로 변경 (변경했으면 true)
+    boolean updatePasswordIfUnchanged(Long id, String expectedPassword, String newPassword);
+    boolean mightExistByEmail(String email); // false positive 가능, false negative는 다른 인스턴스의 가입만 해당
     void delete(User user);
 }
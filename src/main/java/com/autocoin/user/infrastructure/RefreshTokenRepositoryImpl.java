@@ -0,0 +1,46 @@
+package com.autocoin.user.infrastructure;
+
+import com.autocoin.user.domain.RefreshToken;
+import com.autocoin.user.domain.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
+
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        return refreshTokenJpaRepository.save(refreshToken);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return refreshTokenJpaRepository.findByTokenHash(tokenHash);
+    }
+
+    @Override
+    public int revokeIfActive(Long id, LocalDateTime now) {
+        return refreshTokenJpaRepository.revokeIfActive(id, now);
+    }
+
+    @Override
+    public int revokeFamily(String familyId, LocalDateTime now) {
+        return refreshTokenJpaRepository.revokeFamily(familyId, now);
+    }
+
+    @Override
+    public int revokeAllByUserId(Long userId, LocalDateTime now) {
+        return refreshTokenJpaRepository.revokeAllByUserId(userId, now);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return refreshTokenJpaRepository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,28 @@
+package com.autocoin.user.infrastructure;
+
+import com.autocoin.user.domain.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenJpaRepository extends JpaRepository<RevokedAccessToken, Long> {
+    boolean existsByJti(String jti);
+
+    @Query("select r.jti from RevokedAccessToken r where r.createdAt >= :since")
+    List<String> findJtisCreatedSince(@Param("since") LocalDateTime since);
+
+    @Query("select r.jti from RevokedAccessToken r where r.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedAccessToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
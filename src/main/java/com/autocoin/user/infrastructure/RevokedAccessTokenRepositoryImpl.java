@@ -0,0 +1,41 @@
+package com.autocoin.user.infrastructure;
+
+import com.autocoin.user.domain.RevokedAccessToken;
+import com.autocoin.user.domain.RevokedAccessTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RevokedAccessTokenRepositoryImpl implements RevokedAccessTokenRepository {
+
+    private final RevokedAccessTokenJpaRepository revokedAccessTokenJpaRepository;
+
+    @Override
+    public RevokedAccessToken save(RevokedAccessToken revokedAccessToken) {
+        return revokedAccessTokenJpaRepository.save(revokedAccessToken);
+    }
+
+    @Override
+    public boolean existsByJti(String jti) {
+        return revokedAccessTokenJpaRepository.existsByJti(jti);
+    }
+
+    @Override
+    public List<String> findJtisCreatedSince(LocalDateTime since) {
+        return revokedAccessTokenJpaRepository.findJtisCreatedSince(since);
+    }
+
+    @Override
+    public List<String> findActiveJtis(LocalDateTime now) {
+        return revokedAccessTokenJpaRepository.findActiveJtis(now);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return revokedAccessTokenJpaRepository.deleteExpired(now);
+    }
+}
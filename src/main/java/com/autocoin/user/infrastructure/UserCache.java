@@ -0,0 +1,134 @@
+package com.autocoin.user.infrastructure;
+
+import com.autocoin.user.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * id와 email 두 개의 키로 조회할 수 있는 사용자 캐시
+ * UserRepositoryImpl의 조회 앞에 위치하며, save/delete 시 즉시 무효화됩니다.
+ *
+ * 캐시에는 영속성 컨텍스트와 분리된 복사본을 저장하고, 조회 시에도 복사본을 반환하므로
+ * 호출하는 쪽에서 엔티티를 변경해도 다른 요청에 영향을 주지 않습니다.
+ *
+ * DB에서 읽기 전에 currentGeneration()을 받아 두고 putIfUnchanged()로 저장합니다.
+ * 그 사이 무효화가 있었으면 저장하지 않으므로, 무효화 직전에 읽은 오래된 값이 TTL 동안 남지 않습니다.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> userIdsByEmail;
+    // 무효화할 때마다 증가 (같은 id의 저장과 제거는 compute로 직렬화되므로 저장 시 그 안에서 비교)
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserCache(@Value("${user.cache.max-size:10000}") long maxSize,
+                     @Value("${user.cache.ttl-seconds:600}") long ttlSeconds,
+                     MeterRegistry meterRegistry) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.userIdsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByEmail, "users.by-email");
+    }
+
+    public User getById(Long id) {
+        User cached = usersById.getIfPresent(id);
+        return cached != null ? copy(cached) : null;
+    }
+
+    public User getByEmail(String email) {
+        Long id = userIdsByEmail.getIfPresent(email);
+        if (id == null) {
+            return null;
+        }
+        User cached = usersById.getIfPresent(id);
+        // 이메일 인덱스가 다른 사용자를 가리키면 캐시 미스로 처리
+        if (cached == null || !cached.getEmail().equals(email)) {
+            userIdsByEmail.invalidate(email);
+            return null;
+        }
+        return copy(cached);
+    }
+
+    /**
+     * DB 조회 전에 받아 두는 값 (putIfUnchanged에 전달)
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * generation을 받은 뒤 무효화가 없었을 때만 저장합니다.
+     *
+     * @return 저장했으면 true
+     */
+    public boolean putIfUnchanged(User user, long expectedGeneration) {
+        User copied = copy(user);
+        boolean[] stored = {false};
+        usersById.asMap().compute(user.getId(), (id, cached) -> {
+            if (generation.get() != expectedGeneration) {
+                return cached;
+            }
+            stored[0] = true;
+            return copied;
+        });
+        if (stored[0]) {
+            // 이메일 인덱스는 getByEmail에서 사용자 이메일과 다시 비교하므로 따로 보호하지 않음
+            userIdsByEmail.put(user.getEmail(), user.getId());
+        }
+        return stored[0];
+    }
+
+    public void evict(User user) {
+        // 제거보다 먼저 증가: 이후의 저장은 거부되고, 그 전에 끝난 저장은 아래에서 제거됨
+        generation.incrementAndGet();
+        if (user.getId() != null) {
+            usersById.asMap().compute(user.getId(), (id, cached) -> {
+                if (cached != null) {
+                    userIdsByEmail.invalidate(cached.getEmail());
+                }
+                return null;
+            });
+        }
+        if (user.getEmail() != null) {
+            userIdsByEmail.invalidate(user.getEmail());
+        }
+    }
+
+    public CacheStats statsById() {
+        return usersById.stats();
+    }
+
+    public CacheStats statsByEmail() {
+        return userIdsByEmail.stats();
+    }
+
+    private static User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .username(user.getUsername())
+                .role(user.getRole())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
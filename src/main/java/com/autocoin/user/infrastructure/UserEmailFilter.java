@@ -0,0 +1,86 @@
+package com.autocoin.user.infrastructure;
+
+import com.autocoin.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 가입된 이메일의 블룸 필터
+ * 회원가입 시 처음 보는 이메일은 존재 여부 조회 없이 바로 저장하도록 하기 위한 힌트입니다.
+ *
+ * - 시작 시 users 테이블에서 채우고, 이 인스턴스에서 저장한 사용자는 즉시 추가
+ * - 다른 인스턴스에서 가입한 이메일은 알 수 없으므로 중복 여부의 최종 판단은 users.email 유니크 제약이 담당
+ * - 준비되기 전이거나 비활성화된 경우 항상 "있을 수 있음"으로 응답
+ */
+@Slf4j
+@Component
+public class UserEmailFilter {
+
+    private static final int WARM_UP_BATCH_SIZE = 10_000;
+
+    private final UserJpaRepository userJpaRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final BloomFilter bloomFilter;
+
+    private volatile boolean ready;
+
+    public UserEmailFilter(UserJpaRepository userJpaRepository,
+                           @Value("${user.email-filter.enabled:true}") boolean enabled,
+                           @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                           @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userJpaRepository = userJpaRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.bloomFilter = enabled ? BloomFilter.create(expectedInsertions, falsePositiveRate) : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long count = 0;
+        long afterId = 0L;
+        List<UserJpaRepository.UserEmail> batch;
+        do {
+            batch = userJpaRepository.findEmailsAfter(afterId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+            for (UserJpaRepository.UserEmail userEmail : batch) {
+                bloomFilter.put(normalize(userEmail.getEmail()));
+                afterId = userEmail.getId();
+            }
+            count += batch.size();
+        } while (batch.size() == WARM_UP_BATCH_SIZE);
+
+        ready = true;
+        if (count > expectedInsertions) {
+            log.warn("User email filter holds {} emails, more than the expected {}; false positive rate will rise", count, expectedInsertions);
+        }
+        log.info("User email filter warmed up with {} emails", count);
+    }
+
+    /**
+     * false이면 이 인스턴스가 아는 범위에서 해당 이메일의 사용자가 없습니다.
+     */
+    public boolean mightContain(String email) {
+        return !enabled || !ready || bloomFilter.mightContain(normalize(email));
+    }
+
+    public void add(String email) {
+        if (enabled && email != null) {
+            bloomFilter.put(normalize(email));
+        }
+    }
+
+    // 대소문자를 구분하지 않는 DB 정렬 규칙에서도 오판하지 않도록 소문자로 저장
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,13 +1,39 @@
 package com.autocoin.user.infrastructure;
 
 import com.autocoin.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserJpaRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 로그인 시 재해싱: 읽은 뒤 비밀번호가 바뀌었으면 덮어쓰지 않음
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :newPassword, u.updatedAt = :now "
+            + "where u.id = :id and u.password = :expectedPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("expectedPassword") String expectedPassword,
+                                  @Param("newPassword") String newPassword,
+                                  @Param("now") LocalDateTime now);
+
+    // id 순서로 이메일만 나눠 읽기 (UserEmailFilter 초기화용)
+    @Query("select u.id as id, u.email as email from User u where u.id > :afterId order by u.id")
+    List<UserEmail> findEmailsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface UserEmail {
+        Long getId();
+        String getEmail();
+    }
 }
@@ -4,7 +4,10 @@ import com.autocoin.user.domain.User;
 import com.autocoin.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -12,29 +15,94 @@ import java.util.Optional;
 public class UserRepositoryImpl implements UserRepository {
 
     private final UserJpaRepository userJpaRepository;
+    private final UserCache userCache;
+    private final UserEmailFilter userEmailFilter;
 
     @Override
     public User save(User user) {
-        return userJpaRepository.save(user);
+        // 저장 시 캐시를 채우지 않고 무효화만 하여, 롤백되더라도 캐시에 잘못된 값이 남지 않도록 함
+        userCache.evict(user);
+        User savedUser = userJpaRepository.save(user);
+        userCache.evict(savedUser);
+        userEmailFilter.add(savedUser.getEmail());
+        return savedUser;
+    }
+
+    @Override
+    public User saveAndFlush(User user) {
+        userCache.evict(user);
+        User savedUser = userJpaRepository.saveAndFlush(user);
+        userCache.evict(savedUser);
+        userEmailFilter.add(savedUser.getEmail());
+        return savedUser;
     }
 
     @Override
     public Optional<User> findById(Long id) {
-        return userJpaRepository.findById(id);
+        User cachedUser = userCache.getById(id);
+        if (cachedUser != null) {
+            return Optional.of(cachedUser);
+        }
+        long generation = userCache.currentGeneration();
+        Optional<User> user = userJpaRepository.findById(id);
+        user.ifPresent(found -> cache(found, generation));
+        return user;
+    }
+
+    @Override
+    public User getReferenceById(Long id) {
+        return userJpaRepository.getReferenceById(id);
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return userJpaRepository.findByEmail(email);
+        User cachedUser = userCache.getByEmail(email);
+        if (cachedUser != null) {
+            return Optional.of(cachedUser);
+        }
+        long generation = userCache.currentGeneration();
+        Optional<User> user = userJpaRepository.findByEmail(email);
+        user.ifPresent(found -> cache(found, generation));
+        return user;
     }
 
     @Override
     public boolean existsByEmail(String email) {
         return userJpaRepository.existsByEmail(email);
     }
+
+    // 읽기-쓰기 트랜잭션에 참여시켜 주 DB로 라우팅 (익명 요청은 쓰기 후 sticky 라우팅이 적용되지 않음)
+    @Override
+    @Transactional
+    public boolean existsByEmailOnPrimary(String email) {
+        return userJpaRepository.existsByEmail(email);
+    }
+
+    @Override
+    public boolean updatePasswordIfUnchanged(Long id, String expectedPassword, String newPassword) {
+        User key = User.builder().id(id).build();
+        userCache.evict(key);
+        boolean updated = userJpaRepository.updatePasswordIfUnchanged(id, expectedPassword, newPassword, LocalDateTime.now()) > 0;
+        userCache.evict(key);
+        return updated;
+    }
+
+    @Override
+    public boolean mightExistByEmail(String email) {
+        return userEmailFilter.mightContain(email);
+    }
     
     @Override
     public void delete(User user) {
+        userCache.evict(user);
         userJpaRepository.delete(user);
     }
+
+    private void cache(User user, long generation) {
+        // 쓰기 트랜잭션 안에서 읽은 값은 아직 커밋되지 않았을 수 있으므로 캐시하지 않음
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            userCache.putIfUnchanged(user, generation);
+        }
+    }
 }
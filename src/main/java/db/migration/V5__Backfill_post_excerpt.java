@@ -0,0 +1,58 @@
+package db.migration;
+
+import com.autocoin.post.domain.Post;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * excerpt 컬럼이 추가되기 전에 저장된 게시글의 excerpt를 채웁니다.
+ *
+ * 새 게시글과 같은 결과가 되도록 SQL(SUBSTRING)이 아닌 Post.excerptOf로 만듭니다.
+ * (연속 공백 축약, 서로게이트 쌍 보존, 잘린 경우 말줄임표)
+ * id 순으로 BATCH_SIZE개씩 읽고 갱신하며, updated_at은 바꾸지 않습니다.
+ *
+ * Flyway가 db/migration 위치에서 찾도록 db.migration 패키지에 둡니다.
+ */
+public class V5__Backfill_post_excerpt extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        long afterId = 0;
+        Map<Long, String> batch;
+        while (!(batch = findWithoutExcerpt(connection, afterId)).isEmpty()) {
+            try (PreparedStatement update = connection.prepareStatement("UPDATE posts SET excerpt = ? WHERE id = ?")) {
+                for (Map.Entry<Long, String> entry : batch.entrySet()) {
+                    update.setString(1, Post.excerptOf(entry.getValue()));
+                    update.setLong(2, entry.getKey());
+                    update.addBatch();
+                    afterId = entry.getKey();
+                }
+                update.executeBatch();
+            }
+        }
+    }
+
+    private Map<Long, String> findWithoutExcerpt(Connection connection, long afterId) throws SQLException {
+        Map<Long, String> batch = new LinkedHashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, content FROM posts WHERE excerpt IS NULL AND id > ? ORDER BY id LIMIT " + BATCH_SIZE)) {
+            select.setLong(1, afterId);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    batch.put(rs.getLong("id"), rs.getString("content"));
+                }
+            }
+        }
+        return batch;
+    }
+}
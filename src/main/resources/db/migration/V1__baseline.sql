@@ -0,0 +1,41 @@
+-- 기준 스키마: ddl-auto로 관리되던 시점(마이그레이션 도입 전)의 엔티티 구조와 동일
+-- (기존 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 기록하고 V2부터 적용하므로,
+--  이후 추가된 테이블/컬럼/인덱스는 여기가 아닌 V2 이후에 둠)
+-- MySQL과 H2(MODE=MySQL) 모두에서 실행할 수 있는 문법만 사용
+
+CREATE TABLE users (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    username   VARCHAR(255) NOT NULL,
+    role       ENUM ('ROLE_USER', 'ROLE_ADMIN') NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE posts (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(255) NOT NULL,
+    content    TEXT         NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE files (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    original_file_name VARCHAR(255) NOT NULL,
+    stored_file_name   VARCHAR(255) NOT NULL,
+    file_url           VARCHAR(255) NOT NULL,
+    content_type       VARCHAR(255) NOT NULL,
+    file_size          BIGINT,
+    user_id            BIGINT       NOT NULL,
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_files_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,3 @@
+-- 커서 기반 목록 조회: ORDER BY created_at DESC, id DESC 를 (user_id 조건 포함) 인덱스 순서대로 읽음
+CREATE INDEX idx_posts_created_at_id ON posts (created_at, id);
+CREATE INDEX idx_posts_user_id_created_at_id ON posts (user_id, created_at, id);
@@ -0,0 +1,5 @@
+-- 목록 요약용 본문 요약 (기존 게시글은 V5에서 Post.excerptOf와 같은 규칙으로 채움)
+ALTER TABLE posts ADD COLUMN excerpt VARCHAR(200);
+
+-- 낙관적 잠금 버전, 기존 게시글은 0부터 시작
+ALTER TABLE posts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
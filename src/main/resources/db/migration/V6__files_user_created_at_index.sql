@@ -0,0 +1,2 @@
+-- 내 파일 목록 / 스트리밍 조회: WHERE user_id = ? ORDER BY created_at, id 를 인덱스 순서대로 읽음
+CREATE INDEX idx_files_user_id_created_at_id ON files (user_id, created_at, id);
@@ -0,0 +1,2 @@
+-- 스트리밍 업로드 시 계산한 파일 내용 SHA-256 (hex), 기존 파일은 NULL
+ALTER TABLE files ADD COLUMN checksum_sha256 VARCHAR(64);
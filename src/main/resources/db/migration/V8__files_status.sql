@@ -0,0 +1,5 @@
+-- Presigned 업로드: 완료 전 파일은 PENDING, 기존 파일은 모두 업로드 완료 상태
+ALTER TABLE files ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'UPLOADED';
+
+-- 오래된 PENDING 파일 정리: WHERE status = 'PENDING' AND created_at < ?
+CREATE INDEX idx_files_status_created_at ON files (status, created_at);
@@ -0,0 +1,13 @@
+-- 내용 주소 저장: 같은 SHA-256의 파일들이 저장소 객체 하나를 공유하고 참조 수로 삭제 시점을 결정
+-- files.checksum_sha256 + file_url이 이 테이블의 행과 일치하는 파일이 참조, 그 외 기존 파일은 자기 객체를 단독 소유
+CREATE TABLE file_objects (
+    sha256       VARCHAR(64)  NOT NULL,
+    object_key   VARCHAR(255) NOT NULL,
+    file_url     VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    file_size    BIGINT       NOT NULL,
+    ref_count    INT          NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (sha256)
+);
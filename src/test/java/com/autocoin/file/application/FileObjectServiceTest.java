@@ -0,0 +1,240 @@
+package com.autocoin.file.application;
+
+import com.autocoin.file.domain.File;
+import com.autocoin.file.domain.FileObject;
+import com.autocoin.file.domain.FileObjectRepository;
+import com.autocoin.file.domain.FileRepository;
+import com.autocoin.global.util.S3Uploader;
+import com.autocoin.user.domain.Role;
+import com.autocoin.user.domain.User;
+import com.autocoin.user.domain.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * FileObjectService 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 내용 주소 객체의 참조 수 관리를 검증합니다:
+ * 1. 새 내용이면 호출자가 저장한 객체를 참조 수 1로 등록
+ * 2. 같은 내용이 있으면 참조 수만 증가 (그 사이 먼저 등록되었으면 이번에 저장한 객체 삭제)
+ * 3. 마지막 참조가 아닌 파일 삭제 시 객체 유지
+ * 4. 마지막 참조 삭제 시 등록 정보 삭제 후 (커밋 후) 저장소 객체 삭제
+ * 5. 내용 주소 객체를 참조하지 않는 기존 파일은 처리하지 않음
+ *
+ * 모든 테스트는 Mock 객체를 사용하여 외부 의존성(repository, S3)을 격리하고,
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class FileObjectServiceTest {
+
+    private static final String SHA256 = "a".repeat(64);
+    private static final String KEY = "files/" + SHA256 + "-0b7f3c1e-9a52-4c3d-8d1e-2f6a7b8c9d0e";
+    private static final String URL = "https://bucket.s3.amazonaws.com/" + KEY;
+
+    @Mock
+    private FileObjectRepository fileObjectRepository;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private S3Uploader s3Uploader;
+
+    @InjectMocks
+    private FileObjectService fileObjectService;
+
+    @Test
+    @DisplayName("새 내용 등록 테스트")
+    void addReference_NewContent() {
+        // Given: 호출자가 저장한 객체와 같은 해시의 객체가 등록되어 있지 않은 상황
+        given(fileObjectRepository.findBySha256ForUpdate(SHA256)).willReturn(Optional.empty());
+        given(fileObjectRepository.insert(any(FileObject.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(userRepository.getReferenceById(1L)).willReturn(owner());
+        given(fileRepository.save(any(File.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 참조 추가
+        File file = fileObjectService.addReference(content(), "report.pdf", 1L);
+
+        // Then: 저장한 키로 참조 수 1로 등록되고 파일이 객체를 가리키며 객체를 지우지 않는지 검증
+        ArgumentCaptor<FileObject> inserted = ArgumentCaptor.forClass(FileObject.class);
+        verify(fileObjectRepository).insert(inserted.capture());
+        assertEquals(1, inserted.getValue().getRefCount());
+        assertEquals(KEY, inserted.getValue().getObjectKey());
+        assertEquals(KEY.substring("files/".length()), file.getStoredFileName());
+        assertEquals(URL, file.getFileUrl());
+        assertEquals(SHA256, file.getChecksumSha256());
+        assertEquals("report.pdf", file.getOriginalFileName());
+        verify(s3Uploader, never()).deleteObject(anyString());
+    }
+
+    @Test
+    @DisplayName("저장하는 사이 먼저 등록된 같은 내용 재사용 테스트")
+    void addReference_RegisteredMeanwhile_DeletesOwnObject() {
+        // Given: 저장하는 사이 다른 요청이 같은 내용을 다른 키로 먼저 등록한 상황
+        FileObject object = fileObject(1);
+        S3Uploader.StreamedObject mine = new S3Uploader.StreamedObject(
+                URL + "-other", KEY + "-other", 1234L, SHA256, "application/pdf");
+        given(fileObjectRepository.findBySha256ForUpdate(SHA256)).willReturn(Optional.of(object));
+        given(userRepository.getReferenceById(2L)).willReturn(owner());
+        given(fileRepository.save(any(File.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 참조 추가
+        File file = fileObjectService.addReference(mine, "copy.pdf", 2L);
+
+        // Then: 등록된 객체를 참조하고 이번에 저장한 객체는 (트랜잭션 밖이므로 바로) 삭제되는지 검증
+        assertEquals(2, object.getRefCount());
+        assertEquals(URL, file.getFileUrl());
+        verify(fileObjectRepository, never()).insert(any());
+        verify(s3Uploader).deleteObject(KEY + "-other");
+    }
+
+    @Test
+    @DisplayName("같은 내용 재사용 테스트")
+    void addReferenceIfStored_ExistingContent() {
+        // Given: 같은 해시의 객체가 이미 있는 상황
+        FileObject object = fileObject(1);
+        given(fileObjectRepository.findBySha256ForUpdate(SHA256)).willReturn(Optional.of(object));
+        given(userRepository.getReferenceById(2L)).willReturn(owner());
+        given(fileRepository.save(any(File.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 다른 사용자가 같은 내용으로 참조 추가
+        Optional<File> file = fileObjectService.addReferenceIfStored(content(), "copy.pdf", 2L);
+
+        // Then: 참조 수만 늘어나고 등록된 객체를 가리키는지 검증
+        assertTrue(file.isPresent());
+        assertEquals(2, object.getRefCount());
+        verify(fileObjectRepository, never()).insert(any());
+        assertEquals(URL, file.get().getFileUrl());
+        assertEquals("copy.pdf", file.get().getOriginalFileName());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 내용 재사용 시도 테스트")
+    void addReferenceIfStored_NewContent() {
+        // Given: 같은 해시의 객체가 없는 상황
+        given(fileObjectRepository.findBySha256ForUpdate(SHA256)).willReturn(Optional.empty());
+
+        // When: 재사용 시도
+        Optional<File> file = fileObjectService.addReferenceIfStored(content(), "report.pdf", 1L);
+
+        // Then: 아무것도 저장하지 않고 empty 반환
+        assertTrue(file.isEmpty());
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("참조가 남은 파일 삭제 테스트")
+    void removeReference_OtherReferencesRemain() {
+        // Given: 참조가 2개인 객체를 가리키는 파일
+        FileObject object = fileObject(2);
+        given(fileObjectRepository.findBySha256ForUpdate(SHA256)).willReturn(Optional.of(object));
+
+        // When: 참조 제거
+        boolean removed = fileObjectService.removeReference(file(URL));
+
+        // Then: 참조 수만 줄고 객체는 유지되는지 검증
+        assertTrue(removed);
+        assertEquals(1, object.getRefCount());
+        verify(s3Uploader, never()).deleteObject(anyString());
+        verify(fileObjectRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("마지막 참조 삭제 테스트")
+    void removeReference_LastReference() {
+        // Given: 참조가 1개인 객체를 가리키는 파일
+        FileObject object = fileObject(1);
+        given(fileObjectRepository.findBySha256ForUpdate(SHA256)).willReturn(Optional.of(object));
+
+        // When: 참조 제거
+        boolean removed = fileObjectService.removeReference(file(URL));
+
+        // Then: 등록 정보가 삭제되고 (트랜잭션 밖이므로 바로) 저장소 객체가 삭제되는지 검증
+        assertTrue(removed);
+        verify(s3Uploader).deleteObject(KEY);
+        verify(fileObjectRepository).delete(object);
+    }
+
+    @Test
+    @DisplayName("마지막 참조 삭제 테스트 - 커밋 후 객체 삭제")
+    void removeReference_LastReference_DeletesObjectAfterCommit() {
+        // Given: 트랜잭션 안에서 참조가 1개인 객체를 가리키는 파일 삭제
+        FileObject object = fileObject(1);
+        given(fileObjectRepository.findBySha256ForUpdate(SHA256)).willReturn(Optional.of(object));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When: 참조 제거
+            fileObjectService.removeReference(file(URL));
+
+            // Then: 커밋 전에는 등록 정보만 삭제되고, 커밋 후에 저장소 객체가 삭제되는지 검증
+            verify(fileObjectRepository).delete(object);
+            verify(s3Uploader, never()).deleteObject(anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(s3Uploader).deleteObject(KEY);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("기존 방식 파일 삭제 테스트")
+    void removeReference_LegacyFile() {
+        // Given: 같은 해시지만 자기 객체(UUID 키)를 가진 기존 파일
+        given(fileObjectRepository.findBySha256ForUpdate(SHA256)).willReturn(Optional.of(fileObject(1)));
+
+        // When: 참조 제거
+        boolean removed = fileObjectService.removeReference(
+                file("https://bucket.s3.amazonaws.com/files/uuid_report.pdf"));
+
+        // Then: 공유 객체를 건드리지 않고 false를 반환하는지 검증
+        assertFalse(removed);
+        verify(s3Uploader, never()).deleteObject(anyString());
+    }
+
+    private static S3Uploader.StreamedObject content() {
+        return new S3Uploader.StreamedObject(URL, KEY, 1234L, SHA256, "application/pdf");
+    }
+
+    private static FileObject fileObject(int refCount) {
+        return FileObject.builder()
+                .sha256(SHA256)
+                .objectKey(KEY)
+                .fileUrl(URL)
+                .contentType("application/pdf")
+                .fileSize(1234L)
+                .refCount(refCount)
+                .build();
+    }
+
+    private static File file(String fileUrl) {
+        return File.builder()
+                .id(10L)
+                .fileUrl(fileUrl)
+                .checksumSha256(SHA256)
+                .user(owner())
+                .build();
+    }
+
+    private static User owner() {
+        return User.builder().id(1L).email("owner@example.com").username("owner").role(Role.ROLE_USER).build();
+    }
+}
@@ -0,0 +1,355 @@
+package com.autocoin.file.application;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.autocoin.file.domain.File;
+import com.autocoin.file.domain.FileRepository;
+import com.autocoin.file.domain.FileStatus;
+import com.autocoin.file.dto.PresignedUploadRequestDto;
+import com.autocoin.file.dto.PresignedUploadResponseDto;
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import com.autocoin.global.util.S3Uploader;
+import com.autocoin.user.domain.Role;
+import com.autocoin.user.domain.User;
+import com.autocoin.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * FileService 업로드/삭제 흐름의 단위 테스트
+ *
+ * 이 테스트 클래스는 클라이언트 직접 업로드의 다음 기능을 검증합니다:
+ * 1. 업로드 URL 발급과 PENDING 파일 저장, 최대 크기 제한
+ * 2. 완료 처리 - 저장된 객체 크기/ETag 확인 후 PENDING인 경우에만 UPLOADED로 변경
+ * 3. 객체가 없거나 크기가 다를 때 완료 거부 (잘못 올라간 객체 삭제)
+ * 4. 방치된 업로드 정리 - 조건부 삭제에 성공한 경우에만 객체 삭제
+ * 5. 기존 서버 업로드 파일 삭제 시 실제 객체 키 사용
+ * 6. 내용 주소 업로드 - 같은 내용이면 저장 생략, 새 내용은 트랜잭션 밖에서 저장 후 등록 (실패 시 저장한 객체 삭제)
+ * 7. multipart 파일 업로드는 해시를 먼저 계산하는 다시 읽을 수 있는 내용으로 저장
+ *
+ * 모든 테스트는 Mock 객체를 사용하여 외부 의존성(repository, S3)을 격리하고,
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class FileServiceTest {
+
+    private static final S3Uploader.StreamedObject STORED = new S3Uploader.StreamedObject(
+            "https://bucket.s3.amazonaws.com/files/abc-1", "files/abc-1", 0L, "abc", "text/plain");
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private S3Uploader s3Uploader;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FileObjectService fileObjectService;
+
+    @InjectMocks
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fileService, "maxSize", DataSize.ofGigabytes(5));
+        ReflectionTestUtils.setField(fileService, "presignedExpiry", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(fileService, "sweepGrace", Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 URL 발급 테스트")
+    void createPresignedUpload() throws Exception {
+        // Given: 업로드할 파일 정보
+        String key = "files/uuid_report.pdf";
+        given(s3Uploader.newObjectKey("report.pdf", "files")).willReturn(key);
+        given(s3Uploader.urlOf(key)).willReturn("https://bucket.s3.amazonaws.com/" + key);
+        given(s3Uploader.presignPut(eq(key), eq("application/pdf"), any(Instant.class)))
+                .willReturn(new URL("https://bucket.s3.amazonaws.com/" + key + "?X-Amz-Signature=sig"));
+        given(userRepository.getReferenceById(1L)).willReturn(owner());
+        given(fileRepository.save(any(File.class))).willAnswer(invocation -> {
+            File file = invocation.getArgument(0);
+            ReflectionTestUtils.setField(file, "id", 10L);
+            return file;
+        });
+
+        // When: 업로드 URL 발급
+        PresignedUploadResponseDto response = fileService.createPresignedUpload(
+                new PresignedUploadRequestDto("report.pdf", "application/pdf", 1234L), 1L);
+
+        // Then: PENDING 파일이 저장되고 서명된 PUT URL과 보낼 헤더가 반환되는지 검증
+        ArgumentCaptor<File> saved = ArgumentCaptor.forClass(File.class);
+        verify(fileRepository).save(saved.capture());
+        assertEquals(FileStatus.PENDING, saved.getValue().getStatus());
+        assertEquals("uuid_report.pdf", saved.getValue().getStoredFileName());
+        assertEquals(1234L, saved.getValue().getFileSize());
+        assertEquals(10L, response.getFileId());
+        assertEquals("PUT", response.getMethod());
+        assertTrue(response.getUploadUrl().contains("X-Amz-Signature"));
+        assertEquals("application/pdf", response.getHeaders().get("Content-Type"));
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 최대 크기 초과 테스트")
+    void createPresignedUpload_TooLarge() {
+        // Given: 최대 크기(5GB)보다 큰 파일
+        PresignedUploadRequestDto request = new PresignedUploadRequestDto("huge.bin", null, DataSize.ofGigabytes(6).toBytes());
+
+        // When & Then: FILE_TOO_LARGE 예외가 발생하고 저장하지 않는지 검증
+        CustomException exception = assertThrows(CustomException.class, () -> fileService.createPresignedUpload(request, 1L));
+        assertEquals(ErrorCode.FILE_TOO_LARGE, exception.getErrorCode());
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 완료 테스트")
+    void completeUpload() {
+        // Given: 선언한 크기와 같은 객체가 업로드된 PENDING 파일
+        File file = pendingFile(1234L);
+        File uploaded = File.builder().id(10L).storedFileName("uuid_report.pdf").contentType("application/pdf")
+                .fileSize(1234L).status(FileStatus.UPLOADED).user(owner()).build();
+        given(fileRepository.findById(10L)).willReturn(Optional.of(file), Optional.of(uploaded));
+        given(s3Uploader.findObjectMetadata("files/uuid_report.pdf")).willReturn(Optional.of(metadata(1234L, "abc")));
+        given(fileRepository.completeIfPending(10L, 1234L, "application/pdf")).willReturn(true);
+
+        // When: ETag와 함께 완료 요청
+        File completed = fileService.completeUpload(10L, "\"abc\"", 1L);
+
+        // Then: 확인한 크기/타입으로 조건부 완료 처리되고 공개 읽기 권한이 설정되는지 검증
+        assertEquals(FileStatus.UPLOADED, completed.getStatus());
+        assertEquals("application/pdf", completed.getContentType());
+        verify(fileRepository).completeIfPending(10L, 1234L, "application/pdf");
+        verify(s3Uploader).makePublic("files/uuid_report.pdf");
+        verify(s3Uploader, never()).deleteObject(anyString());
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 완료 테스트 - 확인하는 사이 정리됨")
+    void completeUpload_SweptMeanwhile() {
+        // Given: 객체 확인 후 완료 처리 전에 정리 작업이 행을 삭제한 상황
+        given(fileRepository.findById(10L)).willReturn(Optional.of(pendingFile(1234L)), Optional.empty());
+        given(s3Uploader.findObjectMetadata("files/uuid_report.pdf")).willReturn(Optional.of(metadata(1234L, "abc")));
+        given(fileRepository.completeIfPending(10L, 1234L, "application/pdf")).willReturn(false);
+
+        // When & Then: FILE_NOT_FOUND 예외 발생 검증
+        CustomException exception = assertThrows(CustomException.class, () -> fileService.completeUpload(10L, null, 1L));
+        assertEquals(ErrorCode.FILE_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 완료 테스트 - 객체 없음")
+    void completeUpload_ObjectMissing() {
+        // Given: 아직 업로드되지 않은 PENDING 파일
+        given(fileRepository.findById(10L)).willReturn(Optional.of(pendingFile(1234L)));
+        given(s3Uploader.findObjectMetadata("files/uuid_report.pdf")).willReturn(Optional.empty());
+
+        // When & Then: FILE_UPLOAD_INCOMPLETE 예외 발생 검증
+        CustomException exception = assertThrows(CustomException.class, () -> fileService.completeUpload(10L, null, 1L));
+        assertEquals(ErrorCode.FILE_UPLOAD_INCOMPLETE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 완료 테스트 - 크기 불일치")
+    void completeUpload_SizeMismatch() {
+        // Given: 선언한 크기와 다른 객체가 업로드된 상황
+        File file = pendingFile(1234L);
+        given(fileRepository.findById(10L)).willReturn(Optional.of(file));
+        given(s3Uploader.findObjectMetadata("files/uuid_report.pdf")).willReturn(Optional.of(metadata(99L, "abc")));
+
+        // When & Then: 완료를 거부하고 잘못 올라간 객체를 삭제하는지 검증
+        CustomException exception = assertThrows(CustomException.class, () -> fileService.completeUpload(10L, null, 1L));
+        assertEquals(ErrorCode.FILE_UPLOAD_INCOMPLETE, exception.getErrorCode());
+        verify(s3Uploader).deleteObject("files/uuid_report.pdf");
+        verify(fileRepository, never()).completeIfPending(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Presigned 업로드 완료 테스트 - 다른 사용자")
+    void completeUpload_NotOwner() {
+        // Given: 다른 사용자의 PENDING 파일
+        given(fileRepository.findById(10L)).willReturn(Optional.of(pendingFile(1234L)));
+
+        // When & Then: ACCESS_DENIED 예외가 발생하고 저장소를 조회하지 않는지 검증
+        CustomException exception = assertThrows(CustomException.class, () -> fileService.completeUpload(10L, null, 2L));
+        assertEquals(ErrorCode.ACCESS_DENIED, exception.getErrorCode());
+        verify(s3Uploader, never()).findObjectMetadata(anyString());
+    }
+
+    @Test
+    @DisplayName("방치된 업로드 정리 테스트")
+    void sweepAbandonedUploads() {
+        // Given: 오래된 PENDING 파일 2개 중 하나는 정리 직전에 완료된 상황
+        File abandoned = pendingFile(1L);
+        File completedMeanwhile = File.builder().id(11L).storedFileName("uuid_other.bin").status(FileStatus.PENDING).build();
+        given(fileRepository.findPendingCreatedBefore(any(), eq(100))).willReturn(List.of(abandoned, completedMeanwhile));
+        given(fileRepository.deleteIfPending(10L)).willReturn(true);
+        given(fileRepository.deleteIfPending(11L)).willReturn(false);
+
+        // When: 정리 실행
+        fileService.sweepAbandonedUploads();
+
+        // Then: 행 삭제에 성공한 파일의 객체만 삭제하는지 검증
+        verify(s3Uploader).deleteObject("files/uuid_report.pdf");
+        verify(s3Uploader, never()).deleteObject("files/uuid_other.bin");
+    }
+
+    @Test
+    @DisplayName("같은 내용 업로드 시 저장 생략 테스트")
+    void storeFile_ExistingContent_SkipsStore() {
+        // Given: 같은 내용의 객체가 이미 등록된 상황
+        AtomicInteger stores = new AtomicInteger();
+        File shared = File.builder().id(30L).status(FileStatus.UPLOADED).build();
+        givenContentAddressedUpload(stores);
+        given(fileObjectService.addReferenceIfStored(STORED, "a.txt", 1L)).willReturn(Optional.of(shared));
+
+        // When: 업로드
+        File file = fileService.storeFile(new ByteArrayInputStream(new byte[0]), "a.txt", "text/plain", 1L);
+
+        // Then: 저장소에 쓰지 않고 참조만 추가되는지 검증
+        assertSame(shared, file);
+        assertEquals(0, stores.get());
+        verify(fileObjectService, never()).addReference(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("새 내용 업로드 시 트랜잭션 밖 저장 후 등록 테스트")
+    void storeFile_NewContent_StoresThenRegisters() {
+        // Given: 등록되지 않은 내용이며 동시에 처음 올린 요청과 한 번 충돌하는 상황
+        AtomicInteger stores = new AtomicInteger();
+        File registered = File.builder().id(31L).status(FileStatus.UPLOADED).build();
+        givenContentAddressedUpload(stores);
+        given(fileObjectService.addReferenceIfStored(STORED, "a.txt", 1L)).willReturn(Optional.empty());
+        given(fileObjectService.addReference(STORED, "a.txt", 1L))
+                .willThrow(new DataIntegrityViolationException("duplicate sha256"))
+                .willReturn(registered);
+
+        // When: 업로드
+        File file = fileService.storeFile(new ByteArrayInputStream(new byte[0]), "a.txt", "text/plain", 1L);
+
+        // Then: 한 번 저장하고 재시도로 등록되며 저장한 객체는 유지되는지 검증
+        assertSame(registered, file);
+        assertEquals(1, stores.get());
+        verify(fileObjectService, times(2)).addReference(STORED, "a.txt", 1L);
+        verify(s3Uploader, never()).deleteObject(anyString());
+    }
+
+    @Test
+    @DisplayName("새 내용 등록 실패 시 저장한 객체 삭제 테스트")
+    void storeFile_RegisterFails_DeletesStoredObject() {
+        // Given: 저장 후 등록이 계속 실패하는 상황
+        givenContentAddressedUpload(new AtomicInteger());
+        given(fileObjectService.addReferenceIfStored(STORED, "a.txt", 1L)).willReturn(Optional.empty());
+        given(fileObjectService.addReference(STORED, "a.txt", 1L))
+                .willThrow(new DataIntegrityViolationException("constraint"));
+
+        // When & Then: 예외가 전파되고 아무 파일도 가리키지 않는 객체가 삭제되는지 검증
+        assertThrows(DataIntegrityViolationException.class,
+                () -> fileService.storeFile(new ByteArrayInputStream(new byte[0]), "a.txt", "text/plain", 1L));
+        verify(s3Uploader).deleteObject(STORED.key());
+    }
+
+    @Test
+    @DisplayName("multipart 파일 업로드 시 해시 우선 저장 테스트")
+    void uploadFile_HashesBeforeUpload() {
+        // Given: 같은 내용의 객체가 이미 등록된 상황
+        AtomicInteger stores = new AtomicInteger();
+        File shared = File.builder().id(30L).status(FileStatus.UPLOADED).build();
+        MockMultipartFile multipartFile = new MockMultipartFile("file", "a.txt", "text/plain", new byte[]{1, 2, 3});
+        given(s3Uploader.uploadContentAddressed(any(InputStreamSource.class), eq("text/plain"), eq("files"), any()))
+                .willAnswer(invocation -> invocation.<S3Uploader.ContentPublisher<File>>getArgument(3)
+                        .publish(STORED, stores::incrementAndGet));
+        given(fileObjectService.addReferenceIfStored(STORED, "a.txt", 1L)).willReturn(Optional.of(shared));
+
+        // When: multipart 파일 업로드
+        File file = fileService.uploadFile(multipartFile, 1L);
+
+        // Then: 한 번만 읽을 수 있는 스트림 버전(임시 키 업로드 후 복사)을 쓰지 않고, 저장소에 쓰지 않는지 검증
+        assertSame(shared, file);
+        assertEquals(0, stores.get());
+        verify(s3Uploader, never()).uploadContentAddressed(any(InputStream.class), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("기존 서버 업로드 파일 삭제 테스트")
+    void deleteFile_LegacyUpload_DeletesDecodedKey() {
+        // Given: 내용 주소 저장 이전에 올라가 URL 인코딩된 이름이 storedFileName에 저장된 파일
+        File legacy = File.builder()
+                .id(20L)
+                .storedFileName("uuid_%EB%B3%B4%EA%B3%A0%EC%84%9C.pdf")
+                .fileUrl("https://bucket.s3.amazonaws.com/files/uuid_%EB%B3%B4%EA%B3%A0%EC%84%9C.pdf")
+                .status(FileStatus.UPLOADED)
+                .user(owner())
+                .build();
+        given(fileRepository.findById(20L)).willReturn(Optional.of(legacy));
+        given(fileObjectService.removeReference(legacy)).willReturn(false);
+
+        // When: 파일 삭제
+        fileService.deleteFile(20L, 1L);
+
+        // Then: 디렉터리를 포함한 실제 객체 키로 삭제하는지 검증
+        verify(s3Uploader).deleteObject("files/uuid_보고서.pdf");
+        verify(fileRepository).delete(legacy);
+    }
+
+    private void givenContentAddressedUpload(AtomicInteger stores) {
+        given(s3Uploader.uploadContentAddressed(any(InputStream.class), eq("text/plain"), eq("files"), any()))
+                .willAnswer(invocation -> invocation.<S3Uploader.ContentPublisher<File>>getArgument(3)
+                        .publish(STORED, stores::incrementAndGet));
+    }
+
+    private File pendingFile(long size) {
+        return File.builder()
+                .id(10L)
+                .originalFileName("report.pdf")
+                .storedFileName("uuid_report.pdf")
+                .fileUrl("https://bucket.s3.amazonaws.com/files/uuid_report.pdf")
+                .contentType("application/octet-stream")
+                .fileSize(size)
+                .status(FileStatus.PENDING)
+                .user(owner())
+                .build();
+    }
+
+    private static ObjectMetadata metadata(long size, String etag) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        metadata.setContentType("application/pdf");
+        metadata.setHeader("ETag", etag);
+        return metadata;
+    }
+
+    private static User owner() {
+        return User.builder().id(1L).email("owner@example.com").username("owner").role(Role.ROLE_USER).build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.autocoin.file.application;
+
+import com.autocoin.file.domain.File;
+import com.autocoin.file.domain.UploadJobStatus;
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * FileUploadJobService 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 비동기 업로드 작업의 다음 기능을 검증합니다:
+ * 1. 본문을 임시 저장소에 받은 뒤 작업자 스레드에서 저장, 진행률과 완료 상태 반영
+ * 2. 저장 실패 시 FAILED 상태와 오류 코드
+ * 3. 작업 수 상한 초과 시 SERVICE_BUSY 거부
+ * 4. 다른 사용자의 작업 조회 거부
+ *
+ * FileService는 Mock으로 대체하여 저장소 전송을 격리하고,
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class FileUploadJobServiceTest {
+
+    private static final String BOUNDARY = "boundary123";
+    private static final String CONTENT_TYPE = "multipart/form-data; boundary=" + BOUNDARY;
+
+    @Mock
+    private FileService fileService;
+
+    @TempDir
+    private Path stagingDir;
+
+    private FileUploadJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new FileUploadJobService(fileService, 1, 1, stagingDir.toString(), Duration.ofMinutes(10), 5,
+                DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("비동기 업로드 완료 테스트")
+    void submit_CompletesInBackground() throws Exception {
+        // Given: 해시 계산과 저장소 전송을 위해 내용을 두 번 읽고 파일 ID 7을 반환하는 저장 동작
+        given(fileService.storeFile(any(InputStreamSource.class), eq("a.txt"), eq("text/plain"), eq(1L))).willAnswer(invocation -> {
+            InputStreamSource content = invocation.getArgument(0);
+            for (int i = 0; i < 2; i++) {
+                try (InputStream in = content.getInputStream()) {
+                    assertEquals("hello world", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+            return File.builder().id(7L).build();
+        });
+
+        // When: 업로드 요청 후 작업 완료 대기
+        UploadJob job = jobService.submit(CONTENT_TYPE, body("hello world"), 1L);
+        UploadJob finished = awaitFinished(job.getId(), 1L);
+
+        // Then: 완료 상태와 파일 ID, (해시 계산을 제외한 전송만의) 진행률이 반영되고 임시 파일이 삭제되는지 검증
+        assertEquals(11, job.getTotalBytes());
+        assertEquals(UploadJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(7L, finished.getFileId());
+        assertEquals(11, finished.getUploadedBytes());
+        assertFalse(Files.exists(job.getStagedFile()));
+    }
+
+    @Test
+    @DisplayName("비동기 업로드 실패 테스트")
+    void submit_FailureIsReported() throws Exception {
+        // Given: 저장소 전송이 실패하는 상황
+        given(fileService.storeFile(any(InputStreamSource.class), any(), any(), eq(1L)))
+                .willThrow(new CustomException(ErrorCode.FILE_UPLOAD_ERROR));
+
+        // When: 업로드 요청 후 작업 종료 대기
+        UploadJob job = jobService.submit(CONTENT_TYPE, body("data"), 1L);
+        UploadJob finished = awaitFinished(job.getId(), 1L);
+
+        // Then: FAILED 상태와 오류 코드가 기록되고 임시 파일이 삭제되는지 검증
+        assertEquals(UploadJobStatus.FAILED, finished.getStatus());
+        assertEquals(ErrorCode.FILE_UPLOAD_ERROR, finished.getErrorCode());
+        assertFalse(Files.exists(job.getStagedFile()));
+    }
+
+    @Test
+    @DisplayName("작업 수 상한 초과 테스트")
+    void submit_RejectsWhenAtCapacity() throws Exception {
+        // Given: 작업 상한 1개가 처리 중인 상황
+        CountDownLatch release = new CountDownLatch(1);
+        given(fileService.storeFile(any(InputStreamSource.class), any(), any(), eq(1L))).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return File.builder().id(1L).build();
+        });
+        UploadJob first = jobService.submit(CONTENT_TYPE, body("first"), 1L);
+
+        // When & Then: 다음 요청은 SERVICE_BUSY(Retry-After)로 거부되는지 검증
+        CustomException exception = assertThrows(CustomException.class,
+                () -> jobService.submit(CONTENT_TYPE, body("second"), 1L));
+        assertEquals(ErrorCode.SERVICE_BUSY, exception.getErrorCode());
+        assertEquals(5L, exception.getRetryAfterSeconds());
+
+        // Then: 처리 중인 작업이 끝나면 다시 받을 수 있는지 검증
+        release.countDown();
+        awaitFinished(first.getId(), 1L);
+        assertNotNull(jobService.submit(CONTENT_TYPE, body("third"), 1L));
+    }
+
+    @Test
+    @DisplayName("다른 사용자 작업 조회 테스트")
+    void findJob_OtherUser() {
+        // Given: 사용자 1의 작업 (작업자가 처리하지 않도록 저장 동작은 지정하지 않음)
+        UploadJob job = jobService.submit(CONTENT_TYPE, body("data"), 1L);
+
+        // When & Then: 다른 사용자가 조회하면 UPLOAD_JOB_NOT_FOUND 예외 발생 검증
+        CustomException exception = assertThrows(CustomException.class, () -> jobService.findJob(job.getId(), 2L));
+        assertEquals(ErrorCode.UPLOAD_JOB_NOT_FOUND, exception.getErrorCode());
+    }
+
+    private UploadJob awaitFinished(String jobId, Long userId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            UploadJob job = jobService.findJob(jobId, userId);
+            if (job.getStatus() == UploadJobStatus.COMPLETED || job.getStatus() == UploadJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        return fail("작업이 시간 안에 끝나지 않았습니다");
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"a.txt\"\r\n"
+                + "Content-Type: text/plain\r\n"
+                + "\r\n"
+                + content + "\r\n"
+                + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
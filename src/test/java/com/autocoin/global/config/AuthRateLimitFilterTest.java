@@ -0,0 +1,209 @@
+package com.autocoin.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AuthRateLimitFilter 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. 이메일 확인을 위해 읽은 본문을 컨트롤러가 다시 읽을 수 있는지 (InputStream, Reader, ReadListener)
+ * 2. IP 제한 초과 시 429와 Retry-After 응답
+ * 3. IP+이메일 제한 초과 시 429, 다른 IP의 같은 이메일 요청은 허용
+ * 4. 여러 IP에서 같은 계정의 로그인 실패가 쌓이면 429, 성공한 로그인은 반영하지 않음
+ * 5. 제한 대상이 아닌 요청은 통과
+ *
+ * 실제 AuthRateLimiter(토큰 버킷)와 MockHttpServletRequest를 사용하며,
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+public class AuthRateLimitFilterTest {
+
+    private static final String LOGIN_BODY = "{\"email\":\"test@example.com\",\"password\":\"Password123!\"}";
+
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // IP당 3회, IP+이메일당 1회, 계정당 로그인 실패 2회 (테스트 중에는 보충되지 않음)
+        AuthRateLimiter rateLimiter = new AuthRateLimiter(true, 3, 3, 1, 1, 2, 1, 1000, 600, new SimpleMeterRegistry());
+        filter = new AuthRateLimitFilter(rateLimiter);
+    }
+
+    @Test
+    @DisplayName("읽은 본문 재제공 테스트")
+    void doFilter_ReplaysBody() throws Exception {
+        // Given: 로그인 요청과 본문을 두 번 읽는 다음 필터
+        List<String> bodies = new ArrayList<>();
+        FilterChain chain = (request, response) -> {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            bodies.add(new String(httpRequest.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            bodies.add(httpRequest.getReader().readLine());
+            assertEquals(LOGIN_BODY.length(), httpRequest.getContentLength());
+        };
+
+        // When: 필터 실행
+        filter.doFilter(loginRequest("10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        // Then: 컨트롤러가 원래 본문을 그대로 받는지 검증
+        assertEquals(List.of(LOGIN_BODY, LOGIN_BODY), bodies);
+    }
+
+    @Test
+    @DisplayName("비동기 읽기(ReadListener) 테스트")
+    void doFilter_ReplayedBodySupportsReadListener() throws Exception {
+        // Given: 비동기 방식으로 본문을 읽는 다음 필터
+        List<String> events = new ArrayList<>();
+        FilterChain chain = (request, response) -> {
+            ServletInputStream inputStream = request.getInputStream();
+            inputStream.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.add("data:" + new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    events.add("error");
+                }
+            });
+        };
+
+        // When: 필터 실행
+        filter.doFilter(loginRequest("10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        // Then: 데이터 알림 후 완료 알림이 전달되는지 검증
+        assertEquals(List.of("data:" + LOGIN_BODY, "done"), events);
+    }
+
+    @Test
+    @DisplayName("IP+이메일 제한 초과 테스트")
+    void doFilter_RejectsRepeatedEmailFromSameIp() throws Exception {
+        // Given: 같은 IP에서 같은 이메일로 한 번 요청한 상황
+        filter.doFilter(loginRequest("10.0.0.1"), new MockHttpServletResponse(), (request, response) -> { });
+
+        // When: 같은 IP/이메일로 다시 요청
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean[] passed = {false};
+        filter.doFilter(loginRequest("10.0.0.1"), response, (request, res) -> passed[0] = true);
+
+        // Then: 컨트롤러에 도달하지 않고 429, Retry-After, 오류 코드가 응답되는지 검증
+        assertFalse(passed[0]);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertTrue(Long.parseLong(response.getHeader(HttpHeaders.RETRY_AFTER)) >= 1);
+        assertTrue(response.getContentAsString().contains("C008"));
+    }
+
+    @Test
+    @DisplayName("다른 IP의 같은 이메일 요청 허용 테스트")
+    void doFilter_EmailLimitIsPerClientIp() throws Exception {
+        // Given: 한 IP에서 이메일 제한을 모두 사용한 상황
+        filter.doFilter(loginRequest("10.0.0.1"), new MockHttpServletResponse(), (request, response) -> { });
+
+        // When: 다른 IP에서 같은 이메일로 요청
+        boolean[] passed = {false};
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(loginRequest("10.0.0.2"), response, (request, res) -> passed[0] = true);
+
+        // Then: 해당 사용자의 로그인이 막히지 않는지 검증
+        assertTrue(passed[0]);
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+    }
+
+    @Test
+    @DisplayName("여러 IP에서 한 계정 로그인 실패 제한 테스트")
+    void doFilter_RejectsAccountAfterFailuresFromManyIps() throws Exception {
+        // Given: 서로 다른 IP에서 같은 이메일로 로그인에 두 번 실패한 상황
+        for (int i = 1; i <= 2; i++) {
+            filter.doFilter(loginRequest("10.0.1." + i), new MockHttpServletResponse(),
+                    (request, response) -> ((HttpServletResponse) response).setStatus(HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        // When: 또 다른 IP에서 같은 이메일로 요청
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(loginRequest("10.0.1.3"), response, (request, res) -> fail("제한된 요청이 통과했습니다"));
+
+        // Then: IP, IP+이메일 제한과 무관하게 계정 기준으로 429
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertNotNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("성공한 로그인은 계정 제한에 반영하지 않음 테스트")
+    void doFilter_SuccessfulLoginsDoNotConsumeAccountLimit() throws Exception {
+        // When: 서로 다른 IP에서 같은 이메일로 계정 제한보다 많이 로그인 성공
+        int[] calls = {0};
+        for (int i = 1; i <= 4; i++) {
+            filter.doFilter(loginRequest("10.0.2." + i), new MockHttpServletResponse(), (request, response) -> calls[0]++);
+        }
+
+        // Then: 모두 통과하는지 검증
+        assertEquals(4, calls[0]);
+    }
+
+    @Test
+    @DisplayName("IP 제한 초과 테스트")
+    void doFilter_RejectsWhenIpLimitExceeded() throws Exception {
+        // Given: 같은 IP에서 서로 다른 이메일로 IP 제한(3회)을 모두 사용한 상황
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = loginRequest("10.0.0.1");
+            request.setContent(("{\"email\":\"user" + i + "@example.com\"}").getBytes(StandardCharsets.UTF_8));
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+        }
+
+        // When: 한 번 더 요청
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(loginRequest("10.0.0.1"), response, (request, res) -> fail("제한된 요청이 통과했습니다"));
+
+        // Then: 429와 Retry-After가 응답되는지 검증
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertNotNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("제한 대상이 아닌 요청 통과 테스트")
+    void doFilter_SkipsOtherPaths() throws Exception {
+        // Given: 제한 대상이 아닌 경로
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/posts");
+        request.setRemoteAddr("10.0.0.1");
+        int[] calls = {0};
+
+        // When: 제한 횟수보다 많이 요청
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> calls[0]++);
+        }
+
+        // Then: 모두 통과하는지 검증
+        assertEquals(5, calls[0]);
+    }
+
+    private static MockHttpServletRequest loginRequest(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(LOGIN_BODY.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -1,5 +1,8 @@
 package com.autocoin.global.config;
 
+import com.autocoin.user.application.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +20,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -29,6 +33,7 @@ import static org.mockito.Mockito.*;
  * 2. 토큰이 없을 때 인증 처리
  * 3. 유효하지 않은 토큰일 때 인증 처리
  * 4. 토큰 처리 중 예외 발생 시 처리
+ * 5. 로그아웃으로 폐기된 토큰일 때 인증 처리
  *
  * 각 테스트는 Mock 객체를 사용하여 외부 의존성을 격리하고,
  * Given-When-Then 패턴을 따라 작성되었습니다.
@@ -51,6 +56,12 @@ public class JwtAuthenticationFilterTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private Claims claims;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     /**
@@ -60,7 +71,9 @@ public class JwtAuthenticationFilterTest {
     @BeforeEach
     void setUp() {
         // 각 테스트 전에 필터 객체와 보안 컨텍스트 초기화
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider);
+        // 토큰 캐시는 비활성화하여 매 요청이 JwtTokenProvider로 위임되도록 설정
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, false, 0, new SimpleMeterRegistry());
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache, tokenRevocationService);
         SecurityContextHolder.clearContext();
     }
 
@@ -69,6 +82,7 @@ public class JwtAuthenticationFilterTest {
      * 
      * 검증 내용:
      * - 유효한 토큰이 있을 때 JwtTokenProvider를 통해 인증 정보를 가져오는지 확인
+     * - 토큰 검증(파싱)이 요청당 한 번만 수행되는지 확인
      * - FilterChain이 올바르게 계속 실행되는지 확인
      */
     @Test
@@ -77,18 +91,47 @@ public class JwtAuthenticationFilterTest {
         // Given: 유효한 토큰 설정
         String token = "valid-token";
         given(jwtTokenProvider.resolveToken(request)).willReturn(token);
-        given(jwtTokenProvider.validateToken(token)).willReturn(true);
-        given(jwtTokenProvider.getAuthentication(token)).willReturn(authentication);
+        given(jwtTokenProvider.parseClaims(token)).willReturn(claims);
+        given(jwtTokenProvider.getAuthentication(claims)).willReturn(authentication);
 
         // When: 필터 실행
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then: 필터체인이 계속 실행되고, 인증 정보가 올바르게 처리되는지 검증
         verify(filterChain, times(1)).doFilter(request, response);
-        verify(jwtTokenProvider, times(1)).getAuthentication(token);
+        verify(jwtTokenProvider, times(1)).parseClaims(token);
+        verify(jwtTokenProvider, times(1)).getAuthentication(claims);
+        verify(jwtTokenProvider, never()).validateToken(anyString());
         // SecurityContextHolder에 설정된 인증 정보는 static 컨텍스트이므로 직접 검증하기 어려움
     }
 
+    /**
+     * 폐기된 토큰일 때 인증 처리 테스트
+     *
+     * 검증 내용:
+     * - 서명이 유효하더라도 jti가 폐기 목록에 있으면 인증 정보를 만들지 않는지 확인
+     * - FilterChain이 계속 실행되는지 확인
+     */
+    @Test
+    @DisplayName("폐기된 토큰일 때 인증 처리 테스트")
+    void doFilterInternal_RevokedToken() throws ServletException, IOException {
+        // Given: 서명은 유효하지만 로그아웃으로 폐기된 토큰 설정
+        String token = "revoked-token";
+        given(jwtTokenProvider.resolveToken(request)).willReturn(token);
+        given(jwtTokenProvider.parseClaims(token)).willReturn(claims);
+        given(claims.getId()).willReturn("revoked-jti");
+        given(tokenRevocationService.isRevoked("revoked-jti")).willReturn(true);
+
+        // When: 필터 실행
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Then: 인증 정보 없이 필터체인이 계속 실행되는지 검증
+        verify(filterChain, times(1)).doFilter(request, response);
+        verify(jwtTokenProvider, never()).getAuthentication(any(Claims.class));
+        assertNull(SecurityContextHolder.getContext().getAuthentication(),
+                  "폐기된 토큰은 SecurityContext에 인증 정보가 설정되지 않아야 합니다");
+    }
+
     /**
      * 토큰이 없을 때 인증 처리 테스트
      * 
@@ -107,7 +150,7 @@ public class JwtAuthenticationFilterTest {
 
         // Then: 필터체인이 계속 실행되고, 인증 처리가 호출되지 않는지 검증
         verify(filterChain, times(1)).doFilter(request, response);
-        verify(jwtTokenProvider, never()).getAuthentication(anyString());
+        verify(jwtTokenProvider, never()).getAuthentication(any(Claims.class));
         assertNull(SecurityContextHolder.getContext().getAuthentication(), 
                   "토큰이 없는 경우 SecurityContext에 인증 정보가 설정되지 않아야 합니다");
     }
@@ -125,14 +168,14 @@ public class JwtAuthenticationFilterTest {
         // Given: 유효하지 않은 토큰 설정
         String token = "invalid-token";
         given(jwtTokenProvider.resolveToken(request)).willReturn(token);
-        given(jwtTokenProvider.validateToken(token)).willReturn(false);
+        given(jwtTokenProvider.parseClaims(token)).willReturn(null);
 
         // When: 필터 실행
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then: 필터체인이 계속 실행되고, 인증 처리가 호출되지 않는지 검증
         verify(filterChain, times(1)).doFilter(request, response);
-        verify(jwtTokenProvider, never()).getAuthentication(anyString());
+        verify(jwtTokenProvider, never()).getAuthentication(any(Claims.class));
         assertNull(SecurityContextHolder.getContext().getAuthentication(),
                   "유효하지 않은 토큰의 경우 SecurityContext에 인증 정보가 설정되지 않아야 합니다");
     }
@@ -150,7 +193,7 @@ public class JwtAuthenticationFilterTest {
         // Given: 토큰 검증 중 예외 발생 설정
         String token = "exception-token";
         given(jwtTokenProvider.resolveToken(request)).willReturn(token);
-        given(jwtTokenProvider.validateToken(token)).willThrow(new RuntimeException("Token validation error"));
+        given(jwtTokenProvider.parseClaims(token)).willThrow(new RuntimeException("Token validation error"));
 
         // When: 필터 실행
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
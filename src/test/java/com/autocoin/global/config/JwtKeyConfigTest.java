@@ -0,0 +1,47 @@
+package com.autocoin.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtKeyConfig 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 JwtKeyConfig의 다음 기능을 검증합니다:
+ * 1. 서명 키가 없으면 local/test 프로파일에서만 임시 키 생성
+ * 2. 그 외 프로파일에서는 시작 실패
+ *
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+public class JwtKeyConfigTest {
+
+    private final JwtKeyConfig jwtKeyConfig = new JwtKeyConfig();
+
+    @Test
+    @DisplayName("local/test 프로파일에서 임시 키 생성 테스트")
+    void jwtKeyRing_NoKeysInLocalOrTest_GeneratesEphemeralKey() {
+        // Given: 서명 키 없음
+        JwtSigningProperties properties = new JwtSigningProperties();
+
+        // When & Then: local, test 프로파일에서는 임시 키 생성
+        for (String profile : new String[]{"local", "test"}) {
+            MockEnvironment environment = new MockEnvironment();
+            environment.setActiveProfiles(profile);
+            assertNotNull(jwtKeyConfig.jwtKeyRing(properties, environment).activeKey());
+        }
+    }
+
+    @Test
+    @DisplayName("운영 프로파일에서 서명 키 없으면 시작 실패 테스트")
+    void jwtKeyRing_NoKeysInOtherProfile_Fails() {
+        // Given: 서명 키 없음 + prod 프로파일
+        JwtSigningProperties properties = new JwtSigningProperties();
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        // When & Then: 임시 키 대신 예외
+        assertThrows(IllegalStateException.class, () -> jwtKeyConfig.jwtKeyRing(properties, environment));
+    }
+}
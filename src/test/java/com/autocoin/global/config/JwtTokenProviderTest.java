@@ -1,21 +1,26 @@
 package com.autocoin.global.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import com.autocoin.user.domain.Role;
+import com.autocoin.user.domain.UserPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -35,8 +42,10 @@ import static org.mockito.Mockito.when;
  * 1. JWT 토큰 생성
  * 2. 토큰에서 사용자 정보(이메일, ID) 추출
  * 3. 토큰 유효성 검증 - 유효한 토큰, 만료된 토큰, 잘못된 토큰
- * 4. 토큰으로부터 인증 정보 조회
+ * 4. 토큰으로부터 인증 정보 조회 (DB 조회 / Stateless 모드)
  * 5. HTTP 요청에서 토큰 추출
+ * 6. 키 묶음 - kid 헤더, 기존 HS256 토큰 검증, 알 수 없는 kid 거부
+ * 7. 기존 HS256 허용 시 기본 secret이면 시작 실패
  *
  * ReflectionTestUtils를 사용하여 비공개 필드를 직접 설정하고,
  * Given-When-Then 패턴을 따라 각 테스트가 작성되었습니다.
@@ -47,9 +56,10 @@ public class JwtTokenProviderTest {
     @Mock
     private UserDetailsService userDetailsService;
 
-    @InjectMocks
     private JwtTokenProvider jwtTokenProvider;
 
+    private JwtKeyRing keyRing;
+
     private String secretKey = "testSecretKeytestSecretKeytestSecretKeytestSecretKeytestSecretKeytestSecretKeytestSecretKey";
     private long tokenValidTime = 30 * 60 * 1000L; // 30분
     private Long userId = 1L;
@@ -62,7 +72,10 @@ public class JwtTokenProviderTest {
      */
     @BeforeEach
     void setUp() {
-        // Given: JwtTokenProvider의 비공개 필드를 ReflectionTestUtils를 사용하여 직접 설정
+        // Given: 임시 ES256 키 묶음으로 JwtTokenProvider를 생성하고 비공개 필드를 ReflectionTestUtils를 사용하여 직접 설정
+        keyRing = JwtKeyRing.generate();
+        jwtTokenProvider = new JwtTokenProvider(keyRing, userDetailsService);
+        ReflectionTestUtils.setField(jwtTokenProvider, "acceptLegacyHmac", true);
         ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", secretKey);
         ReflectionTestUtils.setField(jwtTokenProvider, "tokenValidTime", tokenValidTime);
         jwtTokenProvider.init(); // 키 초기화 메소드 호출
@@ -189,6 +202,29 @@ public class JwtTokenProviderTest {
         assertFalse(isValid, "잘못된 형식의 토큰은 유효하지 않아야 합니다");
     }
 
+    /**
+     * JWT 토큰 클레임 파싱 테스트
+     * 
+     * 검증 내용:
+     * - 한 번의 검증으로 필요한 모든 클레임을 얻을 수 있는지 확인
+     * - 잘못된 토큰은 예외 대신 null을 반환하는지 확인
+     */
+    @Test
+    @DisplayName("JWT 토큰 클레임 파싱 테스트")
+    void parseClaims_Success() {
+        // Given: 유효한 JWT 토큰과 잘못된 토큰
+        String token = jwtTokenProvider.createToken(userId, email, roles);
+
+        // When: 토큰을 한 번 파싱
+        Claims claims = jwtTokenProvider.parseClaims(token);
+
+        // Then: 클레임이 올바르게 추출되고, 잘못된 토큰은 null을 반환하는지 검증
+        assertNotNull(claims, "유효한 토큰의 클레임은 null이 아니어야 합니다");
+        assertEquals(email, claims.get("email", String.class));
+        assertEquals(userId, claims.get("user_id", Long.class));
+        assertNull(jwtTokenProvider.parseClaims("invalid.token.string"), "잘못된 토큰은 null을 반환해야 합니다");
+    }
+
     /**
      * JWT 토큰으로부터 인증 정보 조회 테스트
      * 
@@ -217,6 +253,32 @@ public class JwtTokenProviderTest {
         assertEquals(email, authentication.getName(), "인증 객체의 이름은 토큰의 이메일과 일치해야 합니다");
     }
 
+    /**
+     * JWT 토큰으로부터 인증 정보 조회 테스트 - Stateless 모드
+     * 
+     * 검증 내용:
+     * - 토큰 클레임만으로 UserPrincipal이 복원되는지 확인
+     * - 사용자 조회(UserDetailsService)가 호출되지 않는지 확인
+     */
+    @Test
+    @DisplayName("JWT 토큰으로부터 인증 정보 조회 테스트 - Stateless 모드")
+    void getAuthentication_Stateless() {
+        // Given: Stateless 모드와 username 클레임이 포함된 토큰
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessAuth", true);
+        String token = jwtTokenProvider.createToken(userId, email, "tester", roles);
+
+        // When: 토큰으로부터 인증 정보 조회
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+        // Then: 클레임으로 복원된 Principal인지 검증하고, DB 조회가 없었는지 확인
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertEquals(userId, principal.getId());
+        assertEquals(email, principal.getEmail());
+        assertEquals("tester", principal.getUsername());
+        assertEquals(Role.ROLE_USER, principal.getRole());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
     /**
      * HTTP 요청에서 토큰 추출 테스트
      * 
@@ -278,4 +340,97 @@ public class JwtTokenProviderTest {
         // Then: 추출된 토큰이 null인지 검증
         assertNull(resolvedToken, "Bearer 형식이 아닌 경우 null을 반환해야 합니다");
     }
+
+    /**
+     * 키 묶음 테스트 - kid 헤더
+     * 
+     * 검증 내용:
+     * - 활성 키의 kid가 헤더에 포함되고 ES256으로 서명되는지 확인
+     */
+    @Test
+    @DisplayName("키 묶음 테스트 - kid 헤더")
+    void createToken_HasKeyIdHeader() {
+        // Given & When: 토큰 생성 후 활성 키의 공개키로 직접 파싱
+        String token = jwtTokenProvider.createToken(userId, email, roles);
+        JwsHeader<?> header = Jwts.parserBuilder()
+                .setSigningKey(keyRing.activeKey().publicKey())
+                .build()
+                .parseClaimsJws(token)
+                .getHeader();
+
+        // Then: kid와 알고리즘 검증
+        assertEquals(keyRing.activeKey().kid(), header.getKeyId());
+        assertEquals(SignatureAlgorithm.ES256.getValue(), header.getAlgorithm());
+    }
+
+    /**
+     * 키 묶음 테스트 - 기존 HS256 토큰
+     * 
+     * 검증 내용:
+     * - kid가 없는 기존 HS256 토큰이 jwt.secret으로 검증되는지 확인
+     * - 기존 토큰 허용을 끄면 거부되는지 확인
+     */
+    @Test
+    @DisplayName("키 묶음 테스트 - 기존 HS256 토큰")
+    void validateToken_LegacyHmacToken() {
+        // Given: 키 묶음 도입 전 방식으로 서명된 토큰
+        Key hmacKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        String legacyToken = Jwts.builder()
+                .claim("email", email)
+                .setExpiration(new Date(System.currentTimeMillis() + tokenValidTime))
+                .signWith(hmacKey, SignatureAlgorithm.HS256)
+                .compact();
+
+        // When & Then: 허용 시 유효, 비허용 시 무효
+        assertTrue(jwtTokenProvider.validateToken(legacyToken));
+        ReflectionTestUtils.setField(jwtTokenProvider, "acceptLegacyHmac", false);
+        jwtTokenProvider.init();
+        assertFalse(jwtTokenProvider.validateToken(legacyToken));
+    }
+
+    /**
+     * 키 묶음 테스트 - 알 수 없는 kid
+     * 
+     * 검증 내용:
+     * - 키 묶음에 없는 키로 서명된 토큰이 유효하지 않다고 판단되는지 확인
+     */
+    @Test
+    @DisplayName("키 묶음 테스트 - 알 수 없는 kid")
+    void validateToken_UnknownKeyId() {
+        // Given: 다른 키 묶음으로 서명된 토큰
+        JwtTokenProvider otherProvider = new JwtTokenProvider(JwtKeyRing.generate(), userDetailsService);
+        ReflectionTestUtils.setField(otherProvider, "secretKey", secretKey);
+        ReflectionTestUtils.setField(otherProvider, "tokenValidTime", tokenValidTime);
+        otherProvider.init();
+        String foreignToken = otherProvider.createToken(userId, email, roles);
+
+        // When & Then: 유효하지 않은 토큰으로 판단
+        assertFalse(jwtTokenProvider.validateToken(foreignToken));
+        assertNull(jwtTokenProvider.parseClaims(foreignToken));
+    }
+
+    /**
+     * 기존 HS256 허용 시 secret 검사 테스트
+     * 
+     * 검증 내용:
+     * - 기존 토큰 허용이 켜져 있는데 secret이 기본값이거나 비어 있으면 초기화가 실패하는지 확인
+     * - 기존 토큰 허용이 꺼져 있으면 secret 없이도 초기화되는지 확인
+     */
+    @Test
+    @DisplayName("기존 HS256 허용 시 기본 secret이면 시작 실패 테스트")
+    void init_LegacyHmacWithDefaultSecret_Fails() {
+        // Given: 기존 토큰 허용 + 기본 secret
+        JwtTokenProvider provider = new JwtTokenProvider(keyRing, userDetailsService);
+        ReflectionTestUtils.setField(provider, "acceptLegacyHmac", true);
+        ReflectionTestUtils.setField(provider, "secretKey", JwtTokenProvider.DEFAULT_SECRET);
+
+        // When & Then: 기본 secret과 빈 secret은 거부
+        assertThrows(IllegalStateException.class, provider::init);
+        ReflectionTestUtils.setField(provider, "secretKey", "");
+        assertThrows(IllegalStateException.class, provider::init);
+
+        // When & Then: 기존 토큰 허용을 끄면 secret 없이 초기화
+        ReflectionTestUtils.setField(provider, "acceptLegacyHmac", false);
+        assertDoesNotThrow(provider::init);
+    }
 }
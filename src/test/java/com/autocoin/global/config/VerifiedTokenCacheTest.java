@@ -0,0 +1,80 @@
+package com.autocoin.global.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * VerifiedTokenCache 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. 같은 토큰은 한 번만 검증되고 이후에는 캐시에서 반환
+ * 2. 만료된 토큰과 유효하지 않은 토큰은 캐시되지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+public class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, true, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증 테스트")
+    void verify_CachesVerifiedToken() {
+        // Given: 30분 뒤 만료되는 토큰의 Claims
+        Claims claims = Jwts.claims();
+        claims.setExpiration(new Date(System.currentTimeMillis() + 30 * 60 * 1000L));
+        given(jwtTokenProvider.parseClaims("token")).willReturn(claims);
+
+        // When: 같은 토큰으로 세 번 검증
+        verifiedTokenCache.verify("token");
+        verifiedTokenCache.verify("token");
+        Claims result = verifiedTokenCache.verify("token");
+
+        // Then: 서명 검증은 한 번만 수행되고 나머지는 캐시 적중
+        assertSame(claims, result);
+        verify(jwtTokenProvider, times(1)).parseClaims("token");
+        assertEquals(2, verifiedTokenCache.stats().hitCount());
+        assertEquals(1, verifiedTokenCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰과 유효하지 않은 토큰은 캐시하지 않음 테스트")
+    void verify_DoesNotCacheExpiredOrInvalidToken() {
+        // Given: 이미 만료 시각이 지난 Claims와 유효하지 않은 토큰
+        Claims expired = Jwts.claims();
+        expired.setExpiration(new Date(System.currentTimeMillis() - 1000L));
+        given(jwtTokenProvider.parseClaims("expired")).willReturn(expired);
+        given(jwtTokenProvider.parseClaims("invalid")).willReturn(null);
+
+        // When: 각각 두 번씩 검증
+        verifiedTokenCache.verify("expired");
+        verifiedTokenCache.verify("expired");
+        verifiedTokenCache.verify("invalid");
+        Claims result = verifiedTokenCache.verify("invalid");
+
+        // Then: 매번 JwtTokenProvider로 위임됨
+        assertNull(result);
+        verify(jwtTokenProvider, times(2)).parseClaims("expired");
+        verify(jwtTokenProvider, times(2)).parseClaims("invalid");
+    }
+}
@@ -0,0 +1,182 @@
+package com.autocoin.global.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ReplicaRoutingDataSource 클래스의 단위 테스트
+ *
+ * 주 DB와 복제본을 각각 별도의 H2 인메모리 DB로 두고, 각 DB에 자신의 이름을 저장해
+ * 어느 DB에서 조회되었는지로 라우팅 결과를 확인합니다:
+ * 1. 읽기 전용 트랜잭션의 복제본 라운드 로빈 분산
+ * 2. 쓰기 트랜잭션과 트랜잭션 밖 조회의 주 DB 사용
+ * 3. 쓰기한 사용자의 sticky-window 동안 주 DB 사용, 익명 요청은 쓰기 트랜잭션에 참여한 조회만 주 DB 사용
+ * 4. 연결 실패한 복제본의 제외와 주 DB 대체
+ * 5. least-connections 선택과 상태 점검에 의한 복구
+ */
+public class ReplicaRoutingDataSourceTest {
+
+    private static final String WHO_AM_I = "SELECT name FROM whoami";
+
+    private final AtomicReference<Object> currentUser = new AtomicReference<>();
+
+    private ReplicaDataSource replica1;
+    private ReplicaDataSource replica2;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        replica1 = new ReplicaDataSource("replica-1", database("replica-1"), 1);
+        replica2 = new ReplicaDataSource("replica-2", database("replica-2"), 1);
+        route(primary, new ReplicaPool(List.of(replica1, replica2), ReplicaPool.Strategy.ROUND_ROBIN));
+        currentUser.set(null);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 복제본 분산 테스트")
+    void readOnlyTransaction_RoundRobinAcrossReplicas() {
+        // When: 읽기 전용 트랜잭션을 4번 실행
+        List<String> servedBy = List.of(readOnly(), readOnly(), readOnly(), readOnly());
+
+        // Then: 복제본에서 번갈아 처리되는지 검증
+        assertEquals(List.of("replica-1", "replica-2", "replica-1", "replica-2"), servedBy);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖 조회는 주 DB 사용 테스트")
+    void readWriteAndNonTransactional_UsePrimary() {
+        // When & Then: 읽기 전용이 아닌 경우 항상 주 DB에서 처리되는지 검증
+        assertEquals("primary", readWriteTx.execute(status -> jdbcTemplate.queryForObject(WHO_AM_I, String.class)));
+        assertEquals("primary", jdbcTemplate.queryForObject(WHO_AM_I, String.class));
+    }
+
+    @Test
+    @DisplayName("쓰기 후 sticky-window 동안 주 DB 사용 테스트")
+    void afterWrite_SameUserReadsFromPrimary() {
+        // Given: 사용자 1이 쓰기 트랜잭션 실행
+        currentUser.set(1L);
+        readWriteTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE whoami SET name = name"));
+
+        // When: 같은 사용자와 다른 사용자가 읽기 전용 트랜잭션 실행
+        String sameUser = readOnly();
+        currentUser.set(2L);
+        String otherUser = readOnly();
+
+        // Then: 쓰기한 사용자만 주 DB에서 읽는지 검증
+        assertEquals("primary", sameUser);
+        assertTrue(otherUser.startsWith("replica"));
+    }
+
+    @Test
+    @DisplayName("익명 요청의 쓰기 후 확인 조회 테스트")
+    void anonymousReadAfterWrite_PrimaryOnlyInsideReadWriteTransaction() {
+        // Given: 익명 요청(회원가입 등)이 쓰기 트랜잭션 실행
+        readWriteTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE whoami SET name = name"));
+
+        // When: 읽기 전용 조회를 단독으로, 그리고 쓰기 트랜잭션에 참여시켜 실행
+        String standalone = readOnly();
+        String insideReadWrite = readWriteTx.execute(status -> readOnly());
+
+        // Then: 익명 요청은 sticky가 적용되지 않아 복제본으로 가고, 쓰기 트랜잭션에 참여한 조회만 주 DB 사용
+        assertTrue(standalone.startsWith("replica"));
+        assertEquals("primary", insideReadWrite);
+    }
+
+    @Test
+    @DisplayName("연결 실패한 복제본 제외 테스트")
+    void unavailableReplica_FallsBackAndIsSkipped() {
+        // Given: 연결할 수 없는 복제본을 첫 번째로 구성
+        ReplicaDataSource broken = new ReplicaDataSource("broken",
+                new DriverManagerDataSource("jdbc:missing:replica"), 1);
+        route(database("primary"), new ReplicaPool(List.of(broken, replica1), ReplicaPool.Strategy.ROUND_ROBIN));
+
+        // When: 읽기 전용 트랜잭션 실행
+        String first = readOnly();
+        String second = readOnly();
+        String third = readOnly();
+
+        // Then: 첫 요청은 주 DB로 대체되고, 이후에는 정상 복제본만 사용하는지 검증
+        assertEquals("primary", first);
+        assertFalse(broken.isHealthy());
+        assertEquals("replica-1", second);
+        assertEquals("replica-1", third);
+    }
+
+    @Test
+    @DisplayName("least-connections 선택 테스트")
+    void leastConnections_PrefersIdleReplica() throws Exception {
+        // Given: replica-1의 커넥션 하나를 사용 중인 상태
+        ReplicaPool pool = new ReplicaPool(List.of(replica1, replica2), ReplicaPool.Strategy.LEAST_CONNECTIONS);
+        try (Connection ignored = replica1.getConnection()) {
+            // When & Then: 사용 중 커넥션이 적은 replica-2가 계속 선택되는지 검증
+            assertSame(replica2, pool.select());
+            assertSame(replica2, pool.select());
+        }
+
+        // Then: 커넥션 반납 후 사용 중 개수가 0으로 돌아오는지 검증
+        assertEquals(0, replica1.getActiveConnections());
+    }
+
+    @Test
+    @DisplayName("상태 점검으로 복제본 복구 테스트")
+    void checkHealth_RestoresReplica() {
+        // Given: 일시적 장애로 제외된 복제본
+        replica1.markDown(null);
+        ReplicaPool pool = new ReplicaPool(List.of(replica1), ReplicaPool.Strategy.ROUND_ROBIN);
+        assertNull(pool.select());
+
+        // When: 상태 점검 실행
+        pool.checkHealth();
+
+        // Then: 다시 선택 대상이 되는지 검증
+        assertTrue(replica1.isHealthy());
+        assertSame(replica1, pool.select());
+    }
+
+    private void route(DataSource primary, ReplicaPool pool) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1), 100, currentUser::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, pool, tracker, new SimpleMeterRegistry()));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(transactionManager);
+    }
+
+    private String readOnly() {
+        return readOnlyTx.execute(status -> jdbcTemplate.queryForObject(WHO_AM_I, String.class));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS whoami (name VARCHAR(32))");
+        jdbc.update("DELETE FROM whoami");
+        jdbc.update("INSERT INTO whoami (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,56 @@
+package com.autocoin.global.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResourceVersion 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 ResourceVersion의 다음 기능을 검증합니다:
+ * 1. 같은 항목과 응답 형태면 같은 ETag
+ * 2. 항목이 수정되거나 응답 형태(view, 페이지 크기 등)가 다르면 다른 ETag
+ *
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+public class ResourceVersionTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private final List<ResourceVersion> versions = List.of(
+            new ResourceVersion(2L, now, now),
+            new ResourceVersion(1L, now.minusMinutes(1), now));
+
+    @Test
+    @DisplayName("같은 항목과 응답 형태면 같은 ETag 테스트")
+    void etag_SameVersionsAndVariant_Equal() {
+        // When & Then: 같은 입력이면 같은 weak ETag
+        String etag = ResourceVersion.etag("FULL:null:20:null", versions);
+        assertEquals(etag, ResourceVersion.etag("FULL:null:20:null", List.copyOf(versions)));
+        assertTrue(etag.startsWith("W/\""));
+    }
+
+    @Test
+    @DisplayName("응답 형태가 다르면 다른 ETag 테스트")
+    void etag_DifferentVariant_Differs() {
+        // When & Then: 같은 항목이라도 view나 페이지 크기가 다르면 다른 ETag
+        String full = ResourceVersion.etag("FULL:null:20:null", versions);
+        assertNotEquals(full, ResourceVersion.etag("SUMMARY:null:20:null", versions));
+        assertNotEquals(full, ResourceVersion.etag("FULL:null:10:null", versions));
+    }
+
+    @Test
+    @DisplayName("항목이 수정되면 다른 ETag 테스트")
+    void etag_UpdatedVersion_Differs() {
+        // Given: 첫 항목이 수정된 목록
+        List<ResourceVersion> updated = List.of(
+                new ResourceVersion(2L, now.plusSeconds(1), now),
+                versions.get(1));
+
+        // When & Then: 다른 ETag
+        assertNotEquals(ResourceVersion.etag(versions), ResourceVersion.etag(updated));
+    }
+}
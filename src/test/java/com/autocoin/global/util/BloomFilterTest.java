@@ -0,0 +1,52 @@
+package com.autocoin.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BloomFilter 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. 추가한 값은 항상 포함된 것으로 판단 (false negative 없음)
+ * 2. 추가하지 않은 값의 오탐률이 목표치 근처로 유지
+ */
+public class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함 테스트")
+    void mightContain_NoFalseNegatives() {
+        // Given: 10,000개의 값을 추가
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("value-" + i);
+        }
+
+        // Then: 추가한 값은 모두 포함된 것으로 판단
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bloomFilter.mightContain("value-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률 테스트")
+    void mightContain_FalsePositiveRateIsBounded() {
+        // Given: 목표 오탐률 1%로 10,000개의 값을 추가
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("value-" + i);
+        }
+
+        // When: 추가하지 않은 10,000개의 값을 조회
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then: 오탐률이 목표치의 2배(2%)를 넘지 않음
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+}
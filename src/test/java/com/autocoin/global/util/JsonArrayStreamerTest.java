@@ -0,0 +1,79 @@
+package com.autocoin.global.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonArrayStreamer 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. 전달된 항목을 순서대로 JSON 배열로 출력
+ * 2. 항목이 없을 때 빈 배열 출력
+ * 3. 출력 실패 시 항목 생성을 중단하고 IOException 전달
+ */
+public class JsonArrayStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("JSON 배열 출력 테스트")
+    void stream_WritesItemsInOrder() throws IOException {
+        // Given: 항목 3개를 전달하는 producer
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When: 스트리밍 출력
+        JsonArrayStreamer.<Map<String, Object>>stream(objectMapper, consumer -> {
+            for (int i = 1; i <= 3; i++) {
+                consumer.accept(Map.of("id", i));
+            }
+        }).writeTo(outputStream);
+
+        // Then: 순서대로 배열로 출력
+        List<?> items = objectMapper.readValue(outputStream.toByteArray(), List.class);
+        assertEquals(List.of(Map.of("id", 1), Map.of("id", 2), Map.of("id", 3)), items);
+    }
+
+    @Test
+    @DisplayName("빈 배열 출력 테스트")
+    void stream_EmptyProducer() throws IOException {
+        // Given & When: 항목을 전달하지 않는 producer
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonArrayStreamer.stream(objectMapper, consumer -> { }).writeTo(outputStream);
+
+        // Then: 빈 배열
+        assertEquals("[]", outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("출력 실패 시 중단 테스트")
+    void stream_StopsWhenClientDisconnects() {
+        // Given: 쓰기 시 예외가 발생하는 출력 스트림 (클라이언트 연결 종료)
+        OutputStream brokenStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        AtomicInteger produced = new AtomicInteger();
+
+        // When & Then: IOException이 전달되고, 남은 항목은 생성되지 않음
+        assertThrows(IOException.class, () -> JsonArrayStreamer.<String>stream(objectMapper, consumer -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                produced.incrementAndGet();
+                consumer.accept("x".repeat(1024));
+            }
+        }).writeTo(brokenStream));
+        assertTrue(produced.get() < 1_000_000);
+    }
+}
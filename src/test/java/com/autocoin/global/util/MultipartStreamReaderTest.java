@@ -0,0 +1,159 @@
+package com.autocoin.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * MultipartStreamReader 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 multipart/form-data 본문을 순차적으로 읽는 기능을 검증합니다:
+ * 1. Content-Type에서 boundary 추출
+ * 2. 여러 파트의 헤더와 본문 분리 (프리앰블 무시, 경로가 포함된 파일 이름 정리)
+ * 3. 입력이 잘게 나뉘어 도착하고 본문에 경계와 비슷한 바이트가 있을 때의 처리
+ * 4. 버퍼보다 큰 본문의 스트리밍
+ * 5. 닫는 경계 없이 끝난 본문의 오류 처리
+ */
+public class MultipartStreamReaderTest {
+
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+
+    @Test
+    @DisplayName("Content-Type에서 boundary 추출 테스트")
+    void boundaryOf() {
+        // When & Then: 따옴표 여부와 관계없이 추출되고, multipart가 아니면 null인지 검증
+        assertEquals("abc", MultipartStreamReader.boundaryOf("multipart/form-data; boundary=abc"));
+        assertEquals("a b;c", MultipartStreamReader.boundaryOf("multipart/form-data; charset=UTF-8; boundary=\"a b;c\""));
+        assertNull(MultipartStreamReader.boundaryOf("application/json"));
+        assertNull(MultipartStreamReader.boundaryOf("multipart/form-data"));
+    }
+
+    @Test
+    @DisplayName("여러 파트 헤더와 본문 분리 테스트")
+    void next_MultipleParts() throws IOException {
+        // Given: 프리앰블, 일반 필드, 파일 파트로 이루어진 본문
+        byte[] body = ("preamble\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n"
+                + "\r\n"
+                + "hello\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"C:\\\\Users\\\\me\\\\사진.png\"\r\n"
+                + "Content-Type: image/png\r\n"
+                + "\r\n"
+                + "PNGDATA\r\n"
+                + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(body), BOUNDARY);
+
+        // When: 파트를 순서대로 읽음
+        MultipartStreamReader.Part title = reader.next();
+        String titleValue = new String(title.getBody().readAllBytes(), StandardCharsets.UTF_8);
+        MultipartStreamReader.Part file = reader.next();
+        String fileValue = new String(file.getBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        // Then: 헤더와 본문이 분리되고 마지막 경계 후 null을 반환하는지 검증
+        assertEquals("title", title.getName());
+        assertNull(title.getFilename());
+        assertEquals("hello", titleValue);
+        assertEquals("file", file.getName());
+        assertEquals("사진.png", file.getFilename());
+        assertEquals("image/png", file.getContentType());
+        assertEquals("PNGDATA", fileValue);
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("잘게 나뉜 입력과 경계 유사 바이트 처리 테스트")
+    void next_TrickledInputWithBoundaryLikeContent() throws IOException {
+        // Given: 본문에 경계의 앞부분과 같은 바이트가 있고, 입력이 몇 바이트씩 도착하는 상황
+        byte[] content = ("line1\r\n--" + BOUNDARY.substring(0, 10) + "\r\n--\r\nend").getBytes(StandardCharsets.UTF_8);
+        byte[] body = multipart("file", "a.txt", content);
+        MultipartStreamReader reader = new MultipartStreamReader(new TrickleInputStream(body), BOUNDARY);
+
+        // When: 파일 파트를 읽음
+        MultipartStreamReader.Part part = reader.next();
+        byte[] read = part.getBody().readAllBytes();
+
+        // Then: 본문이 그대로 복원되는지 검증
+        assertArrayEquals(content, read);
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("버퍼보다 큰 본문 스트리밍 테스트")
+    void next_LargeBody() throws IOException {
+        // Given: 내부 버퍼(16KB)보다 훨씬 큰 임의 바이너리 본문
+        byte[] content = new byte[1024 * 1024 + 123];
+        new Random(42).nextBytes(content);
+        MultipartStreamReader reader = new MultipartStreamReader(
+                new TrickleInputStream(multipart("file", "big.bin", content)), BOUNDARY);
+
+        // When: 작은 버퍼로 나누어 읽음
+        InputStream in = reader.next().getBody();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[777];
+        int n;
+        while ((n = in.read(chunk)) >= 0) {
+            out.write(chunk, 0, n);
+        }
+
+        // Then: 본문이 손실 없이 복원되는지 검증
+        assertArrayEquals(content, out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("닫는 경계 없이 끝난 본문 오류 테스트")
+    void next_TruncatedBody() throws IOException {
+        // Given: 파일 본문 도중에 끊긴 요청
+        byte[] body = ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"a.txt\"\r\n"
+                + "\r\n"
+                + "partial content").getBytes(StandardCharsets.UTF_8);
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(body), BOUNDARY);
+        InputStream in = reader.next().getBody();
+
+        // When & Then: 본문을 끝까지 읽으면 예외가 발생하는지 검증
+        assertThrows(IOException.class, in::readAllBytes);
+    }
+
+    private static byte[] multipart(String name, String filename, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n"
+                + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(content);
+        out.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    /**
+     * 한 번에 1~7바이트씩만 반환하는 입력 (네트워크에서 조각나 도착하는 상황)
+     */
+    private static class TrickleInputStream extends FilterInputStream {
+
+        private int next = 1;
+
+        TrickleInputStream(byte[] data) {
+            super(new ByteArrayInputStream(data));
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            next = next % 7 + 1;
+            return super.read(b, off, Math.min(len, next));
+        }
+    }
+}
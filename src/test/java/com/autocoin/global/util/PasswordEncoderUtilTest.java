@@ -0,0 +1,127 @@
+package com.autocoin.global.util;
+
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * PasswordEncoderUtil 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 전용 스레드 풀에서의 해싱을 검증합니다:
+ * 1. 해싱 결과 반환과 실행/대기 시간 메트릭 기록
+ * 2. 대기열이 가득 차면 SERVICE_BUSY(Retry-After)로 거부하고 거부 횟수 기록
+ * 3. 제한 시간 안에 끝나지 않으면 SERVICE_BUSY(Retry-After)로 응답하고 시간 초과 횟수 기록
+ *
+ * PasswordEncoder는 Mock으로 대체하여 BCrypt 비용 없이 실행 시점을 제어하며,
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PasswordEncoderUtilTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordEncoderUtil passwordEncoderUtil;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (passwordEncoderUtil != null) {
+            passwordEncoderUtil.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱 결과와 메트릭 기록 테스트")
+    void encode_RecordsMetrics() {
+        // Given: 바로 끝나는 인코더
+        passwordEncoderUtil = new PasswordEncoderUtil(passwordEncoder, 1, 1, 3, 1000, meterRegistry);
+        given(passwordEncoder.encode("password")).willReturn("encoded");
+        given(passwordEncoder.matches("password", "encoded")).willReturn(true);
+
+        // When: 해싱과 검증
+        String encoded = passwordEncoderUtil.encode("password");
+        boolean matches = passwordEncoderUtil.matches("password", "encoded");
+
+        // Then: 결과가 반환되고 실행/대기 시간이 요청마다 기록되는지 검증
+        assertEquals("encoded", encoded);
+        assertTrue(matches);
+        assertEquals(2, meterRegistry.get("password.hash.duration").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash.wait").timer().count());
+        assertEquals(0, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("대기열 초과 시 거부 테스트")
+    void encode_RejectsWhenQueueIsFull() throws Exception {
+        // Given: 스레드 1개가 해싱 중이고 대기열(1칸)도 찬 상황
+        passwordEncoderUtil = new PasswordEncoderUtil(passwordEncoder, 1, 1, 3, 5000, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        given(passwordEncoder.encode(anyString())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "encoded";
+        });
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoderUtil.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoderUtil.encode("second"));
+        awaitQueueSize(1);
+
+        // When & Then: 다음 요청은 실행되지 않고 SERVICE_BUSY(Retry-After 3초)로 거부되는지 검증
+        CustomException exception = assertThrows(CustomException.class, () -> passwordEncoderUtil.encode("third"));
+        assertEquals(ErrorCode.SERVICE_BUSY, exception.getErrorCode());
+        assertEquals(3L, exception.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("password.hash.rejected").counter().count());
+        assertEquals(1, meterRegistry.get("password.hash.active").gauge().value());
+
+        // Then: 처리 중이던 요청은 정상적으로 끝나는지 검증
+        release.countDown();
+        assertEquals("encoded", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encoded", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("제한 시간 초과 테스트")
+    void encode_TimesOut() {
+        // Given: 제한 시간(50ms)보다 오래 걸리는 해싱
+        passwordEncoderUtil = new PasswordEncoderUtil(passwordEncoder, 1, 1, 3, 50, meterRegistry);
+        given(passwordEncoder.encode(anyString())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "encoded";
+        });
+
+        // When & Then: SERVICE_BUSY(Retry-After 3초)로 응답하고 시간 초과 횟수가 기록되는지 검증
+        CustomException exception = assertThrows(CustomException.class, () -> passwordEncoderUtil.encode("password"));
+        assertEquals(ErrorCode.SERVICE_BUSY, exception.getErrorCode());
+        assertEquals(3L, exception.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("password.hash.timeout").counter().count());
+        assertEquals(0, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    private void awaitQueueSize(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() != expected) {
+            if (System.nanoTime() > deadline) {
+                fail("대기열 크기가 " + expected + "이 되지 않았습니다");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
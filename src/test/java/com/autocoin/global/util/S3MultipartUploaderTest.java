@@ -0,0 +1,186 @@
+package com.autocoin.global.util;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * S3MultipartUploader 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 멀티파트 업로드 엔진의 동작을 검증합니다:
+ * 1. 여러 파트의 동시 업로드와 파트 번호 순서의 완료 요청
+ * 2. 일시적 오류(5xx)가 난 파트만 재시도
+ * 3. 재시도할 수 없는 오류 시 업로드 중단(abort)과 버퍼 반납
+ * 4. 버퍼 풀이 제한 시간 안에 비지 않으면 SERVICE_BUSY
+ */
+@ExtendWith(MockitoExtension.class)
+public class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final int CONCURRENCY = 3;
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        uploader = new S3MultipartUploader(amazonS3, DataSize.ofBytes(PART_SIZE), CONCURRENCY, 0, 3, 1, 50, 1, meterRegistry);
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        // 버퍼 풀만 검증하는 테스트는 업로드를 시작하지 않음
+        lenient().when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 파트 동시 업로드 테스트")
+    void upload_PartsInParallel() throws Exception {
+        // Given: 모든 스레드가 동시에 파트를 업로드해야 통과하는 S3 응답
+        CountDownLatch allInFlight = new CountDownLatch(CONCURRENCY);
+        given(amazonS3.uploadPart(any(UploadPartRequest.class))).willAnswer(invocation -> {
+            allInFlight.countDown();
+            assertTrue(allInFlight.await(5, TimeUnit.SECONDS), "파트가 동시에 업로드되어야 합니다");
+            return partResult(invocation.getArgument(0));
+        });
+
+        // When: 3개 파트 분량의 스트림 업로드
+        long size = upload(new byte[PART_SIZE * 3]);
+
+        // Then: 파트 번호 순서대로 완료 요청되고 버퍼가 모두 반납되는지 검증
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(captor.capture());
+        assertEquals(List.of(1, 2, 3), captor.getValue().getPartETags().stream().map(PartETag::getPartNumber).toList());
+        assertEquals(PART_SIZE * 3L, size);
+        assertBuffersReturned();
+    }
+
+    @Test
+    @DisplayName("일시적 오류 파트 재시도 테스트")
+    void upload_RetriesTransientFailure() throws Exception {
+        // Given: 2번 파트의 첫 시도만 500 오류
+        AtomicInteger part2Attempts = new AtomicInteger();
+        given(amazonS3.uploadPart(any(UploadPartRequest.class))).willAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            if (request.getPartNumber() == 2 && part2Attempts.incrementAndGet() == 1) {
+                throw serviceException(500);
+            }
+            return partResult(request);
+        });
+
+        // When: 2개 파트 업로드
+        upload(new byte[PART_SIZE + 10]);
+
+        // Then: 실패한 파트만 다시 보내고 업로드가 완료되는지 검증
+        verify(amazonS3, times(3)).uploadPart(any(UploadPartRequest.class));
+        assertEquals(2, part2Attempts.get());
+        verify(amazonS3).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(amazonS3, never()).abortMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("재시도 불가 오류 시 업로드 중단 테스트")
+    void upload_AbortsOnPermanentFailure() {
+        // Given: 모든 파트가 403 오류
+        given(amazonS3.uploadPart(any(UploadPartRequest.class))).willThrow(serviceException(403));
+
+        // When & Then: FILE_UPLOAD_ERROR 예외가 발생하고 멀티파트 업로드가 중단되는지 검증
+        CustomException exception = assertThrows(CustomException.class, () -> upload(new byte[PART_SIZE * 2]));
+        assertEquals(ErrorCode.FILE_UPLOAD_ERROR, exception.getErrorCode());
+        verify(amazonS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(amazonS3, never()).completeMultipartUpload(any());
+        assertBuffersReturned();
+    }
+
+    @Test
+    @DisplayName("버퍼 대기 시간 초과 시 SERVICE_BUSY 테스트")
+    void acquireBuffer_TimesOutWhenPoolExhausted() {
+        // Given: 다른 업로드들이 모든 파트 버퍼를 사용 중인 상황
+        List<byte[]> borrowed = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY + 2; i++) {
+            borrowed.add(uploader.acquireBuffer());
+        }
+
+        // When & Then: 기다려도 반납되지 않으면 Retry-After와 함께 SERVICE_BUSY
+        CustomException exception = assertThrows(CustomException.class, uploader::acquireBuffer);
+        assertEquals(ErrorCode.SERVICE_BUSY, exception.getErrorCode());
+        assertEquals(1L, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("file.upload.buffers.timeout").counter().count());
+
+        // Then: 반납되면 다시 빌릴 수 있음
+        borrowed.forEach(uploader::releaseBuffer);
+        uploader.releaseBuffer(uploader.acquireBuffer());
+        assertBuffersReturned();
+    }
+
+    private long upload(byte[] content) throws Exception {
+        InputStream in = new ByteArrayInputStream(content);
+        byte[] first = uploader.acquireBuffer();
+        int read = S3MultipartUploader.readPart(in, first);
+        return uploader.upload("bucket", "files/key", new ObjectMetadata(), in, first, read,
+                MessageDigest.getInstance("SHA-256"), Long.MAX_VALUE);
+    }
+
+    private void assertBuffersReturned() {
+        // 기본 버퍼 수(스레드 수 + 2)가 모두 반납되어 있어야 함
+        assertEquals(CONCURRENCY + 2, meterRegistry.get("file.upload.buffers.available").gauge().value());
+    }
+
+    private static UploadPartResult partResult(UploadPartRequest request) {
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag("etag-" + request.getPartNumber());
+        return result;
+    }
+
+    private static AmazonServiceException serviceException(int status) {
+        AmazonServiceException exception = new AmazonServiceException("status " + status);
+        exception.setStatusCode(status);
+        return exception;
+    }
+}
@@ -0,0 +1,357 @@
+package com.autocoin.global.util;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * S3Uploader 스트리밍 업로드의 단위 테스트
+ *
+ * 이 테스트 클래스는 크기를 모르는 스트림의 내용 주소 업로드를 검증합니다:
+ * 1. 파트 크기보다 작은 파일의 해시 키 단일 PUT 업로드와 콘텐츠 타입 판별
+ * 2. 같은 내용이 이미 있으면 작은 파일의 PUT 생략
+ * 3. 큰 파일의 임시 키 멀티파트 업로드 (파트 분할, 크기와 SHA-256 계산) 후 해시 키로 복사
+ * 4. 같은 내용이 이미 있으면 큰 파일의 복사 생략, 임시 객체 삭제
+ * 5. 최대 크기 초과 시 멀티파트 업로드 중단
+ * 6. 첫 조각보다 작은 파일은 파트 버퍼 풀 없이 업로드, 큰 파일은 풀이 비지 않으면 SERVICE_BUSY
+ * 7. 메모리에 읽은 파일은 파트 버퍼를 반납한 뒤 저장 여부 결정
+ * 8. 다시 읽을 수 있는 내용은 해시를 먼저 계산 - 같은 내용이면 전송 없음, 새 내용은 내용 주소 키로 바로 업로드
+ */
+@ExtendWith(MockitoExtension.class)
+public class S3UploaderTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3MultipartUploader multipartUploader;
+    private S3Uploader s3Uploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        multipartUploader = new S3MultipartUploader(amazonS3, DataSize.ofBytes(PART_SIZE), 2, 0, 3, 1, 50, 1,
+                meterRegistry);
+        s3Uploader = new S3Uploader(amazonS3, multipartUploader);
+        ReflectionTestUtils.setField(s3Uploader, "bucket", "bucket");
+        ReflectionTestUtils.setField(s3Uploader, "maxSize", DataSize.ofMegabytes(12));
+        lenient().when(amazonS3.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+                new URL("https://bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        multipartUploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("작은 파일 단일 PUT 업로드 테스트")
+    void uploadContentAddressed_SmallFile() throws Exception {
+        // Given: 파트 크기보다 작은 PNG 파일 (클라이언트 Content-Type 없음)
+        byte[] content = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 1, 2, 3};
+
+        // When: 새 내용으로 저장하도록 결정하는 업로드
+        S3Uploader.StreamedObject stored = s3Uploader.uploadContentAddressed(
+                new ByteArrayInputStream(content), null, "files", S3UploaderTest::storeNew);
+
+        // Then: 해시로 시작하는 업로드 전용 키로 PUT 한 번 업로드되고 크기, 해시, 콘텐츠 타입이 계산되는지 검증
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        assertTrue(captor.getValue().getKey().startsWith("files/" + sha256(content) + "-"));
+        assertEquals(content.length, captor.getValue().getMetadata().getContentLength());
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+        assertEquals(captor.getValue().getKey(), stored.key());
+        assertEquals(content.length, stored.size());
+        assertEquals(sha256(content), stored.sha256());
+        assertEquals("image/png", stored.contentType());
+    }
+
+    @Test
+    @DisplayName("같은 내용의 작은 파일 PUT 생략 테스트")
+    void uploadContentAddressed_SmallFileAlreadyStored() throws Exception {
+        // Given: 이미 저장된 내용과 같은 작은 파일
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+
+        // When: 기존 객체를 재사용하도록 결정하는 업로드
+        S3Uploader.StreamedObject stored = s3Uploader.uploadContentAddressed(
+                new ByteArrayInputStream(content), "text/plain", "files", (object, store) -> object);
+
+        // Then: 저장소에 쓰지 않고 해시만 계산되는지 검증
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+        assertEquals(sha256(content), stored.sha256());
+    }
+
+    @Test
+    @DisplayName("첫 조각보다 크고 파트 크기보다 작은 파일 단일 PUT 업로드 테스트")
+    void uploadContentAddressed_MediumFile() throws Exception {
+        // Given: 첫 조각(64KB)보다 크고 파트 크기보다 작은 파일
+        byte[] content = new byte[1024 * 1024 + 7];
+        new Random(3).nextBytes(content);
+
+        // When: 새 내용으로 저장하도록 결정하는 업로드
+        S3Uploader.StreamedObject stored = s3Uploader.uploadContentAddressed(
+                new ByteArrayInputStream(content), "application/x-custom", "files", S3UploaderTest::storeNew);
+
+        // Then: 첫 조각과 이어 읽은 내용 전체가 PUT 한 번으로 업로드되는지 검증
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        assertEquals(content.length, captor.getValue().getMetadata().getContentLength());
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+        assertEquals(content.length, stored.size());
+        assertEquals(sha256(content), stored.sha256());
+    }
+
+    @Test
+    @DisplayName("저장 여부 결정 전 파트 버퍼 반납 테스트")
+    void uploadContentAddressed_ReleasesBufferBeforePublish() {
+        // Given: 공유 파트 버퍼로 읽는 크기(첫 조각보다 큼)의 파일
+        byte[] content = new byte[512 * 1024];
+
+        // When: 저장 여부를 결정하는 시점의 사용 가능한 버퍼 수 확인
+        double[] available = new double[1];
+        s3Uploader.uploadContentAddressed(new ByteArrayInputStream(content), null, "files", (object, store) -> {
+            available[0] = meterRegistry.get("file.upload.buffers.available").gauge().value();
+            store.run();
+            return object;
+        });
+
+        // Then: 참조 등록(잠금 대기 가능)과 PUT 동안 풀의 버퍼를 잡고 있지 않음
+        assertEquals(4, available[0]);
+        verify(amazonS3).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("파트 버퍼 풀이 비어 있을 때 업로드 테스트")
+    void uploadContentAddressed_PoolExhausted() throws Exception {
+        // Given: 다른 업로드들이 모든 파트 버퍼(스레드 2 + 2)를 사용 중인 상황
+        List<byte[]> borrowed = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            borrowed.add(multipartUploader.acquireBuffer());
+        }
+        try {
+            // When & Then: 첫 조각보다 작은 파일은 풀을 기다리지 않고 업로드
+            byte[] small = "hello".getBytes(StandardCharsets.UTF_8);
+            S3Uploader.StreamedObject stored = s3Uploader.uploadContentAddressed(
+                    new ByteArrayInputStream(small), "text/plain", "files", S3UploaderTest::storeNew);
+            assertEquals(sha256(small), stored.sha256());
+
+            // When & Then: 그보다 큰 파일은 버퍼를 얻지 못하면 SERVICE_BUSY, 저장소에 쓰지 않음
+            CustomException exception = assertThrows(CustomException.class, () -> s3Uploader.uploadContentAddressed(
+                    new ByteArrayInputStream(new byte[1024 * 1024]), null, "files", S3UploaderTest::storeNew));
+            assertEquals(ErrorCode.SERVICE_BUSY, exception.getErrorCode());
+            verify(amazonS3, times(1)).putObject(any(PutObjectRequest.class));
+            verify(amazonS3, never()).initiateMultipartUpload(any());
+        } finally {
+            borrowed.forEach(multipartUploader::releaseBuffer);
+        }
+    }
+
+    @Test
+    @DisplayName("큰 파일 멀티파트 업로드 테스트")
+    void uploadContentAddressed_LargeFile() throws Exception {
+        // Given: 파트 크기의 2배보다 조금 큰 파일
+        byte[] content = new byte[PART_SIZE * 2 + 1000];
+        new Random(7).nextBytes(content);
+        givenMultipartUpload();
+
+        // When: 새 내용으로 저장하도록 결정하는 업로드
+        S3Uploader.StreamedObject stored = s3Uploader.uploadContentAddressed(
+                new ByteArrayInputStream(content), "application/x-custom", "files", S3UploaderTest::storeNew);
+
+        // Then: 임시 키로 3개 파트 업로드 후 해시 키로 복사하고 임시 객체를 삭제하는지 검증
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3, times(3)).uploadPart(parts.capture());
+        UploadPartRequest lastPart = parts.getAllValues().stream()
+                .filter(part -> part.getPartNumber() == 3)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1000, lastPart.getPartSize());
+        String stagingKey = lastPart.getKey();
+        assertTrue(stagingKey.startsWith("files/staging/"));
+        verify(amazonS3).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+
+        ArgumentCaptor<CopyObjectRequest> copy = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        verify(amazonS3).copyObject(copy.capture());
+        assertEquals(stagingKey, copy.getValue().getSourceKey());
+        assertTrue(copy.getValue().getDestinationKey().startsWith("files/" + sha256(content) + "-"));
+        assertEquals(copy.getValue().getDestinationKey(), stored.key());
+        ArgumentCaptor<DeleteObjectRequest> deleted = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(amazonS3).deleteObject(deleted.capture());
+        assertEquals(stagingKey, deleted.getValue().getKey());
+
+        assertEquals(content.length, stored.size());
+        assertEquals(sha256(content), stored.sha256());
+        assertEquals("application/x-custom", stored.contentType());
+    }
+
+    @Test
+    @DisplayName("같은 내용의 큰 파일 복사 생략 테스트")
+    void uploadContentAddressed_LargeFileAlreadyStored() {
+        // Given: 이미 저장된 내용과 같은 큰 파일
+        byte[] content = new byte[PART_SIZE + 10];
+        givenMultipartUpload();
+
+        // When: 기존 객체를 재사용하도록 결정하는 업로드
+        s3Uploader.uploadContentAddressed(new ByteArrayInputStream(content), null, "files", (object, store) -> object);
+
+        // Then: 해시 키로 복사하지 않고 임시 객체만 삭제하는지 검증
+        verify(amazonS3, never()).copyObject(any(CopyObjectRequest.class));
+        verify(amazonS3).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 시 업로드 중단 테스트")
+    void uploadContentAddressed_TooLarge() {
+        // Given: 최대 크기(12MB)를 넘는 파일
+        byte[] content = new byte[13 * 1024 * 1024];
+        givenMultipartUpload();
+
+        // When & Then: FILE_TOO_LARGE 예외가 발생하고 멀티파트 업로드가 중단되는지 검증
+        CustomException exception = assertThrows(CustomException.class, () -> s3Uploader.uploadContentAddressed(
+                new ByteArrayInputStream(content), null, "files", S3UploaderTest::storeNew));
+        assertEquals(ErrorCode.FILE_TOO_LARGE, exception.getErrorCode());
+        verify(amazonS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(amazonS3, never()).completeMultipartUpload(any());
+        verify(amazonS3, never()).copyObject(any(CopyObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("다시 읽을 수 있는 같은 내용의 큰 파일 전송 생략 테스트")
+    void uploadContentAddressed_Source_DuplicateSkipsTransfer() throws Exception {
+        // Given: 이미 저장된 내용과 같은 큰 파일 (임시 저장된 multipart 파일 등)
+        byte[] content = new byte[PART_SIZE * 2 + 10];
+        new Random(11).nextBytes(content);
+
+        // When: 기존 객체를 재사용하도록 결정하는 업로드
+        S3Uploader.StreamedObject stored = s3Uploader.uploadContentAddressed(
+                () -> new ByteArrayInputStream(content), null, "files", (object, store) -> object);
+
+        // Then: 해시만 계산하고 저장소에는 아무것도 보내지 않는지 검증
+        assertEquals(sha256(content), stored.sha256());
+        assertEquals(content.length, stored.size());
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+        verify(amazonS3, never()).copyObject(any(CopyObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("다시 읽을 수 있는 새 내용의 큰 파일 내용 주소 키 업로드 테스트")
+    void uploadContentAddressed_Source_NewContentUploadsToContentKey() throws Exception {
+        // Given: 새 내용의 큰 파일
+        byte[] content = new byte[PART_SIZE + 1000];
+        new Random(13).nextBytes(content);
+        givenMultipartUpload();
+
+        // When: 새 내용으로 저장하도록 결정하는 업로드
+        S3Uploader.StreamedObject stored = s3Uploader.uploadContentAddressed(
+                () -> new ByteArrayInputStream(content), "application/x-custom", "files", S3UploaderTest::storeNew);
+
+        // Then: 임시 키와 복사 없이 내용 주소 키로 바로 멀티파트 업로드되는지 검증
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3, times(2)).uploadPart(parts.capture());
+        assertTrue(parts.getAllValues().stream().allMatch(part -> part.getKey().equals(stored.key())));
+        assertTrue(stored.key().startsWith("files/" + sha256(content) + "-"));
+        verify(amazonS3).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(amazonS3, never()).copyObject(any(CopyObjectRequest.class));
+        verify(amazonS3, never()).deleteObject(any(DeleteObjectRequest.class));
+        assertEquals("application/x-custom", stored.contentType());
+    }
+
+    @Test
+    @DisplayName("다시 읽을 수 있는 새 내용의 작은 파일 단일 PUT 테스트")
+    void uploadContentAddressed_Source_SmallFile() throws Exception {
+        // Given: 새 내용의 작은 파일
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+
+        // When: 새 내용으로 저장하도록 결정하는 업로드
+        S3Uploader.StreamedObject stored = s3Uploader.uploadContentAddressed(
+                () -> new ByteArrayInputStream(content), "text/plain", "files", S3UploaderTest::storeNew);
+
+        // Then: 내용 주소 키로 PUT 한 번 업로드되는지 검증
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        assertEquals(stored.key(), captor.getValue().getKey());
+        assertEquals(content.length, captor.getValue().getMetadata().getContentLength());
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("해시 계산 후 내용이 바뀐 경우 업로드 실패 테스트")
+    void uploadContentAddressed_Source_ChangedContent() {
+        // Given: 두 번째로 열 때 다른 내용을 주는 원본
+        byte[][] contents = {"first".getBytes(StandardCharsets.UTF_8), "other".getBytes(StandardCharsets.UTF_8)};
+        int[] opened = {0};
+
+        // When & Then: FILE_UPLOAD_ERROR 예외가 발생하고 업로드한 객체를 삭제하는지 검증
+        CustomException exception = assertThrows(CustomException.class, () -> s3Uploader.uploadContentAddressed(
+                () -> new ByteArrayInputStream(contents[opened[0]++]), "text/plain", "files", S3UploaderTest::storeNew));
+        assertEquals(ErrorCode.FILE_UPLOAD_ERROR, exception.getErrorCode());
+        verify(amazonS3).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    private static S3Uploader.StreamedObject storeNew(S3Uploader.StreamedObject content, Runnable store) {
+        store.run();
+        return content;
+    }
+
+    private void givenMultipartUpload() {
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        given(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).willReturn(initiated);
+        given(amazonS3.uploadPart(any(UploadPartRequest.class))).willAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,56 @@
+package com.autocoin.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TextTokenizer 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. 영어는 소문자 단어 단위, 한 글자 단어 제외
+ * 2. 한글은 2-gram 단위, 한 글자 구간은 그대로
+ * 3. 한글과 영어/숫자가 붙어 있을 때 구간 분리
+ */
+public class TextTokenizerTest {
+
+    @Test
+    @DisplayName("영어 토큰화 테스트")
+    void tokenize_English() {
+        // When: 대소문자와 기호가 섞인 문장 토큰화
+        List<String> tokens = TextTokenizer.tokenize("Bitcoin's price, a 2024 ATH!");
+
+        // Then: 소문자 단어, 한 글자 단어(a, s) 제외, 숫자 유지
+        assertEquals(List.of("bitcoin", "price", "2024", "ath"), tokens);
+    }
+
+    @Test
+    @DisplayName("한글 토큰화 테스트")
+    void tokenize_Korean() {
+        // When: 조사가 붙은 어절과 한 글자 어절 토큰화
+        List<String> tokens = TextTokenizer.tokenize("검색엔진을 쓴 후기");
+
+        // Then: 어절별 2-gram, 한 글자 어절은 그대로
+        assertEquals(List.of("검색", "색엔", "엔진", "진을", "쓴", "후기"), tokens);
+    }
+
+    @Test
+    @DisplayName("한글/영어 혼합 토큰화 테스트")
+    void tokenize_Mixed() {
+        // When: 한글과 영어가 공백 없이 붙은 문장 토큰화
+        List<String> tokens = TextTokenizer.tokenize("BTC시세 조회");
+
+        // Then: 문자 종류가 바뀌는 위치에서 구간 분리
+        assertEquals(List.of("btc", "시세", "조회"), tokens);
+    }
+
+    @Test
+    @DisplayName("빈 문자열 토큰화 테스트")
+    void tokenize_Empty() {
+        assertTrue(TextTokenizer.tokenize(null).isEmpty());
+        assertTrue(TextTokenizer.tokenize("  !? ").isEmpty());
+    }
+}
@@ -0,0 +1,96 @@
+package com.autocoin.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenBucketRateLimiter 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. 버킷 용량만큼은 연속 요청 허용, 초과 시 거부 및 대기 시간 반환
+ * 2. 시간이 지나면 토큰이 보충됨
+ * 3. 키마다 독립적인 버킷 사용
+ * 4. 토큰을 소비하지 않는 대기 시간 확인
+ *
+ * 시간은 테스트용 시계(AtomicLong)로 직접 제어합니다.
+ */
+public class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // 용량 3, 분당 6개 보충 (10초에 1개)
+        rateLimiter = new TokenBucketRateLimiter("test", 3, 6, 100, Duration.ofMinutes(10),
+                new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    @DisplayName("버킷 용량 초과 시 거부 테스트")
+    void tryAcquire_RejectsWhenBucketIsEmpty() {
+        // When: 용량(3)만큼 연속 요청 후 한 번 더 요청
+        assertEquals(0, rateLimiter.tryAcquire("key"));
+        assertEquals(0, rateLimiter.tryAcquire("key"));
+        assertEquals(0, rateLimiter.tryAcquire("key"));
+        long waitNanos = rateLimiter.tryAcquire("key");
+
+        // Then: 네 번째 요청은 거부되고, 다음 토큰까지 10초를 기다려야 함
+        assertEquals(TimeUnit.SECONDS.toNanos(10), waitNanos);
+    }
+
+    @Test
+    @DisplayName("시간 경과 후 토큰 보충 테스트")
+    void tryAcquire_RefillsOverTime() {
+        // Given: 버킷을 모두 소진
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("key");
+        }
+        assertTrue(rateLimiter.tryAcquire("key") > 0);
+
+        // When: 10초 경과
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // Then: 토큰 1개가 보충되어 한 번만 허용
+        assertEquals(0, rateLimiter.tryAcquire("key"));
+        assertTrue(rateLimiter.tryAcquire("key") > 0);
+    }
+
+    @Test
+    @DisplayName("키별 독립 버킷 테스트")
+    void tryAcquire_KeysAreIndependent() {
+        // Given: key-a의 버킷을 모두 소진
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("key-a");
+        }
+
+        // Then: key-b는 영향을 받지 않음
+        assertTrue(rateLimiter.tryAcquire("key-a") > 0);
+        assertEquals(0, rateLimiter.tryAcquire("key-b"));
+    }
+
+    @Test
+    @DisplayName("토큰 소비 없이 대기 시간 확인 테스트")
+    void waitNanos_DoesNotConsume() {
+        // Given: 처음 보는 키와 토큰 2개를 쓴 키
+        assertEquals(0, rateLimiter.waitNanos("key"));
+        rateLimiter.tryAcquire("key");
+        rateLimiter.tryAcquire("key");
+
+        // When & Then: 확인만으로는 소비되지 않아 마지막 토큰이 남아 있음
+        assertEquals(0, rateLimiter.waitNanos("key"));
+        assertEquals(0, rateLimiter.waitNanos("key"));
+        assertEquals(0, rateLimiter.tryAcquire("key"));
+
+        // Then: 모두 소비하면 tryAcquire와 같은 대기 시간
+        assertEquals(TimeUnit.SECONDS.toNanos(10), rateLimiter.waitNanos("key"));
+    }
+}
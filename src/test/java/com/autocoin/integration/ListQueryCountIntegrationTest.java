@@ -0,0 +1,246 @@
+package com.autocoin.integration;
+
+import com.autocoin.file.domain.File;
+import com.autocoin.file.domain.FileRepository;
+import com.autocoin.global.config.JwtTokenProvider;
+import com.autocoin.post.domain.Post;
+import com.autocoin.post.domain.PostRepository;
+import com.autocoin.user.domain.Role;
+import com.autocoin.user.domain.User;
+import com.autocoin.user.domain.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 API의 SQL 실행 횟수 통합 테스트
+ *
+ * 이 테스트 클래스는 목록을 직렬화할 때 작성자(user)를 항목마다 따로 조회하는
+ * N+1 쿼리가 발생하지 않는지 Hibernate Statistics로 검증합니다:
+ * 1. 전체 게시글 목록 - 작성자가 여러 명이어도 버전 조회 1회 + 목록 조회 1회
+ * 2. 내 게시글 목록 - 버전 조회 1회 + 목록 조회 1회
+ * 3. 게시글 단건 조회 - 1회
+ * 4. 내 파일 목록 - 버전 조회 1회 + 목록 조회 1회
+ * 5. ETag가 일치하는 재요청 - 버전 조회 1회만 실행하고 304 반환
+ * 6. 요약 목록(view=summary) - 본문 없이 excerpt만 반환
+ *
+ * 인증은 stateless 모드 JWT를 사용하므로 인증 과정에서는 SQL이 실행되지 않습니다.
+ * 트랜잭션은 각 테스트 완료 후 롤백됩니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class ListQueryCountIntegrationTest {
+
+    private static final int POST_COUNT = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private List<User> authors;
+    private Long firstPostId;
+    private String token;
+
+    /**
+     * 각 테스트 전에 실행되는 설정 메서드
+     * 작성자 3명과 게시글/파일을 저장한 뒤 영속성 컨텍스트를 비워,
+     * 요청 처리 중 작성자 조회가 1차 캐시가 아닌 SQL로 실행되도록 합니다.
+     */
+    @BeforeEach
+    void setUp() {
+        authors = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            authors.add(userRepository.save(User.builder()
+                    .email("querycount" + i + "@example.com")
+                    .password("encodedPassword")
+                    .username("author" + i)
+                    .role(Role.ROLE_USER)
+                    .build()));
+        }
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .title("title " + i)
+                    .content("content " + i)
+                    .user(authors.get(i % authors.size()))
+                    .build());
+            if (firstPostId == null) {
+                firstPostId = post.getId();
+            }
+        }
+        for (int i = 0; i < 3; i++) {
+            fileRepository.save(File.builder()
+                    .originalFileName("file" + i + ".txt")
+                    .storedFileName("stored" + i + ".txt")
+                    .fileUrl("https://example.com/stored" + i + ".txt")
+                    .contentType("text/plain")
+                    .fileSize(10L)
+                    .user(authors.get(0))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        User author = authors.get(0);
+        token = jwtTokenProvider.createToken(author.getId(), author.getEmail(), author.getUsername(),
+                Collections.singletonList(Role.ROLE_USER.name()));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("전체 게시글 목록 SQL 실행 횟수 테스트")
+    void getAllPosts_NoNPlusOne() throws Exception {
+        mockMvc.perform(get("/api/v1/posts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(POST_COUNT));
+
+        // 조건부 GET 검증용 버전 조회 1회 + 목록 조회 1회
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("게시글 요약 목록 테스트")
+    void getAllPosts_SummaryView() throws Exception {
+        mockMvc.perform(get("/api/v1/posts").param("view", "summary").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(POST_COUNT))
+                .andExpect(jsonPath("$.items[0].excerpt").value("content " + (POST_COUNT - 1)))
+                .andExpect(jsonPath("$.items[0].author.username").exists())
+                .andExpect(jsonPath("$.items[0].content").doesNotExist());
+
+        // 버전 조회 1회 + 요약 조회 1회
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("잘못된 view 값 테스트")
+    void getAllPosts_InvalidView() throws Exception {
+        mockMvc.perform(get("/api/v1/posts").param("view", "compact").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("내 게시글 목록 SQL 실행 횟수 테스트")
+    void getUserPosts_NoNPlusOne() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/user").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(POST_COUNT / authors.size()));
+
+        // 조건부 GET 검증용 버전 조회 1회 + 목록 조회 1회
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회 SQL 실행 횟수 테스트")
+    void getPost_SingleQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/" + firstPostId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username").value("author0"));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("내 파일 목록 SQL 실행 횟수 테스트")
+    void getUserFiles_NoNPlusOne() throws Exception {
+        mockMvc.perform(get("/api/v1/files/user").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+
+        // 조건부 GET 검증용 버전 조회 1회 + 목록 조회 1회
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조건부 GET 테스트")
+    void getAllPosts_NotModified() throws Exception {
+        // Given: 첫 요청의 ETag
+        String etag = mockMvc.perform(get("/api/v1/posts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        statistics.clear();
+
+        // When & Then: 같은 ETag로 재요청하면 버전 조회만 하고 304
+        mockMvc.perform(get("/api/v1/posts")
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("내 파일 목록 조건부 GET 테스트")
+    void getUserFiles_NotModified() throws Exception {
+        // Given: 첫 요청의 ETag
+        String etag = mockMvc.perform(get("/api/v1/files/user").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        statistics.clear();
+
+        // When & Then: 같은 ETag로 재요청하면 버전 조회만 하고 304
+        mockMvc.perform(get("/api/v1/files/user")
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("게시글 단건 Last-Modified 조건부 GET 테스트")
+    void getPost_NotModifiedSince() throws Exception {
+        // Given: 첫 요청의 Last-Modified
+        String lastModified = mockMvc.perform(get("/api/v1/posts/" + firstPostId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("Last-Modified");
+
+        // When & Then: If-Modified-Since로 재요청하면 304
+        mockMvc.perform(get("/api/v1/posts/" + firstPostId)
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-Modified-Since", lastModified))
+                .andExpect(status().isNotModified());
+    }
+}
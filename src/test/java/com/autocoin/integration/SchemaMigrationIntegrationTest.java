@@ -0,0 +1,109 @@
+package com.autocoin.integration;
+
+import com.autocoin.post.domain.Post;
+import db.migration.V5__Backfill_post_excerpt;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 스키마 마이그레이션 통합 테스트
+ *
+ * 이 테스트 클래스는 다음 내용을 검증합니다:
+ * 1. 모든 마이그레이션이 H2(MySQL 모드)에서 처음부터 적용되는지
+ * 2. 목록 조회용 인덱스가 생성되는지
+ * 3. 기존 게시글의 excerpt가 Post.excerptOf와 같은 규칙으로 채워지는지
+ * 4. 엔티티 매핑과 마이그레이션 결과 스키마의 일치 여부를 운영과 같이 검증하는지
+ *
+ * 엔티티와 스키마의 일치 여부는 test 프로파일의 ddl-auto: validate로 컨텍스트 기동 시 Hibernate가 검증하며,
+ * 불일치(컬럼 누락, 타입/길이 차이 등)가 있으면 모든 통합 테스트가 기동 단계에서 실패합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SchemaMigrationIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.jpa.hibernate.ddl-auto}")
+    private String ddlAuto;
+
+    @Test
+    @DisplayName("마이그레이션 전체 적용 테스트")
+    void migrations_AllApplied() {
+        // Then: 대기 중인 마이그레이션 없음, 검증 통과
+        MigrationInfo current = flyway.info().current();
+        assertNotNull(current);
+        assertEquals(0, flyway.info().pending().length);
+        assertDoesNotThrow(() -> flyway.validate());
+    }
+
+    @Test
+    @DisplayName("엔티티/스키마 검증 설정 테스트")
+    void schemaValidation_SameAsProduction() {
+        // Then: 컨텍스트 기동 시 운영과 같이 Hibernate 스키마 검증을 거침 (none으로 바뀌면 검증이 빠짐)
+        assertEquals("validate", ddlAuto);
+    }
+
+    @Test
+    @DisplayName("목록 조회 인덱스 생성 테스트")
+    void migrations_CreateListIndexes() {
+        // When: 생성된 인덱스 이름 조회
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes where lower(table_name) in ('posts', 'files')",
+                String.class);
+
+        // Then: 게시글/파일 목록 조회용 인덱스 존재
+        assertTrue(indexes.contains("idx_posts_created_at_id"));
+        assertTrue(indexes.contains("idx_posts_user_id_created_at_id"));
+        assertTrue(indexes.contains("idx_files_user_id_created_at_id"));
+    }
+
+    @Test
+    @DisplayName("기존 게시글 excerpt 채우기 테스트")
+    void backfillPostExcerpt_MatchesExcerptOf() throws Exception {
+        // Given: excerpt 컬럼 추가 전에 저장된 것처럼 excerpt가 없는 게시글
+        String content = "  첫 줄\n\n\t둘째   줄 " + "가".repeat(Post.EXCERPT_LENGTH);
+        jdbcTemplate.update("insert into users (email, password, username, role) values ('backfill@example.com', 'x', 'backfill', 'ROLE_USER')");
+        Long userId = jdbcTemplate.queryForObject("select id from users where email = 'backfill@example.com'", Long.class);
+        jdbcTemplate.update("insert into posts (title, content, user_id, version) values ('title', ?, ?, 0)", content, userId);
+        Long postId = jdbcTemplate.queryForObject("select id from posts where user_id = ?", Long.class, userId);
+
+        try (Connection connection = dataSource.getConnection()) {
+            Context context = mock(Context.class);
+            given(context.getConnection()).willReturn(connection);
+
+            // When: 채우기 마이그레이션 실행
+            new V5__Backfill_post_excerpt().migrate(context);
+        }
+
+        // Then: 새 게시글과 같은 규칙(공백 축약 + 말줄임표)으로 채워짐
+        String excerpt = jdbcTemplate.queryForObject("select excerpt from posts where id = ?", String.class, postId);
+        assertEquals(Post.excerptOf(content), excerpt);
+        assertTrue(excerpt.endsWith("…"));
+
+        jdbcTemplate.update("delete from posts where id = ?", postId);
+        jdbcTemplate.update("delete from users where id = ?", userId);
+    }
+}
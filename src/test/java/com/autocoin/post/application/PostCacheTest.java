@@ -0,0 +1,85 @@
+package com.autocoin.post.application;
+
+import com.autocoin.post.dto.PostResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PostCache 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. 같은 키의 동시 캐시 미스가 한 번의 로드로 합쳐지는지
+ * 2. 무효화 후 다시 로드되는지
+ */
+public class PostCacheTest {
+
+    @Test
+    @DisplayName("동시 캐시 미스 시 한 번만 로드 테스트")
+    void get_CoalescesConcurrentMisses() throws Exception {
+        // Given: 느린 loader와 동시에 조회하는 16개 스레드
+        PostCache postCache = new PostCache(100, 60, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When: 같은 키를 동시에 조회
+        List<Future<PostResponseDto>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return postCache.get(1L, id -> {
+                        loads.incrementAndGet();
+                        sleep(100);
+                        return PostResponseDto.builder().id(id).title("title").build();
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<PostResponseDto> result : results) {
+                assertEquals(1L, result.get(5, TimeUnit.SECONDS).getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then: loader는 한 번만 실행
+        assertEquals(1, loads.get());
+        assertEquals(1, postCache.stats().loadCount());
+    }
+
+    @Test
+    @DisplayName("무효화 후 재로드 테스트")
+    void evict_ReloadsOnNextGet() {
+        // Given: 캐시에 올라간 게시글
+        PostCache postCache = new PostCache(100, 60, new SimpleMeterRegistry());
+        postCache.get(1L, id -> PostResponseDto.builder().id(id).title("old").build());
+
+        // When: 무효화 후 다시 조회
+        postCache.evict(1L);
+        PostResponseDto reloaded = postCache.get(1L, id -> PostResponseDto.builder().id(id).title("new").build());
+
+        // Then: 새로 로드한 값 반환
+        assertEquals("new", reloaded.getTitle());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.autocoin.post.application;
+
+import com.autocoin.global.dto.CursorPageResponse;
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import com.autocoin.post.domain.Post;
+import com.autocoin.post.domain.PostCursor;
+import com.autocoin.post.domain.PostOwnership;
+import com.autocoin.post.domain.PostRepository;
+import com.autocoin.post.domain.PostSearchDocument;
+import com.autocoin.post.domain.PostSearchIndex;
+import com.autocoin.post.dto.PostRequestDto;
+import com.autocoin.post.dto.PostResponseDto;
+import com.autocoin.user.domain.Role;
+import com.autocoin.user.domain.User;
+import com.autocoin.user.domain.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PostService 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 PostService의 다음 기능을 검증합니다:
+ * 1. 커서 페이지 조회 - 다음 페이지 여부와 nextCursor, 페이지 크기 상한
+ * 2. 잘못된 커서 거부
+ * 3. 게시글 수정/삭제 시 검색 색인 반영, 검색 결과 수 상한
+ * 4. 단건 조회 캐시 적중과 수정 시 무효화
+ * 5. 조건부 수정/삭제 실패 시 원인 구분 (게시글 없음 / 작성자 아님 / 버전 불일치)
+ *
+ * 모든 테스트는 Mock 객체를 사용하여 외부 의존성(repository)을 격리하고,
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PostServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Spy
+    private PostCache postCache = new PostCache(100, 60, new SimpleMeterRegistry());
+
+    @InjectMocks
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(postService, "maxPageSize", 100);
+        ReflectionTestUtils.setField(postService, "maxSearchSize", 50);
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회 테스트 - 다음 페이지 있음")
+    void findPosts_HasNext() {
+        // Given: 페이지 크기 2에 대해 3개(크기 + 1)가 조회되는 상황
+        List<Post> fetched = posts(3);
+        given(postRepository.findPage(isNull(), eq(3))).willReturn(fetched);
+
+        // When: 첫 페이지 조회
+        CursorPageResponse<Post> page = postService.findPosts(null, 2);
+
+        // Then: 2개만 반환하고, 마지막 항목 위치를 가리키는 커서 반환
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        PostCursor cursor = PostCursor.decode(page.getNextCursor());
+        assertEquals(fetched.get(1).getId(), cursor.id());
+        assertEquals(fetched.get(1).getCreatedAt(), cursor.createdAt());
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회 테스트 - 마지막 페이지")
+    void findPosts_LastPage() {
+        // Given: 커서 이후 남은 게시글이 1개인 상황
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2024, 5, 1, 10, 0), 10L);
+        given(postRepository.findPage(eq(cursor), eq(21))).willReturn(posts(1));
+
+        // When: 크기를 지정하지 않고 다음 페이지 조회
+        CursorPageResponse<Post> page = postService.findPosts(cursor.encode(), null);
+
+        // Then: 다음 페이지 없음
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회 테스트 - 페이지 크기 상한")
+    void findPostsByUser_CapsPageSize() {
+        // Given: 상한(100)보다 큰 크기 요청
+        given(postRepository.findPageByUserId(eq(1L), isNull(), eq(101))).willReturn(posts(0));
+
+        // When: 페이지 조회
+        postService.findPostsByUser(1L, null, 10_000);
+
+        // Then: 상한 + 1개만 조회
+        verify(postRepository).findPageByUserId(eq(1L), isNull(), eq(101));
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회 테스트 - 잘못된 커서")
+    void findPosts_InvalidCursor() {
+        // When & Then: 해석할 수 없는 커서는 INVALID_INPUT_VALUE 예외
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.findPosts("not-a-cursor", 20));
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("단건 조회 캐시 테스트")
+    void getPost_CachesResult() {
+        // Given: DB에 있는 게시글
+        Post post = Post.builder().id(10L).title("title").content("content").user(owner()).build();
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+
+        // When: 같은 게시글을 두 번 조회
+        PostResponseDto first = postService.getPost(10L);
+        PostResponseDto second = postService.getPost(10L);
+
+        // Then: DB 조회는 한 번만 실행
+        assertSame(first, second);
+        verify(postRepository, times(1)).findById(10L);
+        assertEquals(1, postCache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("없는 게시글 조회 테스트 - 캐시하지 않음")
+    void getPost_NotFound_NotCached() {
+        // Given: DB에 없는 게시글
+        given(postRepository.findById(10L)).willReturn(Optional.empty());
+
+        // When & Then: 조회할 때마다 POST_NOT_FOUND 예외, 매번 DB 조회
+        for (int i = 0; i < 2; i++) {
+            CustomException exception = assertThrows(CustomException.class, () -> postService.getPost(10L));
+            assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+        }
+        verify(postRepository, times(2)).findById(10L);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 시 캐시 무효화 테스트")
+    void updatePost_EvictsCache() {
+        // Given: 캐시에 올라간 게시글
+        Post before = Post.builder().id(10L).title("old").content("old content").user(owner()).build();
+        Post after = Post.builder().id(10L).title("new title").content("new content").user(owner()).build();
+        given(postRepository.findById(10L)).willReturn(Optional.of(before), Optional.of(after));
+        given(postRepository.updateIfOwner(10L, 1L, null, "new title", "new content")).willReturn(1);
+        postService.getPost(10L);
+
+        // When: 게시글 수정 후 다시 조회
+        postService.updatePost(10L, new PostRequestDto("new title", "new content"), 1L);
+        PostResponseDto afterUpdate = postService.getPost(10L);
+
+        // Then: 수정된 내용을 반환
+        assertEquals("new title", afterUpdate.getTitle());
+    }
+
+    @Test
+    @DisplayName("게시글 수정 시 검색 색인 갱신 테스트")
+    void updatePost_ReindexesPost() {
+        // Given: 작성자 본인의 게시글 수정이 1건 반영되는 상황
+        Post updated = Post.builder().id(10L).title("new title").content("new content").user(owner()).build();
+        given(postRepository.updateIfOwner(10L, 1L, 3L, "new title", "new content")).willReturn(1);
+        given(postRepository.findById(10L)).willReturn(Optional.of(updated));
+
+        // When: 버전을 포함하여 게시글 수정 (트랜잭션 밖이므로 색인 반영은 즉시 실행)
+        Post result = postService.updatePost(10L, new PostRequestDto("new title", "new content", 3L), 1L);
+
+        // Then: 수정된 내용으로 다시 색인, 실패 원인 조회는 하지 않음
+        assertSame(updated, result);
+        verify(postSearchIndex).index(new PostSearchDocument(10L, "new title", "new content", 1L, "owner", null));
+        verify(postRepository, never()).findOwnership(any());
+    }
+
+    @Test
+    @DisplayName("게시글 수정 실패 원인 테스트 - 게시글 없음")
+    void updatePost_NotFound() {
+        // Given: 수정된 행이 없고 게시글도 없는 상황
+        given(postRepository.updateIfOwner(10L, 1L, null, "title", "content")).willReturn(0);
+        given(postRepository.findOwnership(10L)).willReturn(Optional.empty());
+
+        // When & Then: POST_NOT_FOUND 예외
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.updatePost(10L, new PostRequestDto("title", "content"), 1L));
+        assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("게시글 수정 실패 원인 테스트 - 버전 불일치")
+    void updatePost_VersionConflict() {
+        // Given: 본인 게시글이지만 그 사이 다른 수정으로 버전이 올라간 상황
+        given(postRepository.updateIfOwner(10L, 1L, 3L, "title", "content")).willReturn(0);
+        given(postRepository.findOwnership(10L)).willReturn(Optional.of(new PostOwnership(1L, 4L)));
+
+        // When & Then: POST_VERSION_CONFLICT 예외, 캐시/색인 변경 없음
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.updatePost(10L, new PostRequestDto("title", "content", 3L), 1L));
+        assertEquals(ErrorCode.POST_VERSION_CONFLICT, exception.getErrorCode());
+        verify(postSearchIndex, never()).index(any());
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 테스트")
+    void deletePost_RemovesFromIndex() {
+        // Given: 삭제가 1건 반영되는 상황
+        given(postRepository.deleteIfOwner(10L, 1L)).willReturn(1);
+
+        // When: 게시글 삭제
+        postService.deletePost(10L, 1L);
+
+        // Then: 게시글 조회 없이 색인에서 제거
+        verify(postSearchIndex).remove(10L);
+        verify(postRepository, never()).findById(any());
+        verify(postRepository, never()).findOwnership(any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 게시글 삭제 시 색인 유지 테스트")
+    void deletePost_NotOwner_KeepsIndex() {
+        // Given: 다른 사용자의 게시글
+        given(postRepository.deleteIfOwner(10L, 2L)).willReturn(0);
+        given(postRepository.findOwnership(10L)).willReturn(Optional.of(new PostOwnership(1L, 0L)));
+
+        // When & Then: 권한 없음 예외, 색인에서 제거하지 않음
+        CustomException exception = assertThrows(CustomException.class, () -> postService.deletePost(10L, 2L));
+        assertEquals(ErrorCode.NOT_POST_OWNER, exception.getErrorCode());
+        verify(postSearchIndex, never()).remove(any());
+    }
+
+    @Test
+    @DisplayName("게시글 검색 테스트 - 결과 수 상한")
+    void searchPosts_CapsLimit() {
+        // Given: 상한(50)보다 큰 결과 수 요청
+        given(postSearchIndex.search(anyString(), anyInt())).willReturn(List.of());
+
+        // When: 검색
+        postService.searchPosts("bitcoin", 1_000);
+
+        // Then: 상한만큼만 요청
+        verify(postSearchIndex).search("bitcoin", 50);
+    }
+
+    private User owner() {
+        return User.builder().id(1L).email("owner@example.com").username("owner").role(Role.ROLE_USER).build();
+    }
+
+    private List<Post> posts(int count) {
+        List<Post> posts = new ArrayList<>();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        for (int i = 0; i < count; i++) {
+            posts.add(Post.builder()
+                    .id(100L - i)
+                    .title("title " + i)
+                    .content("content " + i)
+                    .createdAt(createdAt.minusMinutes(i))
+                    .build());
+        }
+        return posts;
+    }
+}
@@ -0,0 +1,181 @@
+package com.autocoin.post.infrastructure;
+
+import com.autocoin.post.domain.Post;
+import com.autocoin.post.domain.PostRepository;
+import com.autocoin.post.domain.PostSearchDocument;
+import com.autocoin.post.domain.PostSearchHit;
+import com.autocoin.user.domain.Role;
+import com.autocoin.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * InMemoryPostSearchIndex 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. 질의의 모든 토큰을 포함하는 게시글만 검색 (한글/영어)
+ * 2. 제목 일치와 출현 빈도에 따른 순위
+ * 3. 수정/삭제 반영
+ * 4. 삭제 표시 정리(compaction) 이후에도 검색 결과 유지
+ * 5. 기동 시 색인 중 반영된 수정/삭제를 전체 조회 결과로 덮어쓰지 않음
+ *
+ * 기동 시 색인 테스트를 제외하면 색인은 메모리에서만 동작하므로 repository와 트랜잭션 매니저는 호출되지 않습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class InMemoryPostSearchIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryPostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryPostSearchIndex(postRepository, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("모든 토큰 포함 검색 테스트")
+    void search_MatchesAllTerms() {
+        // Given: 게시글 3개 색인
+        index.index(document(1L, "비트코인의 시세 전망", "이번 주 비트코인 가격 분석"));
+        index.index(document(2L, "이더리움 소식", "이더리움 업그레이드 일정"));
+        index.index(document(3L, "Bitcoin ETF", "bitcoin spot etf approval news"));
+
+        // When & Then: 본문에 조사가 붙은 한글 단어와 대소문자가 다른 영어 질의
+        assertEquals(List.of(1L), postIds(index.search("비트코인", 10)));
+        assertEquals(List.of(1L), postIds(index.search("시세", 10)));
+        assertEquals(List.of(3L), postIds(index.search("BITCOIN etf", 10)));
+        assertTrue(index.search("비트코인 업그레이드", 10).isEmpty());
+        assertTrue(index.search("없는단어", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("검색 순위 테스트")
+    void search_RanksTitleMatchesFirst() {
+        // Given: 제목에 검색어가 있는 게시글과 본문에만 있는 게시글
+        index.index(document(1L, "일상 이야기", "오늘은 차트를 보다가 잠들었다"));
+        index.index(document(2L, "차트 분석 방법", "이동평균선으로 보는 차트"));
+        index.index(document(3L, "잡담", "별 내용 없음"));
+
+        // When: 검색
+        List<PostSearchHit> hits = index.search("차트", 10);
+
+        // Then: 제목에 있는 게시글이 먼저, 점수 내림차순
+        assertEquals(List.of(2L, 1L), postIds(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertEquals("이동평균선으로 보는 차트", hits.get(0).excerpt());
+    }
+
+    @Test
+    @DisplayName("결과 수 제한 테스트")
+    void search_Limit() {
+        // Given: 같은 단어를 포함한 게시글 5개
+        for (long id = 1; id <= 5; id++) {
+            index.index(document(id, "market update " + id, "daily market"));
+        }
+
+        // When & Then: 최대 2개만 반환
+        assertEquals(2, index.search("market", 2).size());
+    }
+
+    @Test
+    @DisplayName("수정/삭제 반영 테스트")
+    void indexAndRemove_ReflectChanges() {
+        // Given: 게시글 색인 후 내용 수정
+        index.index(document(1L, "solana news", "old content"));
+        index.index(document(1L, "ripple news", "new content"));
+
+        // Then: 이전 내용으로는 검색되지 않고 새 내용으로 검색
+        assertTrue(index.search("solana", 10).isEmpty());
+        assertEquals(List.of(1L), postIds(index.search("ripple", 10)));
+        assertEquals(1, index.size());
+
+        // When: 삭제
+        index.remove(1L);
+
+        // Then: 검색되지 않음
+        assertTrue(index.search("ripple", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("삭제 표시 정리 후 검색 테스트")
+    void compaction_KeepsLiveDocuments() {
+        // Given: 정리 기준을 넘도록 게시글 3,000개 색인 후 2,000개 삭제
+        for (long id = 1; id <= 3000; id++) {
+            index.index(document(id, "post " + id, id % 2 == 0 ? "even bitcoin" : "odd bitcoin"));
+        }
+        for (long id = 1; id <= 2000; id++) {
+            index.remove(id);
+        }
+
+        // When: 남은 게시글 검색
+        List<PostSearchHit> hits = index.search("even bitcoin", 1000);
+
+        // Then: 남은 짝수 게시글(2002 ~ 3000)만 검색
+        assertEquals(500, hits.size());
+        assertTrue(hits.stream().allMatch(hit -> hit.postId() > 2000 && hit.postId() % 2 == 0));
+        assertEquals(1000, index.size());
+    }
+
+    @Test
+    @DisplayName("기동 시 색인과 동시에 일어난 수정/삭제 유지 테스트")
+    void buildOnStartup_KeepsChangesMadeDuringBuild() {
+        // Given: 전체 조회 도중 게시글 2 수정과 게시글 3 삭제가 커밋 후 반영되고,
+        //        조회 결과는 그 이전 스냅샷을 돌려주는 상황
+        doAnswer(invocation -> {
+            Consumer<Post> action = invocation.getArgument(0);
+            action.accept(post(1L, "bitcoin daily", "market"));
+            index.index(document(2L, "ethereum updated", "market"));
+            index.remove(3L);
+            action.accept(post(2L, "ethereum stale", "market"));
+            action.accept(post(3L, "solana deleted", "market"));
+            return null;
+        }).when(postRepository).streamAll(any());
+
+        // When: 기동 시 색인
+        index.buildOnStartup();
+
+        // Then: 수정된 내용과 삭제가 유지되고 나머지는 색인
+        assertEquals(List.of(1L), postIds(index.search("bitcoin", 10)));
+        assertEquals(List.of(2L), postIds(index.search("updated", 10)));
+        assertTrue(index.search("stale", 10).isEmpty());
+        assertTrue(index.search("solana", 10).isEmpty());
+        assertEquals(2, index.size());
+
+        // And: 색인이 끝난 뒤의 변경은 그대로 반영
+        index.index(document(3L, "solana restored", "market"));
+        assertEquals(List.of(3L), postIds(index.search("solana", 10)));
+    }
+
+    private Post post(Long postId, String title, String content) {
+        User writer = User.builder().id(1L).email("writer@example.com").username("writer").role(Role.ROLE_USER).build();
+        return Post.builder().id(postId).title(title).content(content).user(writer).build();
+    }
+
+    private PostSearchDocument document(Long postId, String title, String content) {
+        return new PostSearchDocument(postId, title, content, 1L, "writer", LocalDateTime.of(2024, 5, 1, 10, 0));
+    }
+
+    private List<Long> postIds(List<PostSearchHit> hits) {
+        return hits.stream().map(PostSearchHit::postId).toList();
+    }
+}
@@ -1,12 +1,18 @@
 package com.autocoin.user.api;
 
 import com.autocoin.global.config.JwtTokenProvider;
+import com.autocoin.user.application.RefreshTokenService;
+import com.autocoin.user.application.TokenRevocationService;
 import com.autocoin.user.application.UserService;
 import com.autocoin.user.domain.Role;
 import com.autocoin.user.domain.User;
+import com.autocoin.user.domain.UserPrincipal;
+import com.autocoin.user.dto.RefreshTokenRequestDto;
 import com.autocoin.user.dto.UserLoginRequestDto;
 import com.autocoin.user.dto.UserSignupRequestDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,7 +48,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * 이 테스트 클래스는 AuthController의 다음 API 엔드포인트를 검증합니다:
  * 1. /signup - 회원가입 API
  * 2. /login - 로그인 API
- * 3. /me - 인증된 사용자 정보 조회 API
+ * 3. /refresh - 토큰 재발급 API
+ * 4. /me - 인증된 사용자 정보 조회 API
  *
  * 각 테스트는 MockMvc를 사용하여 HTTP 요청을 시뮬레이션하고,
  * Given-When-Then 패턴을 따라 작성되었습니다.
@@ -65,6 +72,12 @@ public class AuthControllerTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
     private User testUser;
     private String testToken;
     private UserSignupRequestDto signupRequestDto;
@@ -146,8 +159,9 @@ public class AuthControllerTest {
         // Given: UserService와 JwtTokenProvider의 동작 설정
         List<String> roles = Collections.singletonList("ROLE_USER");
         when(userService.login(any(UserLoginRequestDto.class))).thenReturn(testUser);
-        when(jwtTokenProvider.createToken(any(Long.class), any(String.class), any()))
+        when(jwtTokenProvider.createToken(any(Long.class), any(String.class), any(String.class), any()))
                 .thenReturn(testToken);
+        when(refreshTokenService.issue(1L)).thenReturn("testRefreshToken");
 
         // When: /login 엔드포인트로 POST 요청 실행
         ResultActions result = mockMvc.perform(post("/api/v1/auth/login")
@@ -158,10 +172,40 @@ public class AuthControllerTest {
         result.andDo(print()) // 디버깅을 위한 응답 출력
                 .andExpect(status().isOk()) // 200 OK 상태 코드 기대
                 .andExpect(jsonPath("$.token").value(testToken)) // 토큰 검증
+                .andExpect(jsonPath("$.refreshToken").value("testRefreshToken")) // 리프레시 토큰 검증
                 .andExpect(jsonPath("$.user.email").value("test@example.com")) // 사용자 이메일 검증
                 .andExpect(jsonPath("$.user.username").value("testuser")); // 사용자 이름 검증
     }
 
+    /**
+     * 토큰 재발급 API 테스트
+     * 
+     * 검증 내용:
+     * - /refresh 엔드포인트가 유효한 리프레시 토큰에 대해 200 OK 상태 코드를 반환하는지 확인
+     * - 응답 본문에 새 액세스 토큰과 회전된 리프레시 토큰이 포함되어 있는지 확인
+     */
+    @Test
+    @DisplayName("토큰 재발급 API 테스트")
+    public void testRefresh() throws Exception {
+        // Given: 리프레시 토큰 회전과 액세스 토큰 발급 동작 설정
+        when(refreshTokenService.rotate("oldRefreshToken"))
+                .thenReturn(new RefreshTokenService.Rotation(1L, "newRefreshToken"));
+        when(userService.findUserById(1L)).thenReturn(testUser);
+        when(jwtTokenProvider.createToken(any(Long.class), any(String.class), any(String.class), any()))
+                .thenReturn(testToken);
+
+        // When: /refresh 엔드포인트로 POST 요청 실행
+        ResultActions result = mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequestDto("oldRefreshToken"))));
+
+        // Then: 응답 상태 및 내용 검증
+        result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value(testToken))
+                .andExpect(jsonPath("$.refreshToken").value("newRefreshToken"));
+    }
+
     /**
      * 내 정보 조회 API 테스트
      * 
@@ -174,7 +218,7 @@ public class AuthControllerTest {
     public void testGetMe() throws Exception {
         // Given: Security Context에 인증 정보 설정
         Authentication auth = new UsernamePasswordAuthenticationToken(
-                testUser,
+                UserPrincipal.from(testUser),
                 null,
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
         );
@@ -182,8 +226,10 @@ public class AuthControllerTest {
 
         // JWT 토큰 관련 동작 설정
         when(jwtTokenProvider.resolveToken(any())).thenReturn(testToken);
-        when(jwtTokenProvider.validateToken(testToken)).thenReturn(true);
-        when(jwtTokenProvider.getAuthentication(testToken)).thenReturn(auth);
+        Claims claims = Jwts.claims();
+        when(jwtTokenProvider.parseClaims(testToken)).thenReturn(claims);
+        when(jwtTokenProvider.getAuthentication(claims)).thenReturn(auth);
+        when(userService.findUserById(1L)).thenReturn(testUser);
 
         // When: /me 엔드포인트로 GET 요청 실행 (Authorization 헤더에 토큰 포함)
         ResultActions result = mockMvc.perform(get("/api/v1/auth/me")
@@ -227,7 +273,7 @@ public class AuthControllerTest {
     public void testGetMe_InvalidToken() throws Exception {
         // Given: 유효하지 않은 토큰 설정
         when(jwtTokenProvider.resolveToken(any())).thenReturn(testToken);
-        when(jwtTokenProvider.validateToken(testToken)).thenReturn(false);
+        when(jwtTokenProvider.parseClaims(testToken)).thenReturn(null);
 
         // When: /me 엔드포인트로 GET 요청 실행 (유효하지 않은 토큰 포함)
         ResultActions result = mockMvc.perform(get("/api/v1/auth/me")
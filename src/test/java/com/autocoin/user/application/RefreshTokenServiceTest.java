@@ -0,0 +1,150 @@
+package com.autocoin.user.application;
+
+import com.autocoin.global.exception.CustomException;
+import com.autocoin.global.exception.ErrorCode;
+import com.autocoin.user.domain.RefreshToken;
+import com.autocoin.user.domain.RefreshTokenRepository;
+import com.autocoin.user.domain.User;
+import com.autocoin.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * RefreshTokenService 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 RefreshTokenService의 다음 기능을 검증합니다:
+ * 1. 발급 - 원문이 아닌 해시만 저장
+ * 2. 회전 - 기존 토큰을 폐기하고 같은 계열의 새 토큰 발급
+ * 3. 재사용 감지 - 이미 사용된 토큰 제출 시 계열 전체 폐기
+ * 4. 만료되었거나 없는 토큰 거부
+ *
+ * 모든 테스트는 Mock 객체를 사용하여 외부 의존성(repository)을 격리하고,
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenService refreshTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, userRepository, 1209600000L);
+        user = User.builder().id(1L).email("test@example.com").build();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 발급 테스트")
+    void issue_StoresHashOnly() {
+        // Given: 사용자 참조 설정
+        given(userRepository.getReferenceById(1L)).willReturn(user);
+
+        // When: 리프레시 토큰 발급
+        String rawToken = refreshTokenService.issue(1L);
+
+        // Then: 원문이 아닌 64자리 해시가 저장되는지 검증
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken saved = captor.getValue();
+        assertNotEquals(rawToken, saved.getTokenHash());
+        assertEquals(64, saved.getTokenHash().length());
+        assertNotNull(saved.getFamilyId());
+        assertTrue(saved.getExpiresAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 회전 성공 테스트")
+    void rotate_Success() {
+        // Given: 유효한 리프레시 토큰 설정
+        RefreshToken refreshToken = refreshToken(null, LocalDateTime.now().plusDays(1));
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.revokeIfActive(eq(10L), any(LocalDateTime.class))).willReturn(1);
+        given(userRepository.getReferenceById(1L)).willReturn(user);
+
+        // When: 회전 실행
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("old-token");
+
+        // Then: 같은 계열의 새 토큰이 저장되는지 검증
+        assertEquals(1L, rotation.userId());
+        assertNotEquals("old-token", rotation.refreshToken());
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertEquals("family-1", captor.getValue().getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 재사용 감지 테스트")
+    void rotate_ReuseRevokesFamily() {
+        // Given: 이미 사용(폐기)된 리프레시 토큰 설정
+        RefreshToken refreshToken = refreshToken(LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusDays(1));
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.of(refreshToken));
+
+        // When & Then: 예외가 발생하고 계열 전체가 폐기되는지 검증
+        CustomException exception = assertThrows(CustomException.class,
+                () -> refreshTokenService.rotate("reused-token"));
+        assertEquals(ErrorCode.INVALID_REFRESH_TOKEN, exception.getErrorCode());
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any(LocalDateTime.class));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("동시 회전 시 한 요청만 성공 테스트")
+    void rotate_ConcurrentUseIsTreatedAsReuse() {
+        // Given: 조회 시점에는 유효했지만 다른 요청이 먼저 회전한 토큰 설정
+        RefreshToken refreshToken = refreshToken(null, LocalDateTime.now().plusDays(1));
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.revokeIfActive(eq(10L), any(LocalDateTime.class))).willReturn(0);
+
+        // When & Then: 재사용으로 처리되는지 검증
+        assertThrows(CustomException.class, () -> refreshTokenService.rotate("raced-token"));
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("만료되었거나 없는 리프레시 토큰 거부 테스트")
+    void rotate_ExpiredOrUnknown() {
+        // Given: 만료된 토큰과 존재하지 않는 토큰 설정
+        RefreshToken expired = refreshToken(null, LocalDateTime.now().minusSeconds(1));
+        given(refreshTokenRepository.findByTokenHash(anyString()))
+                .willReturn(Optional.of(expired))
+                .willReturn(Optional.empty());
+
+        // When & Then: 두 경우 모두 예외가 발생하는지 검증
+        assertThrows(CustomException.class, () -> refreshTokenService.rotate("expired-token"));
+        assertThrows(CustomException.class, () -> refreshTokenService.rotate("unknown-token"));
+        verify(refreshTokenRepository, never()).revokeIfActive(any(), any());
+    }
+
+    private RefreshToken refreshToken(LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .id(10L)
+                .tokenHash("hash")
+                .familyId("family-1")
+                .user(user)
+                .expiresAt(expiresAt)
+                .revokedAt(revokedAt)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.autocoin.user.application;
+
+import com.autocoin.user.domain.RevokedAccessToken;
+import com.autocoin.user.domain.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * TokenRevocationService 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 TokenRevocationService의 다음 기능을 검증합니다:
+ * 1. 폐기 - 폐기 목록에 저장하고 이후 요청에서 폐기된 토큰으로 판단
+ * 2. 동시 폐기 - 다른 요청이 먼저 저장해 유니크 제약에 걸리면 이미 폐기된 것으로 처리
+ * 3. 제약 위반인데 행이 없으면 예외를 그대로 전파
+ * 4. 만료되었거나 jti가 없는 토큰은 저장하지 않음
+ *
+ * 모든 테스트는 Mock 객체를 사용하여 외부 의존성(repository)을 격리하고,
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        given(revokedAccessTokenRepository.findActiveJtis(any())).willReturn(List.of());
+        tokenRevocationService = new TokenRevocationService(revokedAccessTokenRepository, 1000, 0.01, new SimpleMeterRegistry());
+        tokenRevocationService.init();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 폐기 테스트")
+    void revoke_StoresJtiAndMarksRevoked() {
+        // Given: 아직 폐기되지 않은 토큰
+        given(revokedAccessTokenRepository.existsByJti("jti-1")).willReturn(false, true);
+
+        // When: 토큰 폐기
+        tokenRevocationService.revoke("jti-1", inOneHour());
+
+        // Then: 저장되고 이후 확인 시 폐기된 토큰으로 판단
+        verify(revokedAccessTokenRepository).save(any(RevokedAccessToken.class));
+        assertTrue(tokenRevocationService.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("동시 폐기로 유니크 제약 위반 시 이미 폐기된 것으로 처리 테스트")
+    void revoke_ConcurrentInsert_TreatedAsRevoked() {
+        // Given: 조회 후 다른 요청이 먼저 저장해 유니크 제약 위반 발생
+        given(revokedAccessTokenRepository.existsByJti("jti-1")).willReturn(false, true);
+        given(revokedAccessTokenRepository.save(any(RevokedAccessToken.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate jti"));
+
+        // When: 토큰 폐기
+        assertDoesNotThrow(() -> tokenRevocationService.revoke("jti-1", inOneHour()));
+
+        // Then: 예외 없이 폐기된 토큰으로 판단
+        assertTrue(tokenRevocationService.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("폐기 행이 없는 제약 위반은 전파 테스트")
+    void revoke_OtherIntegrityViolation_Rethrown() {
+        // Given: 제약 위반이 발생했지만 해당 jti 행은 없음
+        given(revokedAccessTokenRepository.existsByJti("jti-1")).willReturn(false);
+        given(revokedAccessTokenRepository.save(any(RevokedAccessToken.class)))
+                .willThrow(new DataIntegrityViolationException("other constraint"));
+
+        // When & Then: 예외가 그대로 전파
+        assertThrows(DataIntegrityViolationException.class,
+                () -> tokenRevocationService.revoke("jti-1", inOneHour()));
+    }
+
+    @Test
+    @DisplayName("만료되었거나 jti가 없는 토큰은 저장하지 않음 테스트")
+    void revoke_ExpiredOrMissingJti_Ignored() {
+        // When: 만료된 토큰과 jti가 없는 토큰 폐기
+        tokenRevocationService.revoke("jti-1", new Date(System.currentTimeMillis() - 1000));
+        tokenRevocationService.revoke(null, inOneHour());
+
+        // Then: 저장하지 않음
+        verify(revokedAccessTokenRepository, never()).save(any(RevokedAccessToken.class));
+        assertFalse(tokenRevocationService.isRevoked(null));
+    }
+
+    private Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3600_000L);
+    }
+}
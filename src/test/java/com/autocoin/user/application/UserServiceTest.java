@@ -15,20 +15,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * UserService 클래스의 단위 테스트
  * 
  * 이 테스트 클래스는 UserService의 다음 기능을 검증합니다:
- * 1. 회원가입 - 성공 및 이메일 중복 시 실패 케이스
- * 2. 로그인 - 성공 및 사용자 없음/비밀번호 불일치 시 실패 케이스
+ * 1. 회원가입 - 성공 및 이메일 중복(사전 확인 / 유니크 제약 위반) 시 실패 케이스, 무관한 무결성 위반 전파
+ * 2. 로그인 - 성공 및 사용자 없음/비밀번호 불일치 시 실패 케이스, 오래된 해시 재해싱
  * 3. 사용자 조회 - ID와 이메일 기준 조회 성공 및 실패 케이스
  * 
  * 모든 테스트는 Mock 객체를 사용하여 외부 의존성(repository, encoder)을 격리하고,
@@ -84,20 +89,22 @@ public class UserServiceTest {
      * 
      * 검증 내용:
      * - 이메일 중복이 없을 때 회원가입이 성공적으로 진행되는지 확인
+     * - 처음 보는 이메일이면 존재 여부 조회 없이 바로 저장하는지 확인
      * - 결과로 반환된 User 객체의 정보가 요청 DTO와 일치하는지 확인
      */
     @Test
     @DisplayName("회원가입 성공 테스트")
     void signup_Success() {
-        // Given: 이메일 중복이 없고, 비밀번호 인코딩과 사용자 저장이 성공적으로 이루어지는 상황
-        given(userRepository.existsByEmail(anyString())).willReturn(false);
+        // Given: 이메일 필터에 없는 이메일이고, 비밀번호 인코딩과 사용자 저장이 성공적으로 이루어지는 상황
+        given(userRepository.mightExistByEmail(anyString())).willReturn(false);
         given(passwordEncoderUtil.encode(anyString())).willReturn("encodedPassword");
-        given(userRepository.save(any(User.class))).willReturn(user);
+        given(userRepository.saveAndFlush(any(User.class))).willReturn(user);
 
         // When: 회원가입 메서드를 호출
         User result = userService.signup(signupRequestDto);
 
-        // Then: 반환된 사용자 정보가 예상과 일치하는지 검증
+        // Then: 반환된 사용자 정보가 예상과 일치하고, 존재 여부 조회를 하지 않았는지 검증
+        verify(userRepository, never()).existsByEmail(anyString());
         assertNotNull(result);
         assertEquals("test@example.com", result.getEmail());
         assertEquals("testuser", result.getUsername());
@@ -114,13 +121,82 @@ public class UserServiceTest {
     @Test
     @DisplayName("회원가입 실패 테스트 - 이메일 중복")
     void signup_Failure_EmailDuplication() {
-        // Given: 이미 동일한 이메일이 존재하는 상황
+        // Given: 이메일 필터에 있고 실제로 동일한 이메일이 존재하는 상황
+        given(userRepository.mightExistByEmail(anyString())).willReturn(true);
         given(userRepository.existsByEmail(anyString())).willReturn(true);
 
         // When & Then: 회원가입 메서드 호출 시 예외가 발생하고, 예외 정보가 예상과 일치하는지 검증
         CustomException exception = assertThrows(CustomException.class,
                 () -> userService.signup(signupRequestDto));
         assertEquals(ErrorCode.EMAIL_DUPLICATION, exception.getErrorCode());
+        // 중복이면 비밀번호 해싱 전에 실패
+        verify(passwordEncoderUtil, never()).encode(anyString());
+    }
+
+    /**
+     * 회원가입 실패 테스트 - 유니크 제약 위반
+     * 
+     * 검증 내용:
+     * - 사전 확인을 통과했지만 동시에 같은 이메일로 가입되어 유니크 제약을 위반한 경우
+     *   500이 아닌 EMAIL_DUPLICATION 예외로 변환되는지 확인
+     */
+    @Test
+    @DisplayName("회원가입 실패 테스트 - 유니크 제약 위반")
+    void signup_Failure_UniqueConstraintViolation() {
+        // Given: 저장 시점에 다른 요청이 먼저 같은 이메일로 가입한 상황
+        given(userRepository.mightExistByEmail(anyString())).willReturn(false);
+        given(passwordEncoderUtil.encode(anyString())).willReturn("encodedPassword");
+        given(userRepository.saveAndFlush(any(User.class)))
+                .willThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry"), "users.uk_users_email")));
+
+        // When & Then: EMAIL_DUPLICATION 예외로 변환되는지 검증
+        CustomException exception = assertThrows(CustomException.class,
+                () -> userService.signup(signupRequestDto));
+        assertEquals(ErrorCode.EMAIL_DUPLICATION, exception.getErrorCode());
+    }
+
+    /**
+     * 회원가입 실패 테스트 - 이름이 다른 이메일 유니크 제약 위반
+     * 
+     * 검증 내용:
+     * - 기존 DB처럼 제약 이름을 알 수 없어도 이메일 행이 생겼으면 EMAIL_DUPLICATION으로 변환되는지 확인
+     */
+    @Test
+    @DisplayName("회원가입 실패 테스트 - 제약 이름을 알 수 없는 이메일 중복")
+    void signup_Failure_UnknownConstraintName_EmailExists() {
+        // Given: ddl-auto가 만든 제약 이름으로 위반이 발생하고 이메일 행이 존재하는 상황
+        given(userRepository.mightExistByEmail(anyString())).willReturn(false);
+        given(passwordEncoderUtil.encode(anyString())).willReturn("encodedPassword");
+        given(userRepository.saveAndFlush(any(User.class)))
+                .willThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry"), "users.UK6dotkott2kjsp8vw4d0m25fb7")));
+        given(userRepository.existsByEmailOnPrimary(anyString())).willReturn(true);
+
+        // When & Then: EMAIL_DUPLICATION 예외로 변환되는지 검증
+        CustomException exception = assertThrows(CustomException.class,
+                () -> userService.signup(signupRequestDto));
+        assertEquals(ErrorCode.EMAIL_DUPLICATION, exception.getErrorCode());
+    }
+
+    /**
+     * 회원가입 실패 테스트 - 이메일과 무관한 무결성 위반
+     * 
+     * 검증 내용:
+     * - 이메일 유니크 제약이 아닌 위반은 EMAIL_DUPLICATION으로 숨기지 않고 그대로 전파되는지 확인
+     */
+    @Test
+    @DisplayName("회원가입 실패 테스트 - 이메일과 무관한 무결성 위반")
+    void signup_Failure_OtherIntegrityViolation_Rethrown() {
+        // Given: 다른 컬럼 제약 위반이 발생하고 이메일 행은 없는 상황
+        given(userRepository.mightExistByEmail(anyString())).willReturn(false);
+        given(passwordEncoderUtil.encode(anyString())).willReturn("encodedPassword");
+        given(userRepository.saveAndFlush(any(User.class)))
+                .willThrow(new DataIntegrityViolationException("Data too long for column 'username'"));
+        given(userRepository.existsByEmailOnPrimary(anyString())).willReturn(false);
+
+        // When & Then: 원래 예외가 그대로 전파되는지 검증
+        assertThrows(DataIntegrityViolationException.class, () -> userService.signup(signupRequestDto));
     }
 
     /**
@@ -144,6 +220,32 @@ public class UserServiceTest {
         assertNotNull(result);
         assertEquals("test@example.com", result.getEmail());
         assertEquals("testuser", result.getUsername());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    /**
+     * 로그인 성공 시 재해싱 테스트
+     * 
+     * 검증 내용:
+     * - 저장된 해시의 비용이 현재 설정과 다르면 새 해시로 저장되는지 확인
+     * - 엔티티 전체 저장이 아닌 조건부 비밀번호 갱신을 사용하는지 확인
+     */
+    @Test
+    @DisplayName("로그인 성공 시 재해싱 테스트")
+    void login_RehashesOutdatedHash() {
+        // Given: 비밀번호는 일치하지만 해시가 오래된 설정으로 만들어진 상황
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(passwordEncoderUtil.matches(anyString(), anyString())).willReturn(true);
+        given(passwordEncoderUtil.needsRehash("encodedPassword")).willReturn(true);
+        given(passwordEncoderUtil.encode("Password123!")).willReturn("{bcrypt}rehashedPassword");
+        given(userRepository.updatePasswordIfUnchanged(1L, "encodedPassword", "{bcrypt}rehashedPassword")).willReturn(true);
+
+        // When: 로그인 메서드를 호출
+        User result = userService.login(loginRequestDto);
+
+        // Then: 읽은 해시가 그대로일 때만 바꾸는 조건부 갱신으로 저장되었는지 검증
+        assertEquals("{bcrypt}rehashedPassword", result.getPassword());
+        verify(userRepository, never()).save(any(User.class));
     }
 
     /**
@@ -0,0 +1,100 @@
+package com.autocoin.user.infrastructure;
+
+import com.autocoin.user.domain.Role;
+import com.autocoin.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserCache 클래스의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. id/email 조회 시 복사본 반환
+ * 2. 이메일 인덱스가 다른 사용자를 가리킬 때 캐시 미스 처리
+ * 3. 조회 후 무효화가 있었으면 오래된 값을 저장하지 않음
+ */
+public class UserCacheTest {
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(100, 600, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("id/email 조회 시 복사본 반환 테스트")
+    void get_ReturnsCopies() {
+        // Given: 캐시에 저장된 사용자
+        User user = user(1L, "test@example.com");
+        assertTrue(userCache.putIfUnchanged(user, userCache.currentGeneration()));
+
+        // When: id와 email로 조회
+        User byId = userCache.getById(1L);
+        User byEmail = userCache.getByEmail("test@example.com");
+
+        // Then: 같은 값의 서로 다른 인스턴스가 반환되는지 검증
+        assertEquals("test@example.com", byId.getEmail());
+        assertEquals(1L, byEmail.getId());
+        assertNotSame(user, byId);
+        assertNotSame(byId, byEmail);
+    }
+
+    @Test
+    @DisplayName("이메일 인덱스 불일치 테스트")
+    void getByEmail_IndexPointsToOtherUser() {
+        // Given: 이전 이메일 인덱스가 남아 있는 상태에서 사용자 1의 이메일이 바뀌어 다시 저장된 상황
+        userCache.putIfUnchanged(user(1L, "old@example.com"), userCache.currentGeneration());
+        userCache.putIfUnchanged(user(1L, "new@example.com"), userCache.currentGeneration());
+
+        // When & Then: 이전 이메일로 조회하면 캐시 미스, 새 이메일로는 적중하는지 검증
+        assertNull(userCache.getByEmail("old@example.com"));
+        assertNull(userCache.getByEmail("old@example.com"));
+        assertEquals(1L, userCache.getByEmail("new@example.com").getId());
+    }
+
+    @Test
+    @DisplayName("무효화 이전에 읽은 값 저장 거부 테스트")
+    void putIfUnchanged_RejectsLoadOlderThanEviction() {
+        // Given: DB에서 읽기 시작한 뒤 같은 사용자가 수정되어 무효화된 상황
+        long generation = userCache.currentGeneration();
+        User staleRow = user(1L, "test@example.com");
+        userCache.evict(user(1L, "test@example.com"));
+
+        // When: 무효화 전에 읽은 값을 저장
+        boolean stored = userCache.putIfUnchanged(staleRow, generation);
+
+        // Then: 저장되지 않아 다음 조회는 DB에서 다시 읽는지 검증
+        assertFalse(stored);
+        assertNull(userCache.getById(1L));
+        assertNull(userCache.getByEmail("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("저장 후 무효화 테스트")
+    void evict_RemovesBothKeys() {
+        // Given: 캐시에 저장된 사용자
+        userCache.putIfUnchanged(user(1L, "test@example.com"), userCache.currentGeneration());
+
+        // When: id만 가진 엔티티로 무효화
+        userCache.evict(User.builder().id(1L).build());
+
+        // Then: id와 email 키 모두 제거되는지 검증
+        assertNull(userCache.getById(1L));
+        assertNull(userCache.getByEmail("test@example.com"));
+    }
+
+    private static User user(Long id, String email) {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .password("encoded")
+                .username("tester")
+                .role(Role.ROLE_USER)
+                .build();
+    }
+}
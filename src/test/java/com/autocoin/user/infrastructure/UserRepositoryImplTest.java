@@ -0,0 +1,139 @@
+package com.autocoin.user.infrastructure;
+
+import com.autocoin.user.domain.Role;
+import com.autocoin.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UserRepositoryImpl 캐시 적용의 단위 테스트
+ *
+ * 이 테스트 클래스는 다음 기능을 검증합니다:
+ * 1. 캐시 적중 시 DB 조회 생략 (id, email)
+ * 2. save/delete 시 id와 email 키 모두 무효화
+ * 3. 쓰기 트랜잭션 안에서 읽은 값은 캐시하지 않음
+ *
+ * UserJpaRepository와 UserEmailFilter는 Mock으로, UserCache는 실제 객체를 사용하며
+ * Given-When-Then 패턴을 따라 작성되었습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class UserRepositoryImplTest {
+
+    @Mock
+    private UserJpaRepository userJpaRepository;
+
+    @Mock
+    private UserEmailFilter userEmailFilter;
+
+    private UserCache userCache;
+    private UserRepositoryImpl userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(100, 600, new SimpleMeterRegistry());
+        userRepository = new UserRepositoryImpl(userJpaRepository, userCache, userEmailFilter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 DB 조회 생략 테스트")
+    void find_CacheHitSkipsRepository() {
+        // Given: DB에 있는 사용자
+        given(userJpaRepository.findById(1L)).willReturn(Optional.of(user()));
+
+        // When: id로 두 번, email로 한 번 조회
+        userRepository.findById(1L);
+        Optional<User> byId = userRepository.findById(1L);
+        Optional<User> byEmail = userRepository.findByEmail("test@example.com");
+
+        // Then: DB는 처음 한 번만 조회하는지 검증
+        assertEquals("test@example.com", byId.orElseThrow().getEmail());
+        assertEquals(1L, byEmail.orElseThrow().getId());
+        verify(userJpaRepository, times(1)).findById(1L);
+        verify(userJpaRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("저장 시 캐시 무효화 테스트")
+    void save_EvictsIdAndEmail() {
+        // Given: id/email 캐시에 올라간 사용자
+        User user = user();
+        given(userJpaRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(userJpaRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+        userRepository.findByEmail("test@example.com");
+        assertNotNull(userCache.getById(1L));
+
+        // When: 저장
+        userRepository.save(user);
+
+        // Then: id와 email 키 모두 제거되고 이메일 필터에 추가되는지 검증
+        assertNull(userCache.getById(1L));
+        assertNull(userCache.getByEmail("test@example.com"));
+        verify(userEmailFilter).add("test@example.com");
+    }
+
+    @Test
+    @DisplayName("삭제 시 캐시 무효화 테스트")
+    void delete_EvictsIdAndEmail() {
+        // Given: id/email 캐시에 올라간 사용자
+        User user = user();
+        given(userJpaRepository.findById(1L)).willReturn(Optional.of(user));
+        userRepository.findById(1L);
+        assertNotNull(userCache.getByEmail("test@example.com"));
+
+        // When: 삭제
+        userRepository.delete(user);
+
+        // Then: id와 email 키 모두 제거되는지 검증
+        assertNull(userCache.getById(1L));
+        assertNull(userCache.getByEmail("test@example.com"));
+        verify(userJpaRepository).delete(user);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서 캐시하지 않음 테스트")
+    void find_InsideWriteTransactionNotCached() {
+        // Given: 읽기 전용이 아닌 트랜잭션 안
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        given(userJpaRepository.findById(1L)).willReturn(Optional.of(user()));
+
+        // When: 두 번 조회
+        userRepository.findById(1L);
+        userRepository.findById(1L);
+
+        // Then: 매번 DB를 읽는지 검증
+        verify(userJpaRepository, times(2)).findById(1L);
+    }
+
+    private static User user() {
+        return User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("encoded")
+                .username("tester")
+                .role(Role.ROLE_USER)
+                .build();
+    }
+}